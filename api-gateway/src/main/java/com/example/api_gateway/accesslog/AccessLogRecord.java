@@ -0,0 +1,68 @@
+package com.example.api_gateway.accesslog;
+
+import lombok.Data;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * AccessLogRecord
+ * - 하나의 exchange(요청/응답)당 하나씩 만들어지는 접근 로그 레코드
+ * - 여러 필터(GlobalFilter, LoggingFilter, CustomFilter)가 같은 레코드를 공유하며 값을 채움
+ * - 실제 문자열 포맷팅과 appender 쓰기는 AccessLogWriter의 백그라운드 스레드에서 수행
+ */
+@Data
+public class AccessLogRecord {
+    // exchange attributes에 레코드를 보관할 때 사용하는 키
+    public static final String ATTRIBUTE = AccessLogRecord.class.getName();
+
+    private final long startNanos;
+    private final String requestId;
+    private final String method;
+    private final String uri;
+    private final String remoteAddress;
+
+    private String baseMessage;
+    private boolean requestLogged;  // preLogger: 요청 정보(uri, request id) 포함 여부
+    private boolean responseLogged; // postLogger: 응답 정보(status, latency) 포함 여부
+
+    // 음수이면 아직 설정되지 않은 상태 (route 설정 > default-filters 설정 순으로 적용)
+    private double sampleRate = -1;
+    private long slowThresholdMs = -1;
+
+    private String routeId;
+    private int status;
+    private long latencyMs;
+    private String error;
+
+    public static AccessLogRecord start(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        return new AccessLogRecord(System.nanoTime(), request.getId(), request.getMethod().name(),
+                request.getURI().toString(), String.valueOf(request.getRemoteAddress()));
+    }
+
+    /* default-filters(GlobalFilter) 설정: route 단위 설정이 없을 때만 적용 */
+    public void applyDefaults(String baseMessage, double sampleRate, long slowThresholdMs) {
+        if (this.baseMessage == null) this.baseMessage = baseMessage;
+        if (this.sampleRate < 0) this.sampleRate = sampleRate;
+        if (this.slowThresholdMs < 0) this.slowThresholdMs = slowThresholdMs;
+    }
+
+    /* route 단위 설정(LoggingFilter): default 설정을 덮어씀 */
+    public void applyOverrides(String baseMessage, double sampleRate, long slowThresholdMs) {
+        if (baseMessage != null) this.baseMessage = baseMessage;
+        if (sampleRate >= 0) this.sampleRate = sampleRate;
+        if (slowThresholdMs >= 0) this.slowThresholdMs = slowThresholdMs;
+    }
+
+    public void include(boolean request, boolean response) {
+        this.requestLogged |= request;
+        this.responseLogged |= response;
+    }
+
+    /* 에러(5xx, 예외)와 느린 요청은 샘플링과 관계없이 항상 기록 */
+    public boolean isMandatory() {
+        return error != null
+                || status >= 500
+                || (slowThresholdMs > 0 && latencyMs >= slowThresholdMs);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.api_gateway.accesslog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * AccessLogWriter
+ * - Gateway의 단일 접근 로그 단계
+ * - exchange당 레코드 하나를 만들고, 완료 시점에 샘플링 여부를 판단하여 링 버퍼에 넣음
+ * - 백그라운드 writer 스레드가 링 버퍼를 비우면서 실제 log.info를 호출함
+ *   (Netty event loop에서는 appender 쓰기가 일어나지 않음)
+ */
+@Component
+@Slf4j
+public class AccessLogWriter {
+    private final AccessLogRingBuffer<AccessLogRecord> buffer;
+    private final long idleParkNanos;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private long reportedDropped;
+
+    public AccessLogWriter(@Value("${gateway.access-log.buffer-size:8192}") int bufferSize,
+                           @Value("${gateway.access-log.idle-park-ms:5}") long idleParkMs) {
+        this.buffer = new AccessLogRingBuffer<>(bufferSize);
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 필터에서 호출하는 진입점
+     * - 이미 앞선 필터가 레코드를 만들었다면 설정만 덧붙이고 체인을 그대로 진행
+     * - 레코드를 처음 만든 필터(가장 바깥쪽)가 완료 시점에 레코드를 제출함
+     */
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Consumer<AccessLogRecord> customizer) {
+        AccessLogRecord existing = exchange.getAttribute(AccessLogRecord.ATTRIBUTE);
+        if (existing != null) {
+            customizer.accept(existing);
+            return chain.filter(exchange);
+        }
+
+        AccessLogRecord record = AccessLogRecord.start(exchange);
+        customizer.accept(record);
+        exchange.getAttributes().put(AccessLogRecord.ATTRIBUTE, record);
+
+        return chain.filter(exchange)
+                .doOnError(e -> record.setError(e.toString()))
+                .doFinally(signal -> complete(exchange, record));
+    }
+
+    private void complete(ServerWebExchange exchange, AccessLogRecord record) {
+        record.setLatencyMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - record.getStartNanos()));
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        record.setStatus(status != null ? status.value() : 0);
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        if (route != null) {
+            record.setRouteId(route.getId());
+        }
+
+        if (record.isMandatory() || sampled(record.getSampleRate())) {
+            buffer.offer(record);
+        }
+    }
+
+    private static boolean sampled(double sampleRate) {
+        // 샘플링 비율이 설정되지 않았다면(-1) 모두 기록
+        if (sampleRate < 0 || sampleRate >= 1.0) return true;
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            AccessLogRecord record = buffer.poll();
+            if (record == null) {
+                reportDropped();
+                LockSupport.parkNanos(idleParkNanos);
+                continue;
+            }
+            write(record);
+        }
+        // 종료 시 남아있는 레코드를 모두 기록
+        for (AccessLogRecord record = buffer.poll(); record != null; record = buffer.poll()) {
+            write(record);
+        }
+        reportDropped();
+    }
+
+    private void write(AccessLogRecord record) {
+        StringBuilder line = new StringBuilder(160);
+        if (record.getBaseMessage() != null) {
+            line.append('[').append(record.getBaseMessage()).append("] ");
+        }
+        line.append(record.getMethod()).append(' ');
+        if (record.isRequestLogged()) {
+            line.append(record.getUri()).append(" id=").append(record.getRequestId()).append(' ');
+        }
+        line.append("remote=").append(record.getRemoteAddress())
+                .append(" route=").append(record.getRouteId());
+        if (record.isResponseLogged() || record.isMandatory()) {
+            line.append(" status=").append(record.getStatus())
+                    .append(" latency=").append(record.getLatencyMs()).append("ms");
+        }
+        if (record.getError() != null) {
+            line.append(" error=").append(record.getError());
+        }
+
+        if (record.isMandatory()) {
+            log.warn(line.toString());
+        } else {
+            log.info(line.toString());
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = buffer.dropped();
+        if (dropped != reportedDropped) {
+            log.warn("Access log buffer full, dropped {} records (total {})", dropped - reportedDropped, dropped);
+            reportedDropped = dropped;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.api_gateway.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TokenVerifier
+ * - user-service가 로그인 시 발급한 토큰(JWT)의 서명과 만료 시간을 gateway에서 직접 검증
+ * - 검증에 성공한 토큰은 (userId, 만료 시각)만 남겨 캐시 -> 같은 토큰의 다음 요청은 파싱/서명 검증 없이 map 조회 한 번
+ * - 캐시 키는 토큰 문자열 전체이므로 캐시에 있다는 것은 이미 서명을 확인했다는 뜻, 만료 시각은 매번 다시 확인
+ * - 캐시가 maxEntries에 도달하면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 항목은 캐시하지 않음
+ */
+@Component
+@Slf4j
+public class TokenVerifier {
+    private final JwtParser parser;
+    private final int maxEntries;
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TokenVerifier(@Value("${token.secret}") String secret,
+                         @Value("${token.claims-cache-size:100000}") int maxEntries) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return 토큰의 subject(userId), 서명이 틀렸거나 만료되었거나 subject가 없으면 null
+     */
+    public String verify(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = cache.get(token);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                hits.increment();
+                return cached.userId();
+            }
+            cache.remove(token, cached);
+            return null;
+        }
+        misses.increment();
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid token: {}", e.getMessage());
+            return null;
+        }
+        String userId = claims.getSubject();
+        Date expiration = claims.getExpiration();
+        if (userId == null || userId.isBlank() || expiration == null) {
+            return null;
+        }
+
+        put(token, new VerifiedToken(userId, expiration.getTime()), now);
+        return userId;
+    }
+
+    private void put(String token, VerifiedToken verified, long now) {
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        cache.put(token, verified);
+    }
+
+    public int size() { return cache.size(); }
+
+    public long hits() { return hits.sum(); }
+
+    public long misses() { return misses.sum(); }
+
+    record VerifiedToken(String userId, long expiresAt) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.api_gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * BufferingResponseDecorator
+ * - upstream 응답 본문을 byte[]로 모은 뒤 handler에게 넘겨 기록 방식을 결정하게 하는 decorator
+ * - 받은 크기를 세면서 모으다가 maxBodyBytes를 넘는 순간 모은 버퍼를 먼저 보내고 나머지는 모으지 않고 그대로 흘려보냄
+ *   (Content-Length가 maxBodyBytes보다 크면 처음부터 모으지 않음), 이 경우 handler 대신 onOverflow를 호출
+ * - 따라서 응답 하나당 메모리에 보관하는 본문은 maxBodyBytes + 버퍼 하나를 넘지 않음
+ */
+public class BufferingResponseDecorator extends ServerHttpResponseDecorator {
+    private final int maxBodyBytes;
+    private final BiFunction<ServerHttpResponse, byte[], Mono<Void>> handler;
+    private final Runnable onOverflow;
+
+    public BufferingResponseDecorator(ServerHttpResponse delegate, int maxBodyBytes,
+                                      BiFunction<ServerHttpResponse, byte[], Mono<Void>> handler) {
+        this(delegate, maxBodyBytes, handler, () -> { });
+    }
+
+    public BufferingResponseDecorator(ServerHttpResponse delegate, int maxBodyBytes,
+                                      BiFunction<ServerHttpResponse, byte[], Mono<Void>> handler, Runnable onOverflow) {
+        super(delegate);
+        this.maxBodyBytes = maxBodyBytes;
+        this.handler = handler;
+        this.onOverflow = onOverflow;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (getHeaders().getContentLength() > maxBodyBytes) {
+            onOverflow.run();
+            return getDelegate().writeWith(body);
+        }
+
+        // 한도를 넘기 전까지는 하나의 목록으로 모으고, 넘은 뒤에는 받은 버퍼를 하나씩 바로 내보냄
+        long[] received = {0};
+        return Flux.<DataBuffer>from(body)
+                .bufferUntil(buffer -> (received[0] += buffer.readableByteCount()) > maxBodyBytes)
+                .switchOnFirst((first, chunks) -> {
+                    if (first.hasValue() && received[0] > maxBodyBytes) {
+                        onOverflow.run();
+                        return getDelegate().writeWith(chunks.concatMapIterable(buffers -> buffers));
+                    }
+                    // 한도 안에서 끝난 본문은 목록 하나(본문이 없으면 0개)
+                    return chunks.collectList().flatMap(lists -> {
+                        List<DataBuffer> buffers = lists.isEmpty() ? List.of() : lists.get(0);
+                        return handler.apply(getDelegate(), toBytes(buffers));
+                    });
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).flatMapSequential(p -> p));
+    }
+
+    private static byte[] toBytes(List<DataBuffer> buffers) {
+        int size = 0;
+        for (DataBuffer buffer : buffers) {
+            size += buffer.readableByteCount();
+        }
+        byte[] bytes = new byte[size];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int length = buffer.readableByteCount();
+            buffer.read(bytes, offset, length);
+            offset += length;
+            DataBufferUtils.release(buffer);
+        }
+        return bytes;
+    }
+
+    /* 모아둔 본문을 하나의 버퍼로 기록 (chunked 대신 Content-Length 사용) */
+    public static Mono<Void> writeBody(ServerHttpResponse response, byte[] body) {
+        HttpHeaders headers = response.getHeaders();
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        headers.setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.api_gateway.cache;
+
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * CachedResponse
+ * - 캐시에 저장되는 응답 스냅샷 (200 OK 응답의 본문과 최소한의 헤더만 보관)
+ * - 생성 후 변경되지 않으므로 여러 요청이 동시에 읽어도 안전함
+ * - encodings: Content-Encoding별 압축본, 처음 요청될 때 한 번만 만들어 재사용
+ */
+public record CachedResponse(byte[] body, MediaType contentType, String etag, long createdAtNanos, long expiresAtNanos,
+                             Map<String, byte[]> encodings) {
+
+    public CachedResponse(byte[] body, MediaType contentType, String etag, long createdAtNanos, long expiresAtNanos) {
+        this(body, contentType, etag, createdAtNanos, expiresAtNanos, new ConcurrentHashMap<>());
+    }
+
+    public byte[] encoded(String encoding, UnaryOperator<byte[]> encoder) {
+        return encodings.computeIfAbsent(encoding, key -> encoder.apply(body));
+    }
+
+    public boolean isExpired(long nowNanos) {
+        return nowNanos - expiresAtNanos >= 0;
+    }
+
+    public long ageSeconds(long nowNanos) {
+        return (nowNanos - createdAtNanos) / 1_000_000_000L;
+    }
+}
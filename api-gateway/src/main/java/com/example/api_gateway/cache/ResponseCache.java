@@ -0,0 +1,81 @@
+package com.example.api_gateway.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ResponseCache
+ * - route 하나에 대응하는 메모리 응답 캐시
+ * - LinkedHashMap(access-order)로 LRU 순서를 유지하고, 항목 수와 본문 총 바이트 수 두 가지 한도로 제거함
+ * - 조회/저장은 짧은 임계구역이므로 synchronized로 보호하고, 통계 카운터는 LongAdder로 경합 없이 집계
+ */
+public class ResponseCache {
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxBytes;
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ResponseCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized CachedResponse get(String key, long nowNanos) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.isExpired(nowNanos)) {
+            remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    public synchronized void put(String key, CachedResponse response) {
+        if (response.body().length > maxBytes) {
+            return;
+        }
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.body().length;
+        }
+        totalBytes += response.body().length;
+
+        // 가장 오래 사용되지 않은 항목부터 한도 이내가 될 때까지 제거
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+            Map.Entry<String, CachedResponse> entry = eldest.next();
+            if (entry.getValue() == response) {
+                continue;
+            }
+            totalBytes -= entry.getValue().body().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.body().length;
+            evictions.increment();
+        }
+    }
+
+    public void recordHit() { hits.increment(); }
+    public void recordMiss() { misses.increment(); }
+    public void recordNotModified() { notModified.increment(); }
+
+    public long hits() { return hits.sum(); }
+    public long misses() { return misses.sum(); }
+    public long notModified() { return notModified.sum(); }
+    public long evictions() { return evictions.sum(); }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long totalBytes() { return totalBytes; }
+}
@@ -0,0 +1,57 @@
+package com.example.api_gateway.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * ResponseCacheRegistry
+ * - route id별 ResponseCache를 보관
+ * - Eureka 갱신 등으로 route가 다시 만들어져도(filter apply 재호출) 캐시 내용과 메트릭이 유지되도록 함
+ * - hit/miss/304/eviction 카운터를 Micrometer(gateway.cache.*)로 노출 -> /actuator/metrics
+ */
+@Component
+public class ResponseCacheRegistry {
+    private final Map<String, ResponseCache> caches = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public ResponseCacheRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ResponseCache getOrCreate(String routeId, int maxEntries, long maxBytes) {
+        return caches.computeIfAbsent(routeId, id -> register(id, new ResponseCache(maxEntries, maxBytes)));
+    }
+
+    private ResponseCache register(String routeId, ResponseCache cache) {
+        counter("hit", routeId, cache, ResponseCache::hits);
+        counter("miss", routeId, cache, ResponseCache::misses);
+        counter("not_modified", routeId, cache, ResponseCache::notModified);
+        counter("eviction", routeId, cache, ResponseCache::evictions);
+        Gauge.builder("gateway.cache.size", cache, ResponseCache::size)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.cache.bytes", cache, ResponseCache::totalBytes)
+                .tag("route", routeId)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return cache;
+    }
+
+    private void counter(String result, String routeId, ResponseCache cache,
+                         ToDoubleFunction<ResponseCache> value) {
+        FunctionCounter.builder("gateway.cache.requests", cache, value)
+                .tag("route", routeId)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Map<String, ResponseCache> caches() {
+        return caches;
+    }
+}
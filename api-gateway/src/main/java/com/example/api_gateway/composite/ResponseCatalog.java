@@ -0,0 +1,17 @@
+package com.example.api_gateway.composite;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.Date;
+
+// catalog-service GET /catalog-service/catalogs 응답 항목
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResponseCatalog {
+    private String productId;
+    private String productName;
+    private Integer unitPrice;
+    private Integer stock;
+    private Date createdAt;
+}
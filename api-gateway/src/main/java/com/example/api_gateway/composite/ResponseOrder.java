@@ -0,0 +1,20 @@
+package com.example.api_gateway.composite;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.Date;
+
+// order-service GET /order-service/{userId}/orders 응답 항목 + productId로 연결한 상품 정보
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResponseOrder {
+    private String productId;
+    private Integer qty;
+    private Integer unitPrice;
+    private Integer totalPrice;
+    private Date createdAt;
+    private String orderId;
+
+    private ResponseCatalog catalog; // catalog-service 조회에 실패했거나 없는 상품이면 null
+}
@@ -0,0 +1,13 @@
+package com.example.api_gateway.composite;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+// user-service GET /user-service/users/{userId} 응답 중 사용자 정보
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResponseUser {
+    private String email;
+    private String name;
+    private String userId;
+}
@@ -0,0 +1,22 @@
+package com.example.api_gateway.composite;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ResponseUserOverview
+ * - 사용자 정보 + 주문 목록(상품 정보 포함)을 하나로 합친 응답
+ * - 일부 서비스 호출이 실패/timeout 되면 해당 부분은 비워두고 partial=true, failures에 원인을 기록
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResponseUserOverview {
+    private ResponseUser user;
+    private List<ResponseOrder> orders;
+    private boolean partial;
+    private Map<String, String> failures = new LinkedHashMap<>(); // leg 이름 -> 실패 원인
+}
@@ -0,0 +1,62 @@
+package com.example.api_gateway.composite;
+
+import com.example.api_gateway.auth.TokenVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserOverviewController
+ * - GET /composite/users/{userId}: 사용자 정보 + 주문 목록 + 주문 상품 정보를 한 번의 요청으로 조회
+ *   (기존에는 클라이언트가 user-service, order-service, catalog-service를 차례로 호출)
+ * - gateway route가 아닌 gateway 자체 endpoint이므로 토큰 검증을 직접 수행,
+ *   다른 사용자의 주문이 보이지 않도록 토큰의 userId와 경로의 userId가 같아야 함
+ * - 일부 서비스가 실패해도 200(partial=true), 모든 서비스가 실패하면 502 응답
+ */
+@RestController
+@RequestMapping("/composite")
+@Slf4j
+public class UserOverviewController {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final UserOverviewService overviewService;
+    private final TokenVerifier tokenVerifier;
+
+    public UserOverviewController(UserOverviewService overviewService, TokenVerifier tokenVerifier) {
+        this.overviewService = overviewService;
+        this.tokenVerifier = tokenVerifier;
+    }
+
+    @GetMapping("/users/{userId}")
+    public Mono<ResponseEntity<ResponseUserOverview>> getUserOverview(
+            @PathVariable("userId") String userId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        authorize(userId, authorization);
+
+        return overviewService.overview(userId).map(overview -> {
+            boolean nothing = overview.getUser() == null && overview.getOrders() == null;
+            return ResponseEntity.status(nothing ? HttpStatus.BAD_GATEWAY : HttpStatus.OK).body(overview);
+        });
+    }
+
+    private void authorize(String userId, String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "No bearer token");
+        }
+        String tokenUserId = tokenVerifier.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        if (tokenUserId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token is not valid");
+        }
+        if (!tokenUserId.equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Token does not belong to " + userId);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.api_gateway.composite;
+
+import com.example.api_gateway.filter.AuthorizationHeaderFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * UserOverviewService
+ * - user-service(사용자), order-service(주문), catalog-service(상품) 세 곳을 동시에 호출하여 하나의 응답으로 합침
+ *   -> 클라이언트 입장의 응답시간이 세 호출의 합에서 가장 느린 호출 하나로 줄어듦
+ * - 호출(leg)마다 timeout을 따로 두고, 실패한 leg는 비워둔 채 나머지 결과로 응답 (partial)
+ * - 주문은 orders leg에서만 조회하고, user leg는 includeOrders=false로 사용자 정보만 받음
+ *   (user-service가 주문을 다시 조회하면 order-service가 느릴 때 user leg까지 함께 timeout됨)
+ * - order-service는 한 번에 한 페이지만 반환하므로 X-Next-Cursor 헤더를 따라 마지막 페이지까지 이어서 조회
+ *   (orders-timeout은 전체 페이지 조회에 적용)
+ * - 주문의 productId로 상품 정보를 연결, 상품 목록은 catalogTtl 동안 재사용 (자주 바뀌지 않는 전체 목록)
+ * - lb:// 주소로 호출하므로 인스턴스 선택은 gateway route와 같은 LatencyAwareLoadBalancer가 담당
+ */
+@Service
+@Slf4j
+public class UserOverviewService {
+    static final String USER_LEG = "user";
+    static final String ORDERS_LEG = "orders";
+    static final String CATALOG_LEG = "catalog";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final WebClient webClient;
+    private final Duration userTimeout;
+    private final Duration ordersTimeout;
+    private final int ordersPageSize;
+    private final Duration catalogTimeout;
+    private final Mono<Map<String, ResponseCatalog>> catalogs;
+
+    public UserOverviewService(WebClient.Builder builder,
+                               LoadBalancedExchangeFilterFunction loadBalancer,
+                               @Value("${gateway.composite.user-timeout-ms:1000}") long userTimeoutMs,
+                               @Value("${gateway.composite.orders-timeout-ms:1000}") long ordersTimeoutMs,
+                               @Value("${gateway.composite.orders-page-size:500}") int ordersPageSize,
+                               @Value("${gateway.composite.catalog-timeout-ms:500}") long catalogTimeoutMs,
+                               @Value("${gateway.composite.catalog-ttl-ms:10000}") long catalogTtlMs) {
+        this.webClient = builder.filter(loadBalancer).build();
+        this.userTimeout = Duration.ofMillis(userTimeoutMs);
+        this.ordersTimeout = Duration.ofMillis(ordersTimeoutMs);
+        this.ordersPageSize = ordersPageSize;
+        this.catalogTimeout = Duration.ofMillis(catalogTimeoutMs);
+
+        // 성공한 목록만 ttl 동안 공유, 실패는 캐시하지 않고 다음 요청에서 다시 호출
+        Duration catalogTtl = Duration.ofMillis(catalogTtlMs);
+        this.catalogs = fetchCatalogs().cache(value -> catalogTtl, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    public Mono<ResponseUserOverview> overview(String userId) {
+        ResponseUserOverview overview = new ResponseUserOverview();
+
+        Mono<Leg<ResponseUser>> user = leg(USER_LEG, webClient.get()
+                .uri("lb://user-service/user-service/users/{userId}?includeOrders=false", userId)
+                .header(AuthorizationHeaderFilter.USER_ID_HEADER, userId)
+                .retrieve()
+                .bodyToMono(ResponseUser.class), userTimeout);
+        Mono<Leg<List<ResponseOrder>>> orders = leg(ORDERS_LEG, fetchOrdersPage(userId, null)
+                .expand(page -> page.nextCursor() != null ? fetchOrdersPage(userId, page.nextCursor()) : Mono.empty())
+                .concatMapIterable(OrderPage::orders)
+                .collectList(), ordersTimeout);
+        Mono<Leg<Map<String, ResponseCatalog>>> catalog = leg(CATALOG_LEG, catalogs, catalogTimeout);
+
+        // 세 leg를 동시에 구독, 모두 끝나면(성공/실패 무관) 합침
+        return Mono.zip(user, orders, catalog).map(legs -> {
+            legs.getT1().applyTo(overview, overview::setUser);
+            legs.getT2().applyTo(overview, overview::setOrders);
+            Leg<Map<String, ResponseCatalog>> catalogLeg = legs.getT3();
+            catalogLeg.applyTo(overview, byProductId -> {
+                if (overview.getOrders() != null) {
+                    overview.getOrders().forEach(order -> order.setCatalog(byProductId.get(order.getProductId())));
+                }
+            });
+            overview.setPartial(!overview.getFailures().isEmpty());
+            return overview;
+        });
+    }
+
+    /* userId, cursor는 URI 템플릿 변수로 넘겨서 인코딩되도록 함 */
+    private Mono<OrderPage> fetchOrdersPage(String userId, String cursor) {
+        String url = "lb://order-service/order-service/{userId}/orders?limit={limit}";
+        WebClient.RequestHeadersSpec<?> request = cursor == null
+                ? webClient.get().uri(url, userId, ordersPageSize)
+                : webClient.get().uri(url + "&cursor={cursor}", userId, ordersPageSize, cursor);
+        return request.header(AuthorizationHeaderFilter.USER_ID_HEADER, userId)
+                .retrieve()
+                .toEntityList(ResponseOrder.class)
+                .map(entity -> new OrderPage(entity.getBody() != null ? entity.getBody() : List.of(),
+                        entity.getHeaders().getFirst(NEXT_CURSOR_HEADER)));
+    }
+
+    private Mono<Map<String, ResponseCatalog>> fetchCatalogs() {
+        return webClient.get()
+                .uri("lb://catalog-service/catalog-service/catalogs")
+                .retrieve()
+                .bodyToFlux(ResponseCatalog.class)
+                .collectMap(ResponseCatalog::getProductId, Function.identity(), HashMap::new);
+    }
+
+    private static <T> Mono<Leg<T>> leg(String name, Mono<T> call, Duration timeout) {
+        return call.timeout(timeout)
+                .map(value -> new Leg<>(name, value, null))
+                .defaultIfEmpty(new Leg<>(name, null, "empty"))
+                .onErrorResume(e -> {
+                    log.warn("Composite leg '{}' failed: {}", name, e.toString());
+                    return Mono.just(new Leg<>(name, null, reason(e)));
+                });
+    }
+
+    private static String reason(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof WebClientResponseException response) {
+            return "status " + response.getStatusCode().value();
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    private record OrderPage(List<ResponseOrder> orders, String nextCursor) {
+    }
+
+    /* leg 하나의 결과: 성공하면 value, 실패하면 failure(원인) */
+    record Leg<T>(String name, T value, String failure) {
+        void applyTo(ResponseUserOverview overview, Consumer<T> onSuccess) {
+            if (failure != null) {
+                overview.getFailures().put(name, failure);
+            } else {
+                onSuccess.accept(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.api_gateway.compression;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * CompressingResponseDecorator
+ * - 응답 헤더가 정해진 시점(writeWith)에 압축 여부를 판단하고, 본문 조각을 받는 대로 압축하여 내보냄
+ * - 이미 Content-Encoding이 있는 응답(upstream 압축, 캐시의 압축본), 204/304, Range 응답은 건드리지 않음
+ * - writeAndFlushWith(SSE 등 스트리밍 응답)는 조각마다 flush가 필요하므로 압축하지 않음
+ */
+public class CompressingResponseDecorator extends ServerHttpResponseDecorator {
+    private final ResponseCompression compression;
+
+    public CompressingResponseDecorator(ServerHttpResponse delegate, ResponseCompression compression) {
+        super(delegate);
+        this.compression = compression;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        HttpHeaders headers = getHeaders();
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return super.writeWith(body);
+        }
+        if (!compressible(headers)) {
+            compression.metrics().skipped();
+            return super.writeWith(body);
+        }
+
+        compression.markEncoded(headers);
+        DataBufferFactory factory = bufferFactory();
+        if (body instanceof Mono<? extends DataBuffer> single) {
+            // 본문이 버퍼 하나(캐시/coalescing이 기록하는 경우)이면 한 번에 압축하고 Content-Length 사용
+            return super.writeWith(Mono.using(
+                    () -> new StreamingCompressor(compression.encoding(), compression.level()),
+                    compressor -> single.map(buffer -> {
+                        DataBuffer first = compressor.compress(buffer, factory);
+                        DataBuffer last = compressor.finish(factory);
+                        DataBuffer joined = factory.join(List.of(first, last));
+                        headers.setContentLength(joined.readableByteCount());
+                        compression.metrics().compressed(compressor.bytesIn(), compressor.bytesOut(), compressor.cpuNanos());
+                        return joined;
+                    }),
+                    StreamingCompressor::end));
+        }
+
+        // 길이를 미리 알 수 없으므로 chunked로 전송 (Netty 헤더에서 chunked가 빠졌을 수 있음)
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        Flux<DataBuffer> compressed = Flux.using(
+                () -> new StreamingCompressor(compression.encoding(), compression.level()),
+                compressor -> Flux.<DataBuffer>from(body)
+                        .map(buffer -> compressor.compress(buffer, factory))
+                        .concatWith(Mono.fromSupplier(() -> compressor.finish(factory)))
+                        .filter(buffer -> {
+                            if (buffer.readableByteCount() > 0) {
+                                return true;
+                            }
+                            DataBufferUtils.release(buffer);
+                            return false;
+                        })
+                        .doOnComplete(() -> compression.metrics()
+                                .compressed(compressor.bytesIn(), compressor.bytesOut(), compressor.cpuNanos())),
+                StreamingCompressor::end);
+        return super.writeWith(compressed);
+    }
+
+    private boolean compressible(HttpHeaders headers) {
+        HttpStatusCode status = getStatusCode();
+        if (status != null && (status.value() == 204 || status.value() == 304 || status.is1xxInformational())) {
+            return false;
+        }
+        if (headers.containsKey(HttpHeaders.CONTENT_RANGE)) {
+            return false;
+        }
+        MediaType contentType;
+        try {
+            contentType = headers.getContentType();
+        } catch (Exception e) {
+            return false;
+        }
+        return compression.applies(contentType, headers.getContentLength());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.api_gateway.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CompressionMetrics
+ * - route별 압축 메트릭 (gateway.compression.*)
+ *   - ratio: 압축 후 크기 / 원본 크기 (응답 단위)
+ *   - cpu: 응답 하나를 압축하는 데 쓴 시간 (deflate 호출 구간만 측정)
+ *   - bytes: 압축 전(in)/후(out) 바이트 합계
+ *   - responses: compressed(스트리밍 압축), precompressed(캐시에 보관된 압축본 사용), skipped(임계값/타입 미해당)
+ */
+@Component
+public class CompressionMetrics {
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    public CompressionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Route route(String routeId) {
+        return routes.computeIfAbsent(routeId, Route::new);
+    }
+
+    public final class Route {
+        private final DistributionSummary ratio;
+        private final Timer cpu;
+        private final Counter bytesIn;
+        private final Counter bytesOut;
+        private final Counter compressed;
+        private final Counter precompressed;
+        private final Counter skipped;
+
+        private Route(String routeId) {
+            this.ratio = DistributionSummary.builder("gateway.compression.ratio")
+                    .tag("route", routeId)
+                    .publishPercentiles(0.5, 0.9)
+                    .register(registry);
+            this.cpu = Timer.builder("gateway.compression.cpu")
+                    .tag("route", routeId)
+                    .register(registry);
+            this.bytesIn = bytes(routeId, "in");
+            this.bytesOut = bytes(routeId, "out");
+            this.compressed = responses(routeId, "compressed");
+            this.precompressed = responses(routeId, "precompressed");
+            this.skipped = responses(routeId, "skipped");
+        }
+
+        public void compressed(long in, long out, long cpuNanos) {
+            compressed.increment();
+            record(in, out, cpuNanos);
+        }
+
+        /* 캐시 항목의 압축본을 처음 만들 때 (이후 재사용은 precompressedServed) */
+        public void record(long in, long out, long cpuNanos) {
+            if (in > 0) {
+                ratio.record((double) out / in);
+            }
+            cpu.record(cpuNanos, TimeUnit.NANOSECONDS);
+            bytesIn.increment(in);
+            bytesOut.increment(out);
+        }
+
+        public void precompressedServed() {
+            precompressed.increment();
+        }
+
+        public void skipped() {
+            skipped.increment();
+        }
+
+        private Counter bytes(String routeId, String direction) {
+            return Counter.builder("gateway.compression.bytes")
+                    .tag("route", routeId)
+                    .tag("direction", direction)
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
+        private Counter responses(String routeId, String result) {
+            return Counter.builder("gateway.compression.responses")
+                    .tag("route", routeId)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.api_gateway.compression;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 지원하는 Content-Encoding과 Accept-Encoding 협상
+ */
+public enum ContentEncoding {
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Accept-Encoding 헤더 값에서 q 값이 가장 큰 인코딩을 고름 (같으면 gzip 우선)
+     * - "*"는 gzip으로 취급, q=0은 거부
+     * - 지원하는 인코딩이 없으면 null
+     */
+    public static ContentEncoding negotiate(List<String> acceptEncoding) {
+        ContentEncoding best = null;
+        double bestQ = 0;
+        for (String header : acceptEncoding) {
+            for (String part : header.split(",")) {
+                String[] tokens = part.trim().split(";");
+                String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+                double q = 1.0;
+                for (int i = 1; i < tokens.length; i++) {
+                    String param = tokens[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            q = Double.parseDouble(param.substring(2));
+                        } catch (NumberFormatException e) {
+                            q = 0;
+                        }
+                    }
+                }
+                ContentEncoding encoding = switch (name) {
+                    case "gzip", "x-gzip", "*" -> GZIP;
+                    case "deflate" -> DEFLATE;
+                    default -> null;
+                };
+                if (encoding != null && (q > bestQ || (q == bestQ && q > 0 && encoding.ordinal() < best.ordinal()))) {
+                    best = encoding;
+                    bestQ = q;
+                }
+            }
+        }
+        return best;
+    }
+}
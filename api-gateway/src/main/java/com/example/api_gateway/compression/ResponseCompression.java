@@ -0,0 +1,72 @@
+package com.example.api_gateway.compression;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * ResponseCompression
+ * - route 하나의 압축 정책(임계값, 허용 Content-Type, 압축 레벨)과 협상된 인코딩
+ * - CompressionFilter가 exchange attribute(ATTRIBUTE)로 넣어두면
+ *   CacheFilter는 캐시된 본문의 압축본을 재사용하고, CompressingResponseDecorator는 upstream 본문을 스트리밍 압축함
+ * - 변경되지 않는 값만 가지므로 route마다 인코딩별로 하나씩 만들어 공유
+ */
+public class ResponseCompression {
+    public static final String ATTRIBUTE = ResponseCompression.class.getName();
+
+    private final ContentEncoding encoding;
+    private final int level;
+    private final long minSize;
+    private final List<MediaType> mimeTypes;
+    private final CompressionMetrics.Route metrics;
+
+    public ResponseCompression(ContentEncoding encoding, int level, long minSize, List<MediaType> mimeTypes,
+                               CompressionMetrics.Route metrics) {
+        this.encoding = encoding;
+        this.level = level;
+        this.minSize = minSize;
+        this.mimeTypes = mimeTypes;
+        this.metrics = metrics;
+    }
+
+    public ContentEncoding encoding() { return encoding; }
+    public int level() { return level; }
+    public CompressionMetrics.Route metrics() { return metrics; }
+
+    /* contentLength가 -1이면(chunked) 크기를 알 수 없으므로 압축 대상으로 봄 */
+    public boolean applies(MediaType contentType, long contentLength) {
+        if (contentType == null || (contentLength >= 0 && contentLength < minSize)) {
+            return false;
+        }
+        for (MediaType mimeType : mimeTypes) {
+            if (mimeType.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* 메모리에 있는 본문을 한 번에 압축 (캐시 항목당 한 번) */
+    public byte[] compress(byte[] body) {
+        long start = System.nanoTime();
+        byte[] compressed = StreamingCompressor.compress(body, encoding, level);
+        metrics.record(body.length, compressed.length, System.nanoTime() - start);
+        return compressed;
+    }
+
+    /* 압축된 본문에 맞게 헤더 변경: 길이는 달라지고, 같은 URL이라도 Accept-Encoding에 따라 응답이 다름 */
+    public void markEncoded(HttpHeaders headers) {
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        List<String> vary = headers.getVary();
+        if (!vary.contains(HttpHeaders.ACCEPT_ENCODING)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // 바이트가 달라지므로 strong ETag는 weak ETag로 바꿈 (If-None-Match 비교는 그대로 동작)
+        String etag = headers.getETag();
+        if (etag != null && !etag.startsWith("W/")) {
+            headers.setETag("W/" + etag);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.api_gateway.compression;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * StreamingCompressor
+ * - 응답 본문 조각(DataBuffer)이 들어오는 대로 압축하여 바로 내보냄 (본문 전체를 모으지 않음)
+ * - gzip: raw deflate + gzip 헤더/트레일러(CRC32, 원본 길이), deflate: zlib 형식
+ * - 압축에 쓴 시간(nanos)과 입력/출력 바이트 수를 집계하여 메트릭으로 보고
+ * - 한 응답 전용이며 스레드 안전하지 않음 (Reactor가 신호를 순서대로 전달)
+ */
+public class StreamingCompressor {
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int CHUNK = 8192;
+
+    private final ContentEncoding encoding;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] output = new byte[CHUNK];
+    private boolean headerWritten;
+    private long bytesIn;
+    private long bytesOut;
+    private long cpuNanos;
+
+    public StreamingCompressor(ContentEncoding encoding, int level) {
+        this.encoding = encoding;
+        this.deflater = new Deflater(level, encoding == ContentEncoding.GZIP);
+    }
+
+    /* 입력 버퍼를 압축하고 해제함, deflater가 아직 내보낼 것이 없으면 빈 버퍼를 돌려줌 */
+    public DataBuffer compress(DataBuffer input, DataBufferFactory factory) {
+        long start = System.nanoTime();
+        DataBuffer result = factory.allocateBuffer(Math.max(64, input.readableByteCount() / 2));
+        try {
+            writeHeader(result);
+            try (DataBuffer.ByteBufferIterator iterator = input.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    bytesIn += chunk.remaining();
+                    if (encoding == ContentEncoding.GZIP) {
+                        crc.update(chunk.duplicate());
+                    }
+                    deflater.setInput(chunk);
+                    while (!deflater.needsInput()) {
+                        drain(result, Deflater.NO_FLUSH);
+                    }
+                }
+            }
+        } finally {
+            DataBufferUtils.release(input);
+            cpuNanos += System.nanoTime() - start;
+        }
+        return result;
+    }
+
+    /* 남은 데이터와 gzip 트레일러를 내보냄 */
+    public DataBuffer finish(DataBufferFactory factory) {
+        long start = System.nanoTime();
+        DataBuffer result = factory.allocateBuffer(CHUNK);
+        writeHeader(result);
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(result, Deflater.NO_FLUSH);
+        }
+        if (encoding == ContentEncoding.GZIP) {
+            byte[] trailer = new byte[8];
+            writeIntLE(trailer, 0, (int) crc.getValue());
+            writeIntLE(trailer, 4, (int) bytesIn);
+            result.write(trailer);
+            bytesOut += trailer.length;
+        }
+        cpuNanos += System.nanoTime() - start;
+        return result;
+    }
+
+    /* Deflater의 native 메모리 해제 (완료/오류/취소 모두에서 호출) */
+    public void end() {
+        deflater.end();
+    }
+
+    public long bytesIn() { return bytesIn; }
+    public long bytesOut() { return bytesOut; }
+    public long cpuNanos() { return cpuNanos; }
+
+    /* 한 번에 압축 (캐시된 본문처럼 이미 메모리에 있는 경우) */
+    public static byte[] compress(byte[] body, ContentEncoding encoding, int level) {
+        StreamingCompressor compressor = new StreamingCompressor(encoding, level);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+            DataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+            for (DataBuffer buffer : new DataBuffer[]{
+                    compressor.compress(factory.wrap(body), factory), compressor.finish(factory)}) {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                out.writeBytes(bytes);
+            }
+            return out.toByteArray();
+        } finally {
+            compressor.end();
+        }
+    }
+
+    private void writeHeader(DataBuffer result) {
+        if (!headerWritten && encoding == ContentEncoding.GZIP) {
+            result.write(GZIP_HEADER);
+            bytesOut += GZIP_HEADER.length;
+        }
+        headerWritten = true;
+    }
+
+    private void drain(DataBuffer result, int flush) {
+        int length = deflater.deflate(output, 0, output.length, flush);
+        if (length > 0) {
+            result.ensureWritable(length);
+            result.write(output, 0, length);
+            bytesOut += length;
+        }
+    }
+
+    private static void writeIntLE(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >> 8);
+        bytes[offset + 2] = (byte) (value >> 16);
+        bytes[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.api_gateway.config;
+
+import com.example.api_gateway.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+// 모든 lb:// 서비스에 LatencyAwareLoadBalancer를 기본 LoadBalancer로 등록
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,32 @@
+package com.example.api_gateway.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+// RequestRateLimiter 필터에서 사용할 client key 결정 방식
+@Configuration
+public class RateLimiterConfig {
+
+    // 요청자의 IP 주소 (GlobalFilter에서 기록하던 request.getRemoteAddress()와 같은 값)
+    @Bean
+    @Primary
+    public KeyResolver remoteAddrKeyResolver() {
+        return exchange -> Mono.justOrEmpty(exchange.getRequest().getRemoteAddress())
+                .map(InetSocketAddress::getAddress)
+                .map(address -> address.getHostAddress());
+    }
+
+    // 지정한 헤더 값 (없으면 IP 주소로 대체)
+    @Bean
+    public KeyResolver headerKeyResolver(@Value("${gateway.rate-limiter.key-header:X-Client-Id}") String headerName) {
+        KeyResolver remoteAddr = remoteAddrKeyResolver();
+        return exchange -> Mono.justOrEmpty(exchange.getRequest().getHeaders().getFirst(headerName))
+                .switchIfEmpty(Mono.defer(() -> remoteAddr.resolve(exchange)));
+    }
+}
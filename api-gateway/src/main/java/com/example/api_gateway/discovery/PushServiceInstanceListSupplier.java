@@ -0,0 +1,32 @@
+package com.example.api_gateway.discovery;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * 기존 discovery(+캐시) 인스턴스 목록에 RegistryOverlay의 push 변경을 적용
+ * - 캐시(CachingServiceInstanceListSupplier) 바깥에 두어 push 변경이 캐시 만료를 기다리지 않고 바로 적용됨
+ */
+public class PushServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+    private final RegistryOverlay overlay;
+
+    public PushServiceInstanceListSupplier(ServiceInstanceListSupplier delegate, RegistryOverlay overlay) {
+        super(delegate);
+        this.overlay = overlay;
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return delegate.get().map(instances -> overlay.merge(getServiceId(), instances));
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get(Request request) {
+        return delegate.get(request).map(instances -> overlay.merge(getServiceId(), instances));
+    }
+}
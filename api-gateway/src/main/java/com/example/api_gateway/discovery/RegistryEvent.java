@@ -0,0 +1,26 @@
+package com.example.api_gateway.discovery;
+
+import java.util.Map;
+
+/**
+ * eureka-server GET /registry-events 로 받는 registry 변경 한 건
+ * - eureka-server의 RegistryEvent와 같은 JSON 형식
+ */
+public record RegistryEvent(long sequence,
+                            Type type,
+                            String app,
+                            String instanceId,
+                            String host,
+                            int port,
+                            boolean secure,
+                            String status,
+                            Map<String, String> metadata,
+                            long timestamp) {
+
+    public enum Type { REGISTERED, CANCELLED }
+
+    /* 요청을 보내도 되는 인스턴스인지 (UP 상태로 등록됨) */
+    public boolean isUp() {
+        return type == Type.REGISTERED && "UP".equals(status);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.api_gateway.discovery;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * RegistryEventSubscriber
+ * - eureka-server의 registry 변경 스트림(GET /registry-events, SSE)을 구독하여 RegistryOverlay에 바로 적용
+ * - 연결이 끊기면 backoff 후 재연결, Last-Event-ID로 놓친 이벤트부터 이어받음
+ * - 서버가 RESYNC를 보내면(놓친 이벤트가 이미 버려짐, 서버 재시작) push 상태를 버리고 기존 fetch 결과만 사용,
+ *   Last-Event-ID도 RESYNC의 id(서버의 현재 sequence)로 바꿔서 재연결할 때마다 RESYNC가 반복되지 않게 함
+ */
+@Component
+@Slf4j
+public class RegistryEventSubscriber {
+    private static final ParameterizedTypeReference<ServerSentEvent<RegistryEvent>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final String RESYNC_EVENT = "RESYNC";
+
+    private final WebClient webClient;
+    private final RegistryOverlay overlay;
+    private final boolean enabled;
+    private final String url;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    private volatile String lastEventId;
+    private Disposable subscription;
+
+    public RegistryEventSubscriber(WebClient.Builder builder, RegistryOverlay overlay,
+                                   @Value("${gateway.discovery.push.enabled:true}") boolean enabled,
+                                   @Value("${gateway.discovery.push.url:http://127.0.0.1:8761/registry-events}") String url,
+                                   @Value("${gateway.discovery.push.min-backoff-ms:1000}") long minBackoffMs,
+                                   @Value("${gateway.discovery.push.max-backoff-ms:30000}") long maxBackoffMs) {
+        this.webClient = builder.build();
+        this.overlay = overlay;
+        this.enabled = enabled;
+        this.url = url;
+        this.minBackoff = Duration.ofMillis(minBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || subscription != null) {
+            return;
+        }
+        subscription = Flux.defer(this::connect)
+                .doOnNext(this::onEvent)
+                // 서버가 스트림을 정상 종료해도 다시 연결
+                .repeatWhen(completed -> completed.delayElements(minBackoff))
+                .doOnError(e -> log.debug("Registry event stream failed: {}", e.toString()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, minBackoff).maxBackoff(maxBackoff).transientErrors(true))
+                .subscribe();
+        log.info("Subscribed to registry events: {}", url);
+    }
+
+    private Flux<ServerSentEvent<RegistryEvent>> connect() {
+        return webClient.get()
+                .uri(url)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", lastEventId);
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE);
+    }
+
+    void onEvent(ServerSentEvent<RegistryEvent> event) {
+        if (RESYNC_EVENT.equals(event.event())) {
+            log.info("Registry event stream resync requested, dropping pushed changes");
+            overlay.clear();
+            lastEventId = event.id();   // id가 없으면 처음 연결처럼 Last-Event-ID 없이 재연결
+            return;
+        }
+        if (event.data() == null) {
+            return;   // heartbeat comment
+        }
+        overlay.apply(event.data());
+        lastEventId = event.id();
+    }
+
+    String lastEventId() {
+        return lastEventId;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.api_gateway.discovery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RegistryOverlay
+ * - push로 받은 registry 변경을 기존 fetch(pull) 결과 위에 덮어씌우는 서비스별 변경 목록
+ *   (추가/상태 변경된 인스턴스는 목록에 넣고, 해제/DOWN 인스턴스는 목록에서 뺌)
+ * - pull 결과가 같은 상태를 따라잡으면 해당 변경은 지우고, 그때까지 걸린 시간을 기록 (gateway.discovery.pull.lag)
+ *   push 전달 지연(gateway.discovery.push.lag)과 비교하면 discovery 지연이 얼마나 줄었는지 확인할 수 있음
+ * - maxAgeMs가 지나도록 pull 결과가 따라잡지 못한 변경은 버림 (push 연결 문제로 틀린 상태가 남지 않도록)
+ */
+@Component
+public class RegistryOverlay {
+    private final Map<String, Map<String, Change>> changes = new ConcurrentHashMap<>();
+    private final long maxAgeMs;
+    private final Timer pushLag;
+    private final Timer pullLag;
+    private final Counter registered;
+    private final Counter cancelled;
+
+    public RegistryOverlay(MeterRegistry meterRegistry,
+                           @Value("${gateway.discovery.push.max-age-ms:120000}") long maxAgeMs) {
+        this.maxAgeMs = maxAgeMs;
+        this.pushLag = Timer.builder("gateway.discovery.push.lag")
+                .description("registry 변경 후 gateway가 push로 받기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.pullLag = Timer.builder("gateway.discovery.pull.lag")
+                .description("registry 변경 후 fetch 결과에 반영되기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.registered = Counter.builder("gateway.discovery.push.events").tag("type", "registered").register(meterRegistry);
+        this.cancelled = Counter.builder("gateway.discovery.push.events").tag("type", "cancelled").register(meterRegistry);
+    }
+
+    public void apply(RegistryEvent event) {
+        long now = System.currentTimeMillis();
+        pushLag.record(Math.max(0, now - event.timestamp()), TimeUnit.MILLISECONDS);
+        (event.type() == RegistryEvent.Type.REGISTERED ? registered : cancelled).increment();
+
+        ServiceInstance instance = event.isUp()
+                ? new DefaultServiceInstance(event.instanceId(), event.app(), event.host(), event.port(), event.secure(),
+                        event.metadata() != null ? event.metadata() : Map.of())
+                : null;
+        changes.computeIfAbsent(key(event.app()), k -> new ConcurrentHashMap<>())
+                .put(event.instanceId(), new Change(instance, event.timestamp()));
+    }
+
+    /**
+     * pull 결과에 아직 반영되지 않은 변경을 적용한 인스턴스 목록
+     */
+    public List<ServiceInstance> merge(String serviceId, List<ServiceInstance> pulled) {
+        Map<String, Change> pending = changes.get(key(serviceId));
+        if (pending == null || pending.isEmpty()) {
+            return pulled;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, ServiceInstance> byId = new HashMap<>();
+        for (ServiceInstance instance : pulled) {
+            byId.put(instance.getInstanceId(), instance);
+        }
+        pending.entrySet().removeIf(entry -> {
+            Change change = entry.getValue();
+            if (change.reflectedIn(byId.get(entry.getKey()))) {
+                if (change.diverged) {
+                    pullLag.record(Math.max(0, now - change.timestamp), TimeUnit.MILLISECONDS);
+                }
+                return true;
+            }
+            change.diverged = true;
+            return now - change.timestamp > maxAgeMs;
+        });
+        if (pending.isEmpty()) {
+            return pulled;
+        }
+
+        List<ServiceInstance> merged = new ArrayList<>(pulled.size() + pending.size());
+        for (ServiceInstance instance : pulled) {
+            if (!pending.containsKey(instance.getInstanceId())) {
+                merged.add(instance);
+            }
+        }
+        for (Change change : pending.values()) {
+            if (change.instance != null) {
+                merged.add(change.instance);
+            }
+        }
+        return merged;
+    }
+
+    /* push 상태를 믿을 수 없을 때 (RESYNC) pull 결과만 사용 */
+    public void clear() {
+        changes.clear();
+    }
+
+    public int pending() {
+        return changes.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static String key(String serviceId) {
+        return serviceId.toUpperCase(Locale.ROOT);
+    }
+
+    /* 인스턴스 하나의 push 상태: instance가 null이면 목록에서 빠져야 하는 인스턴스 */
+    static final class Change {
+        final ServiceInstance instance;
+        final long timestamp;
+        volatile boolean diverged;   // pull 결과와 다른 상태를 한 번이라도 덮어썼는지 (lag 기록 대상)
+
+        Change(ServiceInstance instance, long timestamp) {
+            this.instance = instance;
+            this.timestamp = timestamp;
+        }
+
+        boolean reflectedIn(ServiceInstance pulled) {
+            if (instance == null) {
+                return pulled == null;
+            }
+            return pulled != null && Objects.equals(pulled.getMetadata(), instance.getMetadata());
+        }
+    }
+}
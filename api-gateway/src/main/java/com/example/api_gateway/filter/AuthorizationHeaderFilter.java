@@ -0,0 +1,70 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.auth.TokenVerifier;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * AuthorizationHeaderFilter
+ * - Authorization: Bearer <token> 헤더의 토큰을 TokenVerifier로 검증, 없거나 올바르지 않으면 401 응답
+ * - 검증에 성공하면 토큰의 userId를 X-User-Id 요청 헤더로 전달 (downstream 서비스는 요청마다 암호 연산을 하지 않음)
+ * - 클라이언트가 보낸 X-User-Id 헤더는 항상 토큰 값으로 덮어씀
+ * - 캐시된 응답이 인증 없이 나가지 않도록 CacheFilter, CoalescingFilter, CompressionFilter보다 먼저 실행 (ORDER)
+ */
+@Component
+@Slf4j
+public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<AuthorizationHeaderFilter.Config> {
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final int ORDER = CompressionFilter.ORDER - 1;
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenVerifier tokenVerifier;
+
+    public AuthorizationHeaderFilter(TokenVerifier tokenVerifier) {
+        super(Config.class);
+        this.tokenVerifier = tokenVerifier;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+                return onError(exchange.getResponse(), "No bearer token");
+            }
+
+            String userId = tokenVerifier.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+            if (userId == null) {
+                return onError(exchange.getResponse(), "Token is not valid");
+            }
+
+            ServerHttpRequest authorized = request.mutate()
+                    .headers(headers -> headers.set(USER_ID_HEADER, userId))
+                    .build();
+            return chain.filter(exchange.mutate().request(authorized).build());
+        }, ORDER);
+    }
+
+    private static Mono<Void> onError(ServerHttpResponse response, String message) {
+        log.debug("Unauthorized: {}", message);
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return response.setComplete();
+    }
+
+
+    @Data
+    public static class Config {
+    }
+}
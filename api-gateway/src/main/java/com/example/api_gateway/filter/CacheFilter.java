@@ -0,0 +1,193 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.cache.BufferingResponseDecorator;
+import com.example.api_gateway.cache.CachedResponse;
+import com.example.api_gateway.cache.ResponseCache;
+import com.example.api_gateway.cache.ResponseCacheRegistry;
+import com.example.api_gateway.compression.ResponseCompression;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheFilter
+ * - 자주 바뀌지 않는 GET 응답(카탈로그 목록, 사용자 조회 등)을 route별 메모리 캐시에 보관
+ * - 캐시 키: path + query (+ varyHeaders로 지정한 요청 헤더 값)
+ * - upstream 응답의 Cache-Control이 private, no-store, no-cache이면 저장하지 않고 그대로 전달
+ * - 응답 본문으로 ETag를 계산하고, If-None-Match가 일치하면 upstream 호출 없이 304 응답
+ * - CompressionFilter와 함께 쓰면 캐시 HIT 응답은 항목별로 한 번 만든 압축본으로 응답
+ * - upstream 응답 본문은 NettyWriteResponseFilter가 쓰므로 그보다 먼저 실행되도록 순서를 지정 (RESPONSE_FILTER_ORDER)
+ */
+@Component
+@Slf4j
+public class CacheFilter extends AbstractGatewayFilterFactory<CacheFilter.Config> {
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+    public static final int RESPONSE_FILTER_ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    private final ResponseCacheRegistry cacheRegistry;
+
+    public CacheFilter(ResponseCacheRegistry cacheRegistry) {
+        super(Config.class);
+        this.cacheRegistry = cacheRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "default";
+        ResponseCache cache = cacheRegistry.getOrCreate(routeId, config.getMaxEntries(), config.getMaxBytes());
+        long ttlNanos = TimeUnit.SECONDS.toNanos(config.getTtlSeconds());
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || isNoStore(request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request, config.getVaryHeaders());
+            long now = System.nanoTime();
+            CachedResponse cached = cache.get(key, now);
+            if (cached != null) {
+                cache.recordHit();
+                return writeCached(exchange, cache, cached, now);
+            }
+            cache.recordMiss();
+
+            BufferingResponseDecorator decorator = new BufferingResponseDecorator(exchange.getResponse(),
+                    config.getMaxBodyBytes(), (response, body) -> {
+                // 200 OK이고 upstream이 공유 캐시 저장을 허용한 응답만 캐시하고, 나머지는 받은 그대로 전달
+                if (response.getStatusCode() != HttpStatus.OK || !isStorable(response.getHeaders())) {
+                    return BufferingResponseDecorator.writeBody(response, body);
+                }
+                long created = System.nanoTime();
+                CachedResponse fresh = new CachedResponse(body, response.getHeaders().getContentType(),
+                        etag(body), created, created + ttlNanos);
+                cache.put(key, fresh);
+
+                response.getHeaders().setETag(fresh.etag());
+                response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+                if (matches(request, fresh.etag())) {
+                    cache.recordNotModified();
+                    return notModified(response);
+                }
+                return BufferingResponseDecorator.writeBody(response, body);
+            });
+
+            return chain.filter(exchange.mutate().response(decorator).build());
+        }, RESPONSE_FILTER_ORDER);
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, ResponseCache cache, CachedResponse cached, long now) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        headers.set(HttpHeaders.AGE, String.valueOf(cached.ageSeconds(now)));
+
+        if (matches(exchange.getRequest(), cached.etag())) {
+            cache.recordNotModified();
+            return notModified(response);
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+        }
+
+        // CompressionFilter가 인코딩을 협상했다면 캐시 항목의 압축본을 사용 (항목당 한 번만 압축)
+        ResponseCompression compression = exchange.getAttribute(ResponseCompression.ATTRIBUTE);
+        if (compression != null && compression.applies(cached.contentType(), cached.body().length)) {
+            byte[] encoded = cached.encoded(compression.encoding().token(), compression::compress);
+            compression.markEncoded(headers);
+            compression.metrics().precompressedServed();
+            return BufferingResponseDecorator.writeBody(response, encoded);
+        }
+        return BufferingResponseDecorator.writeBody(response, cached.body());
+    }
+
+    private static Mono<Void> notModified(ServerHttpResponse response) {
+        response.setStatusCode(HttpStatus.NOT_MODIFIED);
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+        return response.setComplete();
+    }
+
+    private static boolean isNoStore(ServerHttpRequest request) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        return cacheControl != null && cacheControl.contains(CacheControl.noStore().getHeaderValue());
+    }
+
+    /* 사용자별 응답(private)이나 저장/재사용 금지(no-store, no-cache) 응답은 캐시하지 않음 */
+    private static boolean isStorable(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return true;
+        }
+        for (String directive : cacheControl.split(",")) {
+            String name = directive.trim().toLowerCase(Locale.ROOT);
+            int equals = name.indexOf('=');
+            if (equals >= 0) {
+                name = name.substring(0, equals).trim();
+            }
+            if (name.equals("private") || name.equals("no-store") || name.equals("no-cache")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String cacheKey(ServerHttpRequest request, List<String> varyHeaders) {
+        StringBuilder key = new StringBuilder(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : varyHeaders) {
+            key.append('\n').append(header).append('=').append(request.getHeaders().getFirst(header));
+        }
+        return key.toString();
+    }
+
+    /* Spring의 ShallowEtagHeaderFilter와 같은 방식(본문 MD5)으로 ETag 생성 */
+    private static String etag(byte[] body) {
+        return "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private static boolean matches(ServerHttpRequest request, String etag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            if ("*".equals(candidate) || etag.equals(candidate.startsWith("W/") ? candidate.substring(2) : candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    @Data
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private long ttlSeconds = 30;               // 캐시 항목 유효 시간
+        private int maxEntries = 1000;              // 최대 항목 수
+        private long maxBytes = 16 * 1024 * 1024;   // 캐시 전체 본문 크기 한도
+        private int maxBodyBytes = 1024 * 1024;     // 이보다 큰 응답은 캐시하지 않음
+        private List<String> varyHeaders = new ArrayList<>(); // 캐시 키에 포함할 요청 헤더 (예: Authorization)
+    }
+}
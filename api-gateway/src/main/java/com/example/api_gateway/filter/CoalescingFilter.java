@@ -0,0 +1,127 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.cache.BufferingResponseDecorator;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CoalescingFilter
+ * - 동시에 들어온 동일한 GET 요청(route, path, query, 선택한 헤더가 같은 요청)을 upstream 호출 하나로 합침
+ * - 처음 들어온 요청(leader)만 upstream을 호출하고, 그 사이 들어온 요청(follower)은 leader의 응답을 그대로 재생
+ * - 캐시와 달리 leader 요청이 끝나면 저장된 응답도 사라짐
+ * - 응답이 maxBodyBytes보다 크거나 leader가 실패/취소되면 follower는 각자 upstream을 호출함
+ *   (크기를 넘는 순간 follower를 놓아주므로 leader의 본문 전송이 끝날 때까지 기다리지 않음, leader 본문은 그대로 흘려보냄)
+ * - upstream 응답 본문은 NettyWriteResponseFilter가 쓰므로 그보다 먼저 실행되도록 순서를 지정 (RESPONSE_FILTER_ORDER)
+ */
+@Component
+@Slf4j
+public class CoalescingFilter extends AbstractGatewayFilterFactory<CoalescingFilter.Config> {
+    public static final String COALESCED_HEADER = "X-Coalesced";
+    public static final int RESPONSE_FILTER_ORDER = CacheFilter.RESPONSE_FILTER_ORDER;
+
+    private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingFilter() { super(Config.class); }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            String key = key(config.getRouteId(), request, config.getKeyHeaders());
+            Sinks.One<SharedResponse> sink = Sinks.one();
+            Sinks.One<SharedResponse> leader = inFlight.putIfAbsent(key, sink);
+
+            // follower: leader의 응답을 기다렸다가 재생, 공유할 응답이 없으면 직접 호출
+            if (leader != null) {
+                return leader.asMono()
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(shared -> shared.isPresent()
+                                ? replay(exchange, shared.get())
+                                : chain.filter(exchange));
+            }
+
+            // leader: upstream 응답을 버퍼링하여 follower에게 전달
+            BufferingResponseDecorator decorator = new BufferingResponseDecorator(exchange.getResponse(),
+                    config.getMaxBodyBytes(), (response, body) -> {
+                if (inFlight.remove(key, sink)) {
+                    sink.tryEmitValue(SharedResponse.of(response, body));
+                }
+                return BufferingResponseDecorator.writeBody(response, body);
+            }, () -> {
+                if (inFlight.remove(key, sink)) {
+                    sink.tryEmitEmpty();
+                }
+            });
+
+            return chain.filter(exchange.mutate().response(decorator).build())
+                    .doFinally(signal -> {
+                        if (inFlight.remove(key, sink)) {
+                            sink.tryEmitEmpty();
+                        }
+                    });
+        }, RESPONSE_FILTER_ORDER);
+    }
+
+    private static Mono<Void> replay(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(shared.status());
+        response.getHeaders().putAll(shared.headers());
+        response.getHeaders().set(COALESCED_HEADER, "true");
+        return BufferingResponseDecorator.writeBody(response, shared.body());
+    }
+
+    private static String key(String routeId, ServerHttpRequest request, List<String> keyHeaders) {
+        StringBuilder key = new StringBuilder().append(routeId).append(' ').append(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        for (String header : keyHeaders) {
+            key.append('\n').append(header).append('=').append(request.getHeaders().get(header));
+        }
+        return key.toString();
+    }
+
+    /* leader 응답의 상태 코드, 헤더, 본문 스냅샷 */
+    record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        static SharedResponse of(ServerHttpResponse response, byte[] body) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return new SharedResponse(response.getStatusCode(), headers, body);
+        }
+    }
+
+
+    @Data
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private int maxBodyBytes = 1024 * 1024;                // 이보다 큰 응답은 공유하지 않음
+        private List<String> keyHeaders = new ArrayList<>();   // 요청 동일성 판단에 포함할 헤더 (예: Authorization, Accept)
+    }
+}
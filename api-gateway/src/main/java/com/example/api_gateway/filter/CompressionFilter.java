@@ -0,0 +1,80 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.compression.CompressingResponseDecorator;
+import com.example.api_gateway.compression.CompressionMetrics;
+import com.example.api_gateway.compression.ContentEncoding;
+import com.example.api_gateway.compression.ResponseCompression;
+import lombok.Data;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CompressionFilter
+ * - Accept-Encoding으로 gzip/deflate를 협상하여 응답을 압축 (JSON 목록 응답 등)
+ * - minSize보다 작은 응답과 mimeTypes에 없는 Content-Type은 압축하지 않음
+ * - 본문 조각이 들어오는 대로 압축하므로 응답 전체를 버퍼링하지 않음 (CompressingResponseDecorator)
+ * - CacheFilter 바깥쪽에서 실행: 캐시에는 원본을 저장하고, 캐시 HIT 시에는 항목별로 한 번 만든 압축본을 재사용
+ * - 압축률과 압축에 쓴 시간은 gateway.compression.* 메트릭으로 확인
+ */
+@Component
+public class CompressionFilter extends AbstractGatewayFilterFactory<CompressionFilter.Config> {
+    public static final int ORDER = CacheFilter.RESPONSE_FILTER_ORDER - 1;
+
+    private final CompressionMetrics metrics;
+
+    public CompressionFilter(CompressionMetrics metrics) {
+        super(Config.class);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "default";
+        List<MediaType> mimeTypes = MediaType.parseMediaTypes(config.getMimeTypes());
+        Map<ContentEncoding, ResponseCompression> compressions = new EnumMap<>(ContentEncoding.class);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            compressions.put(encoding, new ResponseCompression(encoding, config.getLevel(), config.getMinSize(),
+                    mimeTypes, metrics.route(routeId)));
+        }
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            List<String> acceptEncoding = request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING);
+            if (acceptEncoding == null || request.getMethod() == HttpMethod.HEAD) {
+                return chain.filter(exchange);
+            }
+            ContentEncoding encoding = ContentEncoding.negotiate(acceptEncoding);
+            if (encoding == null) {
+                return chain.filter(exchange);
+            }
+
+            ResponseCompression compression = compressions.get(encoding);
+            exchange.getAttributes().put(ResponseCompression.ATTRIBUTE, compression);
+            return chain.filter(exchange.mutate()
+                    .response(new CompressingResponseDecorator(exchange.getResponse(), compression))
+                    .build());
+        }, ORDER);
+    }
+
+
+    @Data
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private long minSize = 1024;    // 이보다 작은 응답은 압축하지 않음 (Content-Length 기준, chunked는 압축)
+        private int level = 5;          // Deflater 압축 레벨 (1: 빠름 ~ 9: 작음)
+        private List<String> mimeTypes = new ArrayList<>(List.of(
+                "application/json", "application/xml", "application/javascript", "text/*"));
+    }
+}
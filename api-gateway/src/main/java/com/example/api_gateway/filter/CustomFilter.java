@@ -1,35 +1,26 @@
 package com.example.api_gateway.filter;
 
+import com.example.api_gateway.accesslog.AccessLogWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
 
 @Component
 @Slf4j
 public class CustomFilter extends AbstractGatewayFilterFactory<CustomFilter.Config> {
+    private final AccessLogWriter accessLogWriter;
 
 
-    public CustomFilter() { super(Config.class); }
+    public CustomFilter(AccessLogWriter accessLogWriter) {
+        super(Config.class);
+        this.accessLogWriter = accessLogWriter;
+    }
     @Override
     public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
-            ServerHttpResponse response = exchange.getResponse();
-
-
-            // Custom Pre Filter
-            log.info("Custom PRE Filter: request id -> {}", request.getId());
-
-
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                // Custom Post Filter
-                log.info("Custom POST Filter: response code -> {}", response.getStatusCode());
-            }));
-        };
+        // Custom Pre/Post Filter: request id와 response code는 접근 로그 레코드에 함께 기록
+        return (exchange, chain) -> accessLogWriter.filter(exchange, chain,
+                record -> record.include(true, true));
     }
 
 
@@ -38,4 +29,3 @@ public class CustomFilter extends AbstractGatewayFilterFactory<CustomFilter.Conf
 
     }
 }
-
@@ -1,37 +1,30 @@
 package com.example.api_gateway.filter;
 
+import com.example.api_gateway.accesslog.AccessLogWriter;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
 
 @Component
 @Slf4j
 public class GlobalFilter extends AbstractGatewayFilterFactory<GlobalFilter.Config> {
 
-    public GlobalFilter() { super(Config.class); }
-    @Override
-    public GatewayFilter apply(Config config) {
-        return (exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
-            ServerHttpResponse response = exchange.getResponse();
-
-            log.info("Global Filter baseMessage: {}, {}", config.getBaseMessage(), request.getRemoteAddress());
+    private final AccessLogWriter accessLogWriter;
 
-            if (config.isPreLogger()) {
-                log.info("Global Filter Start: request id -> {}", request.getId());
-            }
+    public GlobalFilter(AccessLogWriter accessLogWriter) {
+        super(Config.class);
+        this.accessLogWriter = accessLogWriter;
+    }
 
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                if (config.isPostLogger()) {
-                    log.info("Global Filter End: response code -> {}", response.getStatusCode());
-                }
-            }));
-        };
+    /* 요청마다 log.info를 직접 호출하지 않고, exchange당 하나의 접근 로그 레코드로 기록 */
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> accessLogWriter.filter(exchange, chain, record -> {
+            record.applyDefaults(config.getBaseMessage(), config.getSampleRate(), config.getSlowThresholdMs());
+            record.include(config.isPreLogger(), config.isPostLogger());
+        });
     }
 
     @Data
@@ -39,5 +32,7 @@ public class GlobalFilter extends AbstractGatewayFilterFactory<GlobalFilter.Conf
         private String baseMessage;
         private boolean preLogger;
         private boolean postLogger;
+        private double sampleRate = 1.0;      // 정상 응답의 기록 비율 (0.0 ~ 1.0)
+        private long slowThresholdMs = 1000;  // 이 시간 이상 걸린 요청은 항상 기록 (0이면 사용 안 함)
     }
 }
@@ -1,62 +1,33 @@
 package com.example.api_gateway.filter;
 
+import com.example.api_gateway.accesslog.AccessLogWriter;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
 
 @Component
 @Slf4j
 public class LoggingFilter extends AbstractGatewayFilterFactory<LoggingFilter.Config> {
 
-    public LoggingFilter() { super(Config.class); }
-//    @Override
-//    public GatewayFilter apply(Config config) {
-//        return (exchange, chain) -> {
-//            ServerHttpRequest request = exchange.getRequest();
-//            ServerHttpResponse response = exchange.getResponse();
-//
-//            log.info("Logging Filter baseMessage: {}, {}", config.getBaseMessage(), request.getRemoteAddress());
-//
-//            if (config.isPreLogger()) {
-//                log.info("Logging Filter Start: request uri -> {}", request.getURI().toString());
-//            }
-//
-//            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-//                if (config.isPostLogger()) {
-//                    log.info("Logging Filter End: response code -> {}", response.getStatusCode());
-//                }
-//            }));
-//        };
-//    }
+    private final AccessLogWriter accessLogWriter;
+
+    public LoggingFilter(AccessLogWriter accessLogWriter) {
+        super(Config.class);
+        this.accessLogWriter = accessLogWriter;
+    }
 
     /* 우선 순위를 갖는 Logging Filter 적용 */
+    /* route 단위 설정(sampleRate, slowThresholdMs)으로 default-filters의 접근 로그 설정을 덮어씀 */
     @Override
     public GatewayFilter apply(Config config) {
-        GatewayFilter filter = new OrderedGatewayFilter((exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
-            ServerHttpResponse response = exchange.getResponse();
-
-
-            log.info("Logging Filter baseMessage: {}, {}", config.getBaseMessage(), request.getRemoteAddress());
-
-
-            if (config.isPreLogger()) {
-                log.info("Logging Filter Start: request uri -> {}", request.getURI().toString());
-            }
-
-
-            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-                if (config.isPostLogger()) {
-                    log.info("Logging Filter End: response code -> {}", response.getStatusCode());
-                }
-            }));
-        }, OrderedGatewayFilter.HIGHEST_PRECEDENCE); //LOWEST_PRECEDENCE 가장 낮은 순위의 상수값
+        GatewayFilter filter = new OrderedGatewayFilter((exchange, chain) ->
+                accessLogWriter.filter(exchange, chain, record -> {
+                    record.applyOverrides(config.getBaseMessage(), config.getSampleRate(), config.getSlowThresholdMs());
+                    record.include(config.isPreLogger(), config.isPostLogger());
+                }), OrderedGatewayFilter.HIGHEST_PRECEDENCE); //LOWEST_PRECEDENCE 가장 낮은 순위의 상수값
 
         return filter;
     }
@@ -68,5 +39,7 @@ public class LoggingFilter extends AbstractGatewayFilterFactory<LoggingFilter.Co
         private String baseMessage;
         private boolean preLogger;
         private boolean postLogger;
+        private double sampleRate = -1;      // 음수이면 GlobalFilter 설정을 따름
+        private long slowThresholdMs = -1;   // 음수이면 GlobalFilter 설정을 따름
     }
 }
@@ -0,0 +1,281 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.resilience.AttemptExchange;
+import com.example.api_gateway.resilience.AttemptResponse;
+import com.example.api_gateway.resilience.CircuitBreaker;
+import com.example.api_gateway.resilience.LatencyEstimator;
+import com.example.api_gateway.resilience.ResilienceRegistry;
+import com.example.api_gateway.resilience.RetryBudget;
+import com.example.api_gateway.resilience.RouteResilience;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ResilienceFilter
+ * - route 단위 circuit breaker: 실패 비율이 높으면 upstream을 호출하지 않고 바로 503 응답
+ * - 인스턴스 단위 circuit breaker: 응답이 없거나 5xx를 내는 인스턴스는 LatencyAwareLoadBalancer가 후보에서 제외
+ *   (Eureka가 인스턴스를 제거하기까지 기다리지 않음)
+ * - 재시도: GET/HEAD 요청이 retryStatuses 응답, 연결 오류, timeout으로 실패하면 다른 인스턴스로 재시도
+ *   재시도 횟수는 RetryBudget으로 전체 트래픽의 retryBudgetPercent% 이내로 제한
+ * - hedge: GET/HEAD 요청이 최근 응답시간 p95(hedgePercentile)가 지나도록 응답이 없으면
+ *   다른 인스턴스로 요청을 하나 더 보내고 먼저 온 응답을 사용 (hedge 요청도 같은 예산을 사용)
+ * - 재시도/hedge가 가능하도록 이 필터 뒤의 필터들은 attempt마다 다시 실행됨
+ *   -> CacheFilter, CoalescingFilter, RequestRateLimiter 등은 이 필터보다 앞에 둘 것
+ */
+@Component
+@Slf4j
+public class ResilienceFilter extends AbstractGatewayFilterFactory<ResilienceFilter.Config> {
+    private final ResilienceRegistry registry;
+
+    public ResilienceFilter(ResilienceRegistry registry) {
+        super(Config.class);
+        this.registry = registry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "default";
+        RouteResilience route = registry.route(routeId, () -> new RouteResilience(routeId,
+                new CircuitBreaker(config.getWindowSize(), config.getMinimumCalls(), config.getFailureRateThreshold(),
+                        TimeUnit.MILLISECONDS.toNanos(config.getOpenDurationMs())),
+                new RetryBudget(config.getRetryBudgetPercent(), config.getRetryBudgetMax()),
+                new LatencyEstimator(config.getHedgePercentile())));
+
+        return (exchange, chain) -> {
+            if (!route.breaker().tryAcquire(registry.now())) {
+                registry.count(routeId, "short_circuited");
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                return response.setComplete();
+            }
+            route.budget().onRequest();
+
+            HttpMethod method = exchange.getRequest().getMethod();
+            if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+                // 멱등이 아닌 요청은 재시도/hedge 없이 route breaker에 결과만 기록
+                return chain.filter(exchange)
+                        .doOnSuccess(v -> record(route, exchange.getResponse().getStatusCode()))
+                        .doOnError(e -> route.breaker().onFailure(registry.now()));
+            }
+            return new Execution(exchange, chain, config, route).round(0);
+        };
+    }
+
+    private void record(RouteResilience route, HttpStatusCode status) {
+        if (status != null && status.is5xxServerError()) {
+            route.breaker().onFailure(registry.now());
+        } else {
+            route.breaker().onSuccess(registry.now());
+        }
+    }
+
+    /* 요청 하나의 attempt들 (첫 호출, hedge, 재시도) */
+    private final class Execution implements AttemptResponse.Arbiter {
+        private final ServerWebExchange exchange;
+        private final GatewayFilterChain chain;
+        private final Config config;
+        private final RouteResilience route;
+        private final AtomicReference<AttemptExchange> winner = new AtomicReference<>();
+        private final Sinks.One<AttemptExchange> winnerSink = Sinks.one();
+        // hedge와 첫 호출은 서로 다른 event loop에서 끝날 수 있으므로 동시 접근 가능한 컬렉션 사용
+        private final Set<String> excluded = ConcurrentHashMap.newKeySet();
+        private final Queue<AttemptExchange> failed = new ConcurrentLinkedQueue<>();
+        private volatile Throwable lastError;
+
+        Execution(ServerWebExchange exchange, GatewayFilterChain chain, Config config, RouteResilience route) {
+            this.exchange = exchange;
+            this.chain = chain;
+            this.config = config;
+            this.route = route;
+        }
+
+        @Override
+        public boolean tryWin(AttemptExchange attempt) {
+            if (!winner.compareAndSet(null, attempt)) {
+                return false;
+            }
+            winnerSink.tryEmitValue(attempt);
+            return true;
+        }
+
+        Mono<Void> round(int retry) {
+            AttemptExchange primary = newAttempt();
+            Sinks.One<Boolean> primaryDone = Sinks.one();
+            Mono<Void> attempts = run(primary).doFinally(signal -> primaryDone.tryEmitValue(true));
+
+            long hedgeDelay = hedgeDelayNanos();
+            if (retry == 0 && hedgeDelay > 0) {
+                // 첫 호출이 hedgeDelay 안에 끝나면(성공/실패 모두) hedge 요청은 보내지 않음
+                Mono<Void> hedge = Mono.delay(Duration.ofNanos(hedgeDelay))
+                        .takeUntilOther(primaryDone.asMono())
+                        .flatMap(tick -> {
+                            if (primary.getResponse().isDecided() || !route.budget().tryWithdraw()) {
+                                return Mono.empty();
+                            }
+                            registry.count(route.routeId(), "hedge");
+                            return run(newAttempt(primary));
+                        });
+                attempts = Mono.when(attempts, hedge);
+            }
+            return attempts.then(Mono.defer(() -> afterRound(retry)));
+        }
+
+        private Mono<Void> afterRound(int retry) {
+            AttemptExchange won = winner.get();
+            if (won != null) {
+                failed.forEach(AttemptExchange::release);
+                won.handOver(exchange);
+                route.latency().record(System.nanoTime() - won.startNanos());
+                record(route, won.getResponse().getStatusCode());
+                return Mono.empty();
+            }
+            if (retry < config.getMaxRetries() && route.budget().tryWithdraw()) {
+                registry.count(route.routeId(), "retry");
+                failed.forEach(AttemptExchange::release);
+                failed.clear();
+                return round(retry + 1);
+            }
+
+            // 재시도할 수 없음: 마지막 실패 응답(또는 오류)을 그대로 전달
+            route.breaker().onFailure(registry.now());
+            AttemptExchange last = null;
+            for (AttemptExchange attempt : failed) {
+                if (attempt.getResponse().outcome() == AttemptResponse.Outcome.FAILED) {
+                    if (last != null) last.release();
+                    last = attempt;
+                } else {
+                    attempt.release();
+                }
+            }
+            if (last != null) {
+                last.handOver(exchange);
+                return Mono.empty();
+            }
+            Throwable error = lastError != null ? lastError : new IllegalStateException("No attempt completed");
+            return Mono.error(error instanceof TimeoutException
+                    ? new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, error.getMessage(), error)
+                    : error);
+        }
+
+        /* attempt 체인은 upstream 응답 헤더를 받으면 끝나므로 timeout도 헤더 수신까지만 적용됨 */
+        private Mono<Void> run(AttemptExchange attempt) {
+            Mono<Void> call = chain.filter(attempt);
+            if (config.getTimeoutMs() > 0) {
+                call = call.timeout(Duration.ofMillis(config.getTimeoutMs()));
+            }
+            return call
+                    .then(Mono.fromRunnable(() -> decide(attempt)))
+                    // 다른 attempt가 이기면 이 attempt의 upstream 호출을 취소
+                    .takeUntilOther(winnerSink.asMono().flatMap(w -> w != attempt ? Mono.just(w) : Mono.never()))
+                    .then()
+                    .onErrorResume(e -> {
+                        if (attempt.getResponse().outcome() == AttemptResponse.Outcome.WON) {
+                            return Mono.error(e);  // 이미 응답을 쓰기 시작했다면 재시도할 수 없음
+                        }
+                        lastError = e;
+                        ServiceInstance instance = attempt.instance();
+                        if (e instanceof TimeoutException && instance != null) {
+                            // timeout은 취소로 끝나므로 UpstreamStatsFilter 대신 여기서 인스턴스 실패로 기록
+                            registry.instance(instance).onFailure(registry.now());
+                        }
+                        return Mono.empty();
+                    })
+                    // doFinally는 다음 round가 시작된 뒤에 실행되므로 완료 신호 전에 정리
+                    .then(Mono.<Void>fromRunnable(() -> settle(attempt)))
+                    .doOnCancel(attempt::release);
+        }
+
+        private void settle(AttemptExchange attempt) {
+            AttemptResponse.Outcome outcome = attempt.getResponse().outcome();
+            if (outcome == AttemptResponse.Outcome.WON) {
+                return;
+            }
+            ServiceInstance instance = attempt.instance();
+            if (instance != null && outcome != AttemptResponse.Outcome.LOST) {
+                excluded.add(ResilienceRegistry.key(instance));
+            }
+            if (outcome == AttemptResponse.Outcome.FAILED) {
+                failed.add(attempt);  // 재시도하지 못하면 이 응답을 그대로 전달
+            } else {
+                attempt.release();
+            }
+        }
+
+        private void decide(AttemptExchange attempt) {
+            AttemptResponse response = attempt.getResponse();
+            if (response.isDecided()) {
+                return;
+            }
+            HttpStatusCode status = response.getStatusCode();
+            if (status != null && config.getRetryStatuses().contains(status.value())) {
+                response.markFailed();
+            } else {
+                response.win();
+            }
+        }
+
+        private AttemptExchange newAttempt(AttemptExchange... others) {
+            Set<String> exclude = new HashSet<>(excluded);
+            for (AttemptExchange other : others) {
+                ServiceInstance instance = other.instance();
+                if (instance != null) {
+                    exclude.add(ResilienceRegistry.key(instance));
+                }
+            }
+            return new AttemptExchange(exchange, this, exclude, System.nanoTime());
+        }
+
+        private long hedgeDelayNanos() {
+            if (!config.isHedge()) {
+                return 0;
+            }
+            long estimate = route.latency().estimate();
+            long min = TimeUnit.MILLISECONDS.toNanos(config.getHedgeMinDelayMs());
+            return estimate < 0 ? -1 : Math.max(min, estimate);
+        }
+    }
+
+
+    @Data
+    public static class Config implements HasRouteId {
+        private String routeId;
+        private long timeoutMs = 3000;               // attempt마다 응답 헤더를 기다리는 시간 (0이면 제한 없음)
+        private int maxRetries = 1;                  // 요청 하나당 최대 재시도 횟수
+        private List<Integer> retryStatuses = new ArrayList<>(List.of(502, 503, 504));
+        private int retryBudgetPercent = 20;         // 재시도+hedge는 전체 요청의 20% 이내
+        private int retryBudgetMax = 10;             // 쌓아둘 수 있는 최대 재시도 토큰
+        private boolean hedge = false;               // GET/HEAD hedge 요청 사용 여부
+        private double hedgePercentile = 0.95;       // 이 percentile 응답시간이 지나면 hedge 요청
+        private long hedgeMinDelayMs = 10;           // hedge 지연시간 하한
+        private double failureRateThreshold = 50;    // route breaker: 실패 비율(%) 기준
+        private int windowSize = 50;                 // route breaker: 최근 호출 수
+        private int minimumCalls = 20;               // route breaker: 판단에 필요한 최소 호출 수
+        private long openDurationMs = 5000;          // route breaker: OPEN 유지 시간
+    }
+}
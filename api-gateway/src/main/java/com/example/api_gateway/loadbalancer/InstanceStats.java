@@ -0,0 +1,65 @@
+package com.example.api_gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * InstanceStats
+ * - 서비스 인스턴스 하나에 대한 부하 통계
+ * - inFlight: 현재 처리 중인 요청 수
+ * - peak EWMA: 지수 가중 이동 평균 응답 시간. 평균보다 느린 응답이 오면 즉시 그 값으로 올라가고(peak),
+ *   빠른 응답은 시간 경과에 따라 천천히 반영됨 -> 느려진 인스턴스를 빠르게 피하고 천천히 복귀시킴
+ */
+public class InstanceStats {
+    // 측정값이 없는 인스턴스에 요청이 몰려 있을 때 부여하는 비용 (nanos)
+    private static final double PENALTY_NANOS = 1_000_000_000d;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final double decayNanos;
+
+    private double ewmaNanos;
+    private long stampNanos;
+
+    public InstanceStats(double decayNanos, long nowNanos) {
+        this.decayNanos = decayNanos;
+        this.stampNanos = nowNanos;
+    }
+
+    public void start() {
+        inFlight.incrementAndGet();
+    }
+
+    public void complete(long rttNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+        observe(rttNanos, nowNanos);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /* peak EWMA * (처리 중인 요청 수 + 1): 값이 작을수록 여유 있는 인스턴스 */
+    public double cost(long nowNanos) {
+        double ewma = observe(0, nowNanos);
+        int pending = inFlight.get();
+        if (ewma == 0 && pending != 0) {
+            return PENALTY_NANOS + pending;
+        }
+        return ewma * (pending + 1);
+    }
+
+    private synchronized double observe(double rttNanos, long nowNanos) {
+        long elapsed = Math.max(nowNanos - stampNanos, 0);
+        stampNanos = nowNanos;
+        double weight = Math.exp(-elapsed / decayNanos);
+        if (rttNanos > ewmaNanos) {
+            ewmaNanos = rttNanos;
+        } else {
+            ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+        return ewmaNanos;
+    }
+
+    public synchronized double ewmaNanos() {
+        return ewmaNanos;
+    }
+}
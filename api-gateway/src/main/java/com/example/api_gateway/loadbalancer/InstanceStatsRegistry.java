@@ -0,0 +1,74 @@
+package com.example.api_gateway.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * InstanceStatsRegistry
+ * - 인스턴스별 InstanceStats 보관소
+ * - UpstreamStatsFilter가 실제 upstream 호출 시간을 기록하고, LatencyAwareLoadBalancer가 읽어서 인스턴스를 고름
+ * - discovery 목록에서 빠진 인스턴스의 통계는 LatencyAwareLoadBalancer가 목록을 받을 때 정리 (retain)
+ */
+@Component
+public class InstanceStatsRegistry {
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, List<ServiceInstance>> lastSeen = new ConcurrentHashMap<>();
+    private final double decayNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public InstanceStatsRegistry(@Value("${gateway.loadbalancer.ewma-decay-ms:10000}") long decayMs) {
+        this(decayMs, System::nanoTime);
+    }
+
+    public InstanceStatsRegistry(long decayMs, LongSupplier clock) {
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMs);
+        this.clock = clock;
+    }
+
+    public InstanceStats get(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), k -> new InstanceStats(decayNanos, clock.getAsLong()));
+    }
+
+    /**
+     * serviceId의 현재 인스턴스 목록에 없는 통계를 제거
+     * - 목록이 이전 호출과 같은 객체이면(캐시된 목록) 바로 반환하므로 요청마다 호출해도 됨
+     */
+    public void retain(String serviceId, List<ServiceInstance> instances) {
+        if (lastSeen.put(serviceId, instances) == instances) {
+            return;
+        }
+        Set<String> current = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            current.add(key(instance));
+        }
+        String prefix = serviceId + "/";
+        stats.keySet().removeIf(key -> key.regionMatches(true, 0, prefix, 0, prefix.length()) && !current.contains(key));
+    }
+
+    int size() {
+        return stats.size();
+    }
+
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    static String key(ServiceInstance instance) {
+        String id = instance.getInstanceId();
+        if (id == null) {
+            id = instance.getHost() + ":" + instance.getPort();
+        }
+        return instance.getServiceId() + "/" + id;
+    }
+}
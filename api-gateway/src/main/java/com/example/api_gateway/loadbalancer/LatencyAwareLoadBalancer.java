@@ -0,0 +1,169 @@
+package com.example.api_gateway.loadbalancer;
+
+import com.example.api_gateway.resilience.ResilienceRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * LatencyAwareLoadBalancer
+ * - 기본 RoundRobinLoadBalancer 대신 사용하는 인스턴스 선택기
+ * - PEAK_EWMA: 무작위로 두 인스턴스를 뽑아 (peak EWMA 응답시간 * (처리 중 요청 + 1))이 작은 쪽 선택
+ * - LEAST_REQUESTS: 무작위로 두 인스턴스를 뽑아 처리 중 요청 수가 적은 쪽 선택
+ * - ROUND_ROBIN: 기존 동작과 동일
+ * - route metadata의 loadbalancer 값으로 route마다 방식을 바꿀 수 있음
+ *   (값마다 처음 한 번만 해석, 알 수 없는 값이면 경고를 한 번 남기고 기본 방식 사용)
+ * - circuit breaker가 OPEN인 인스턴스와 재시도/hedge 요청에서 제외를 요청한 인스턴스는 후보에서 뺌
+ *   (남는 인스턴스가 없으면 전체 목록에서 고름)
+ * - 인스턴스가 Eureka metadata로 게시한 부하가 한도를 넘으면(ReportedLoadPolicy) 다른 인스턴스를 먼저 고름
+ *   (모든 후보가 과부하이면 과부하 인스턴스 중에서 고름)
+ * - 인스턴스 목록을 받을 때마다 목록에서 빠진 인스턴스의 통계와 breaker를 정리 (InstanceStatsRegistry/ResilienceRegistry.retain)
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+    public static final String STRATEGY_METADATA_KEY = "loadbalancer";
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceStatsRegistry registry;
+    private final ResilienceRegistry resilience;
+    private final ReportedLoadPolicy loadPolicy;
+    private final LoadBalancingStrategy defaultStrategy;
+    private final Map<Object, LoadBalancingStrategy> routeStrategies = new ConcurrentHashMap<>();
+    private final AtomicInteger position = new AtomicInteger(ThreadLocalRandom.current().nextInt(1000));
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId,
+                                    InstanceStatsRegistry registry, ResilienceRegistry resilience,
+                                    ReportedLoadPolicy loadPolicy, LoadBalancingStrategy defaultStrategy) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.registry = registry;
+        this.resilience = resilience;
+        this.loadPolicy = loadPolicy;
+        this.defaultStrategy = defaultStrategy;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        LoadBalancingStrategy strategy = strategyFor(request);
+        Set<?> excluded = excludedFor(request);
+        return supplier.get(request).next().map(instances -> {
+            registry.retain(serviceId, instances);
+            resilience.retain(serviceId, instances);
+            if (instances.isEmpty()) {
+                log.warn("No servers available for service: {}", serviceId);
+                return new EmptyResponse();
+            }
+            ServiceInstance chosen = select(available(instances, excluded), strategy);
+            resilience.instance(chosen).tryAcquire(resilience.now());
+            if (supplier instanceof SelectedInstanceCallback callback) {
+                callback.selectedServiceInstance(chosen);
+            }
+            return new DefaultResponse(chosen);
+        });
+    }
+
+    ServiceInstance select(List<ServiceInstance> instances, LoadBalancingStrategy strategy) {
+        int size = instances.size();
+        if (size == 1) {
+            return instances.get(0);
+        }
+        if (strategy == LoadBalancingStrategy.ROUND_ROBIN) {
+            return instances.get((position.incrementAndGet() & Integer.MAX_VALUE) % size);
+        }
+
+        // power of two choices: 전체를 정렬하지 않고 무작위 두 개만 비교
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return load(b, strategy) < load(a, strategy) ? b : a;
+    }
+
+    List<ServiceInstance> available(List<ServiceInstance> instances, Set<?> excluded) {
+        long now = resilience.now();
+        List<ServiceInstance> available = new ArrayList<>(instances.size());
+        List<ServiceInstance> notOverloaded = new ArrayList<>(instances.size());
+        List<ServiceInstance> notExcluded = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (excluded.contains(ResilienceRegistry.key(instance))) {
+                continue;
+            }
+            notExcluded.add(instance);
+            if (resilience.instance(instance).isCallPermitted(now)) {
+                available.add(instance);
+                if (!loadPolicy.isOverloaded(instance)) {
+                    notOverloaded.add(instance);
+                }
+            }
+        }
+        if (!notOverloaded.isEmpty()) return notOverloaded;
+        if (!available.isEmpty()) return available;
+        return notExcluded.isEmpty() ? instances : notExcluded;
+    }
+
+    private double load(ServiceInstance instance, LoadBalancingStrategy strategy) {
+        InstanceStats stats = registry.get(instance);
+        if (strategy == LoadBalancingStrategy.LEAST_REQUESTS) {
+            return stats.inFlight();
+        }
+        return stats.cost(registry.now());
+    }
+
+    private LoadBalancingStrategy strategyFor(Request request) {
+        if (attributes(request).get(GATEWAY_ROUTE_ATTR) instanceof Route route) {
+            Object value = route.getMetadata().get(STRATEGY_METADATA_KEY);
+            return value != null ? routeStrategies.computeIfAbsent(value, this::parseStrategy) : defaultStrategy;
+        }
+        return defaultStrategy;
+    }
+
+    private LoadBalancingStrategy parseStrategy(Object value) {
+        try {
+            return LoadBalancingStrategy.from(value, defaultStrategy);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown route metadata {}={} for service {}, using {}",
+                    STRATEGY_METADATA_KEY, value, serviceId, defaultStrategy);
+            return defaultStrategy;
+        }
+    }
+
+    private static Set<?> excludedFor(Request request) {
+        return attributes(request).get(ResilienceRegistry.EXCLUDED_INSTANCES_ATTR) instanceof Set<?> excluded
+                ? excluded : Set.of();
+    }
+
+    private static Map<String, Object> attributes(Request request) {
+        if (request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest().getAttributes() != null) {
+            return context.getClientRequest().getAttributes();
+        }
+        return Map.of();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.api_gateway.loadbalancer;
+
+import com.example.api_gateway.discovery.PushServiceInstanceListSupplier;
+import com.example.api_gateway.discovery.RegistryOverlay;
+import com.example.api_gateway.resilience.ResilienceRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * LoadBalancer 클라이언트(서비스)별 child context에 등록되는 설정
+ * - @Configuration을 붙이지 않음: component scan으로 main context에 등록되면 모든 서비스가 같은 Bean을 공유하게 됨
+ * - LoadBalancerConfig의 @LoadBalancerClients(defaultConfiguration)로만 사용
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(Environment env,
+                                                                         LoadBalancerClientFactory clientFactory,
+                                                                         InstanceStatsRegistry registry,
+                                                                         ResilienceRegistry resilience,
+                                                                         ReportedLoadPolicy loadPolicy) {
+        String serviceId = env.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        LoadBalancingStrategy defaultStrategy = LoadBalancingStrategy.from(
+                env.getProperty("gateway.loadbalancer.strategy"), LoadBalancingStrategy.ROUND_ROBIN);
+        return new LatencyAwareLoadBalancer(clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, registry, resilience, loadPolicy, defaultStrategy);
+    }
+
+    // discovery 결과(캐시 포함) 위에 eureka-server push 변경을 적용 (캐시 만료를 기다리지 않도록 캐시 바깥에 둠)
+    @Bean
+    public ServiceInstanceListSupplier pushAwareServiceInstanceListSupplier(ConfigurableApplicationContext context,
+                                                                           RegistryOverlay overlay) {
+        return new PushServiceInstanceListSupplier(
+                ServiceInstanceListSupplier.builder().withDiscoveryClient().withCaching().build(context), overlay);
+    }
+}
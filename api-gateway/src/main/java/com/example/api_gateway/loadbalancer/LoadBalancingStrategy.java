@@ -0,0 +1,30 @@
+package com.example.api_gateway.loadbalancer;
+
+import java.util.Locale;
+
+/**
+ * 인스턴스 선택 방식
+ * - route metadata(loadbalancer: peak-ewma) 또는 gateway.loadbalancer.strategy 속성으로 지정
+ */
+public enum LoadBalancingStrategy {
+    ROUND_ROBIN,
+    LEAST_REQUESTS,
+    PEAK_EWMA;
+
+    /**
+     * "peak-ewma", "PEAK_EWMA" 등 대소문자/구분자와 상관없이 변환 (기본 locale과 무관하게 Locale.ROOT 사용)
+     * @throws IllegalArgumentException 알 수 없는 값
+     */
+    public static LoadBalancingStrategy from(Object value, LoadBalancingStrategy defaultStrategy) {
+        if (value == null) {
+            return defaultStrategy;
+        }
+        String name = value.toString().trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        for (LoadBalancingStrategy strategy : values()) {
+            if (strategy.name().equals(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load balancing strategy: " + value);
+    }
+}
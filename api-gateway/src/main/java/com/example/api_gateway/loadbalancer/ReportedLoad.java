@@ -0,0 +1,38 @@
+package com.example.api_gateway.loadbalancer;
+
+/**
+ * 서비스 인스턴스가 Eureka metadata "load"로 게시한 부하 요약
+ * - 형식: i=처리 중 요청;p=최근 p99(ms);c=CPU 사용률(%);d=DB pool 사용률(%);t=측정 시각(epoch s)
+ * - 값을 알 수 없으면 -1
+ */
+public record ReportedLoad(int inFlight, long p99Ms, int cpuPercent, int dbPoolPercent, long timestampMillis) {
+
+    /* 형식이 맞지 않으면 null */
+    public static ReportedLoad parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        int inFlight = -1, cpu = -1, db = -1;
+        long p99 = -1, timestamp = -1;
+        try {
+            for (String field : value.split(";")) {
+                int eq = field.indexOf('=');
+                if (eq != 1) {
+                    continue;
+                }
+                long number = Long.parseLong(field, 2, field.length(), 10);
+                switch (field.charAt(0)) {
+                    case 'i' -> inFlight = (int) number;
+                    case 'p' -> p99 = number;
+                    case 'c' -> cpu = (int) number;
+                    case 'd' -> db = (int) number;
+                    case 't' -> timestamp = number * 1000;
+                    default -> { }
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return timestamp < 0 ? null : new ReportedLoad(inFlight, p99, cpu, db, timestamp);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.api_gateway.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * ReportedLoadPolicy
+ * - 인스턴스가 스스로 게시한 부하(ReportedLoad)로 과부하 여부를 판단
+ *   CPU 또는 DB pool 사용률이 한도 이상이거나, p99가 maxP99Ms 이상이면 과부하 (0 이하인 한도는 사용하지 않음)
+ * - maxAgeMs보다 오래된 값은 믿지 않음 (게시가 멈춘 인스턴스를 계속 피하지 않도록)
+ * - metadata 문자열이 바뀔 때만 다시 파싱
+ */
+@Component
+public class ReportedLoadPolicy {
+    public static final String METADATA_KEY = "load";
+
+    private final int maxCpuPercent;
+    private final int maxDbPoolPercent;
+    private final long maxP99Ms;
+    private final long maxAgeMs;
+    private final LongSupplier clock;
+    private final Map<String, Parsed> parsed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportedLoadPolicy(@Value("${gateway.loadbalancer.reported-load.max-cpu-percent:90}") int maxCpuPercent,
+                              @Value("${gateway.loadbalancer.reported-load.max-db-pool-percent:90}") int maxDbPoolPercent,
+                              @Value("${gateway.loadbalancer.reported-load.max-p99-ms:0}") long maxP99Ms,
+                              @Value("${gateway.loadbalancer.reported-load.max-age-ms:90000}") long maxAgeMs) {
+        this(maxCpuPercent, maxDbPoolPercent, maxP99Ms, maxAgeMs, System::currentTimeMillis);
+    }
+
+    public ReportedLoadPolicy(int maxCpuPercent, int maxDbPoolPercent, long maxP99Ms, long maxAgeMs, LongSupplier clock) {
+        this.maxCpuPercent = maxCpuPercent;
+        this.maxDbPoolPercent = maxDbPoolPercent;
+        this.maxP99Ms = maxP99Ms;
+        this.maxAgeMs = maxAgeMs;
+        this.clock = clock;
+    }
+
+    public boolean isOverloaded(ServiceInstance instance) {
+        ReportedLoad load = reported(instance);
+        if (load == null || clock.getAsLong() - load.timestampMillis() > maxAgeMs) {
+            return false;
+        }
+        return (maxCpuPercent > 0 && load.cpuPercent() >= maxCpuPercent)
+                || (maxDbPoolPercent > 0 && load.dbPoolPercent() >= maxDbPoolPercent)
+                || (maxP99Ms > 0 && load.p99Ms() >= maxP99Ms);
+    }
+
+    public ReportedLoad reported(ServiceInstance instance) {
+        String raw = instance.getMetadata() != null ? instance.getMetadata().get(METADATA_KEY) : null;
+        if (raw == null) {
+            return null;
+        }
+        String key = InstanceStatsRegistry.key(instance);
+        Parsed cached = parsed.get(key);
+        if (cached == null || !cached.raw().equals(raw)) {
+            cached = new Parsed(raw, ReportedLoad.parse(raw));
+            parsed.put(key, cached);
+        }
+        return cached.load();
+    }
+
+    record Parsed(String raw, ReportedLoad load) {
+    }
+}
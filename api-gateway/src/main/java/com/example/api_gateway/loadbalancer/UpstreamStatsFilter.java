@@ -0,0 +1,73 @@
+package com.example.api_gateway.loadbalancer;
+
+import com.example.api_gateway.resilience.CircuitBreaker;
+import com.example.api_gateway.resilience.ResilienceRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+
+/**
+ * UpstreamStatsFilter
+ * - lb:// route에서 인스턴스가 선택된 직후(ReactiveLoadBalancerClientFilter 다음)에 실행
+ * - 선택된 인스턴스의 처리 중 요청 수를 올리고, upstream 응답(헤더 수신)까지 걸린 시간을 기록
+ * - 취소(cancel)된 요청도 doFinally에서 처리 중 요청 수를 되돌림
+ * - 인스턴스 circuit breaker에 결과 기록: 5xx 응답과 오류는 실패, 취소는 기록하지 않음
+ */
+@Component
+public class UpstreamStatsFilter implements GlobalFilter, Ordered {
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    // upstream 응답까지 걸린 시간(nanos), RouteMetricsFilter가 읽어서 기록
+    public static final String UPSTREAM_NANOS_ATTR = UpstreamStatsFilter.class.getName() + ".upstreamNanos";
+
+    private final InstanceStatsRegistry registry;
+    private final ResilienceRegistry resilience;
+
+    public UpstreamStatsFilter(InstanceStatsRegistry registry, ResilienceRegistry resilience) {
+        this.registry = registry;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> lbResponse = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return chain.filter(exchange);
+        }
+
+        InstanceStats stats = registry.get(lbResponse.getServer());
+        CircuitBreaker breaker = resilience.instance(lbResponse.getServer());
+        long start = registry.now();
+        stats.start();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    long now = registry.now();
+                    stats.complete(now - start, now);
+                    exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, now - start);
+                    if (signal == SignalType.ON_ERROR) {
+                        breaker.onFailure(now);
+                    } else if (signal == SignalType.ON_COMPLETE) {
+                        HttpStatusCode status = exchange.getResponse().getStatusCode();
+                        if (status != null && status.is5xxServerError()) {
+                            breaker.onFailure(now);
+                        } else {
+                            breaker.onSuccess(now);
+                        }
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.api_gateway.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/gatewaylatency
+ * - route별, 상태 코드 클래스별 전체/upstream 지연시간 p50/p90/p99/p999(ms)와 처리 중 요청 수를 한 번에 보여줌
+ * - /actuator/gatewaylatency/{routeId} 로 route 하나만 조회
+ */
+@Component
+@Endpoint(id = "gatewaylatency")
+public class GatewayLatencyEndpoint {
+    private final RouteMetricsFilter metricsFilter;
+
+    public GatewayLatencyEndpoint(RouteMetricsFilter metricsFilter) {
+        this.metricsFilter = metricsFilter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> routes() {
+        Map<String, Object> result = new TreeMap<>();
+        for (RouteMetrics metrics : metricsFilter.routes()) {
+            result.put(metrics.routeId(), describe(metrics));
+        }
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> route(@Selector String routeId) {
+        for (RouteMetrics metrics : metricsFilter.routes()) {
+            if (metrics.routeId().equals(routeId)) {
+                return describe(metrics);
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Object> describe(RouteMetrics metrics) {
+        Map<String, Object> route = new LinkedHashMap<>();
+        route.put("inFlight", metrics.inFlight());
+        Map<String, Object> statuses = new LinkedHashMap<>();
+        for (int i = 0; i < RouteMetrics.STATUS_CLASSES.length; i++) {
+            Timer total = metrics.totalTimer(i);
+            if (total == null) {
+                continue;
+            }
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("total", summary(total));
+            Timer upstream = metrics.upstreamTimer(i);
+            if (upstream != null) {
+                status.put("upstream", summary(upstream));
+            }
+            statuses.put(RouteMetrics.STATUS_CLASSES[i], status);
+        }
+        route.put("status", statuses);
+        return route;
+    }
+
+    private static Map<String, Object> summary(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+        summary.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        ValueAtPercentile[] percentiles = snapshot.percentileValues();
+        for (int i = 0; i < percentiles.length && i < RouteMetrics.PERCENTILE_NAMES.length; i++) {
+            summary.put(RouteMetrics.PERCENTILE_NAMES[i] + "Ms", percentiles[i].value(TimeUnit.MILLISECONDS));
+        }
+        return summary;
+    }
+}
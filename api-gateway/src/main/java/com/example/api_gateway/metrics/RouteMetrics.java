@@ -0,0 +1,88 @@
+package com.example.api_gateway.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * RouteMetrics
+ * - route 하나의 지연시간/처리량 메트릭 묶음
+ * - 상태 코드 클래스(1xx ~ 5xx, 응답 없음)별 Timer를 배열로 보관하여 요청마다 태그 객체를 만들지 않음
+ * - Timer는 Micrometer의 HdrHistogram 기반 client-side percentile(p50/p90/p99/p999)을 계산함
+ */
+public class RouteMetrics {
+    static final String[] STATUS_CLASSES = {"none", "1xx", "2xx", "3xx", "4xx", "5xx"};
+    static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private final String routeId;
+    private final MeterRegistry registry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReferenceArray<Timer> totalTimers = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+    private final AtomicReferenceArray<Timer> upstreamTimers = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+    private final DistributionSummary requestBytes;
+    private final DistributionSummary responseBytes;
+
+    RouteMetrics(String routeId, MeterRegistry registry) {
+        this.routeId = routeId;
+        this.registry = registry;
+        Gauge.builder("gateway.route.inflight", inFlight, AtomicInteger::get)
+                .tag("route", routeId)
+                .register(registry);
+        this.requestBytes = DistributionSummary.builder("gateway.route.request.bytes")
+                .tag("route", routeId)
+                .baseUnit("bytes")
+                .register(registry);
+        this.responseBytes = DistributionSummary.builder("gateway.route.response.bytes")
+                .tag("route", routeId)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public String routeId() { return routeId; }
+    public int inFlight() { return inFlight.get(); }
+
+    void start(long requestBytes) {
+        inFlight.incrementAndGet();
+        if (requestBytes > 0) {
+            this.requestBytes.record(requestBytes);
+        }
+    }
+
+    void complete(int status, long totalNanos, long upstreamNanos, long responseBytes) {
+        inFlight.decrementAndGet();
+        int statusClass = statusClass(status);
+        timer(totalTimers, "gateway.route.total", statusClass).record(totalNanos, TimeUnit.NANOSECONDS);
+        if (upstreamNanos >= 0) {
+            timer(upstreamTimers, "gateway.route.upstream", statusClass).record(upstreamNanos, TimeUnit.NANOSECONDS);
+        }
+        this.responseBytes.record(responseBytes);
+    }
+
+    public Timer totalTimer(int statusClass) { return totalTimers.get(statusClass); }
+    public Timer upstreamTimer(int statusClass) { return upstreamTimers.get(statusClass); }
+
+    static int statusClass(int status) {
+        int statusClass = status / 100;
+        return statusClass >= 1 && statusClass <= 5 ? statusClass : 0;
+    }
+
+    private Timer timer(AtomicReferenceArray<Timer> timers, String name, int statusClass) {
+        Timer timer = timers.get(statusClass);
+        if (timer == null) {
+            // 같은 이름/태그의 Timer는 registry가 하나만 만들기 때문에 동시에 생성되어도 결과는 같음
+            timer = Timer.builder(name)
+                    .tag("route", routeId)
+                    .tag("status", STATUS_CLASSES[statusClass])
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry);
+            timers.set(statusClass, timer);
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.api_gateway.metrics;
+
+import com.example.api_gateway.loadbalancer.UpstreamStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * RouteMetricsFilter
+ * - 모든 route에 적용되는 메트릭 수집 필터 (가장 먼저 실행되고 가장 마지막에 끝남)
+ * - 전체 지연시간, upstream 지연시간(UpstreamStatsFilter 측정값), 처리 중 요청 수, 요청/응답 바이트 수를 기록
+ * - 결과는 /actuator/metrics(gateway.route.*)와 /actuator/gatewaylatency에서 확인
+ */
+@Component
+public class RouteMetricsFilter implements GlobalFilter, Ordered {
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    public RouteMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        RouteMetrics metrics = routes.computeIfAbsent(route.getId(), id -> new RouteMetrics(id, registry));
+        long start = System.nanoTime();
+        metrics.start(exchange.getRequest().getHeaders().getContentLength());
+
+        CountingResponse response = new CountingResponse(exchange);
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    Long upstreamNanos = exchange.getAttribute(UpstreamStatsFilter.UPSTREAM_NANOS_ATTR);
+                    metrics.complete(status != null ? status.value() : 0, System.nanoTime() - start,
+                            upstreamNanos != null ? upstreamNanos : -1, response.bytes.get());
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    public Collection<RouteMetrics> routes() {
+        return routes.values();
+    }
+
+    /* 응답 본문 바이트 수를 세는 decorator (본문은 그대로 전달), Netty event loop에서 세고 doFinally에서 읽음 */
+    private static final class CountingResponse extends ServerHttpResponseDecorator {
+        private final AtomicLong bytes = new AtomicLong();
+
+        CountingResponse(ServerWebExchange exchange) {
+            super(exchange.getResponse());
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body).map(inner ->
+                    Flux.from(inner).doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.api_gateway.ratelimit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.route.RouteDefinitionRouteLocator;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * InMemoryRateLimiter
+ * - RequestRateLimiter 필터에서 사용하는 RateLimiter 구현 (Redis 없이 Gateway JVM 안에서 동작)
+ * - route + client key 조합마다 token bucket 하나를 둠
+ * - token bucket은 GCRA 방식으로 구현: 버킷마다 "다음 토큰이 비는 시각(TAT)" long 하나만 두고 CAS로 갱신하므로 lock이 없음
+ * - 가득 찬(오래 사용되지 않은) 버킷은 지워도 동작이 같으므로 주기적으로 제거하고,
+ *   버킷 수가 maxBuckets에 도달하면 새 client는 route별 overflow 버킷을 함께 사용 -> 메모리 상한 보장
+ */
+@Component
+@Slf4j
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+    public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    public static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+
+    private static final String OVERFLOW_KEY = "\u0000overflow";
+
+    // route id -> (client key -> bucket): 요청마다 route+key 문자열을 만들지 않도록 2단계로 구성
+    private final Map<String, Map<String, Bucket>> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger bucketCount = new AtomicInteger();
+    private final int maxBuckets;
+    private final ScheduledExecutorService sweeper;
+    private final Config defaultConfig = new Config();
+
+    public InMemoryRateLimiter(ConfigurationService configurationService,
+                               @Value("${gateway.rate-limiter.max-buckets:100000}") int maxBuckets,
+                               @Value("${gateway.rate-limiter.sweep-interval-ms:10000}") long sweepIntervalMs) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.maxBuckets = maxBuckets;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limiter-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper.scheduleWithFixedDelay(this::evictIdleBuckets, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        return Mono.just(tryAcquire(routeId, id));
+    }
+
+    /* Reactor를 거치지 않는 동기 버전 (benchmark에서 직접 호출) */
+    public Response tryAcquire(String routeId, String id) {
+        Config config = loadConfiguration(routeId);
+        long now = System.nanoTime();
+        Bucket bucket = bucket(routeId, id, config);
+        long remaining = bucket.tryConsume(now);
+        return new Response(remaining >= 0, bucket.headers(Math.max(remaining, 0)));
+    }
+
+    Config loadConfiguration(String routeId) {
+        Config config = getConfig().get(routeId);
+        if (config == null) {
+            config = getConfig().get(RouteDefinitionRouteLocator.DEFAULT_FILTERS);
+        }
+        return config != null ? config : defaultConfig;
+    }
+
+    private Bucket bucket(String routeId, String id, Config config) {
+        Map<String, Bucket> buckets = routes.computeIfAbsent(routeId, k -> new ConcurrentHashMap<>());
+        Bucket bucket = buckets.get(id);
+        if (bucket != null && bucket.matches(config)) {
+            return bucket;
+        }
+        String key = bucket == null && bucketCount.get() >= maxBuckets ? OVERFLOW_KEY : id;
+        // 설정이 바뀐 경우(route 갱신) 새 버킷으로 교체
+        return buckets.compute(key, (k, existing) -> {
+            if (existing != null && existing.matches(config)) {
+                return existing;
+            }
+            if (existing == null) {
+                bucketCount.incrementAndGet();
+            }
+            return new Bucket(config);
+        });
+    }
+
+    /* TAT가 현재 시각보다 과거인 버킷은 토큰이 가득 찬 상태 -> 제거해도 다음 요청 결과가 같음 */
+    void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Map<String, Bucket> buckets : routes.values()) {
+            for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+                if (entry.getValue().isFull(now) && buckets.remove(entry.getKey(), entry.getValue())) {
+                    bucketCount.decrementAndGet();
+                    evicted++;
+                }
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Evicted {} idle rate limiter buckets, {} remaining", evicted, bucketCount.get());
+        }
+    }
+
+    int bucketCount() {
+        return bucketCount.get();
+    }
+
+    /**
+     * GCRA token bucket
+     * - interval: 토큰 하나가 채워지는 시간, tolerance: burstCapacity 만큼의 토큰이 채워지는 시간
+     * - tat(theoretical arrival time)가 now + tolerance를 넘지 않는 범위에서만 소비 허용
+     */
+    static final class Bucket {
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final long costNanos;
+        private final Config config;
+        private final String replenishRate;
+        private final String burstCapacity;
+        private final String requestedTokens;
+
+        Bucket(Config config) {
+            this.config = config;
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(config.getReplenishRate(), 1);
+            this.toleranceNanos = intervalNanos * Math.max(config.getBurstCapacity(), 1);
+            this.costNanos = intervalNanos * config.getRequestedTokens();
+            this.replenishRate = String.valueOf(config.getReplenishRate());
+            this.burstCapacity = String.valueOf(config.getBurstCapacity());
+            this.requestedTokens = String.valueOf(config.getRequestedTokens());
+        }
+
+        boolean matches(Config config) {
+            return this.config.equals(config);
+        }
+
+        /* 허용되면 남은 토큰 수, 거부되면 -1 */
+        long tryConsume(long now) {
+            while (true) {
+                long current = tat.get();
+                long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                long next = base + costNanos;
+                if (next - now > toleranceNanos) {
+                    return -1;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return (toleranceNanos - (next - now)) / intervalNanos;
+                }
+            }
+        }
+
+        Map<String, String> headers(long remaining) {
+            return Map.of(REMAINING_HEADER, String.valueOf(remaining),
+                    REPLENISH_RATE_HEADER, replenishRate,
+                    BURST_CAPACITY_HEADER, burstCapacity,
+                    REQUESTED_TOKENS_HEADER, requestedTokens);
+        }
+
+        boolean isFull(long now) {
+            long current = tat.get();
+            return current == Long.MIN_VALUE || current - now <= 0;
+        }
+    }
+
+    @Data
+    public static class Config {
+        private int replenishRate = 10;    // 초당 채워지는 토큰 수
+        private int burstCapacity = 20;    // 버킷 최대 토큰 수 (순간 허용량)
+        private int requestedTokens = 1;   // 요청 하나가 소비하는 토큰 수
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.api_gateway.resilience;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import reactor.netty.Connection;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+
+/**
+ * AttemptExchange
+ * - upstream 호출 한 번(attempt)을 위한 exchange
+ * - attributes를 원본에서 복사해 따로 가지므로 같은 요청의 여러 attempt(hedge)가 동시에 라우팅되어도 서로 간섭하지 않음
+ * - 응답은 AttemptResponse로 감싸서, 이 attempt가 선택되기 전까지는 실제 응답에 아무것도 쓰지 않음
+ * - 선택되지 않은 attempt의 upstream connection은 release()로 닫음 (본문을 읽지 않으므로)
+ */
+public class AttemptExchange extends ServerWebExchangeDecorator {
+    private final Map<String, Object> attributes;
+    private final AttemptResponse response;
+    private final long startNanos;
+
+    public AttemptExchange(ServerWebExchange delegate, AttemptResponse.Arbiter arbiter, Set<String> excludedInstances,
+                           long startNanos) {
+        super(delegate);
+        this.attributes = new ConcurrentHashMap<>(delegate.getAttributes());
+        if (!excludedInstances.isEmpty()) {
+            this.attributes.put(ResilienceRegistry.EXCLUDED_INSTANCES_ATTR, Set.copyOf(excludedInstances));
+        }
+        this.response = new AttemptResponse(delegate.getResponse(), arbiter, this);
+        this.startNanos = startNanos;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public AttemptResponse getResponse() {
+        return response;
+    }
+
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /* 이 attempt의 결과를 원본 exchange로 넘김: NettyWriteResponseFilter가 이 attempt의 connection에서 본문을 읽게 됨 */
+    public void handOver(ServerWebExchange target) {
+        target.getAttributes().putAll(attributes);
+        if (response.outcome() != AttemptResponse.Outcome.WON) {
+            response.copyTo(target.getResponse());
+        }
+    }
+
+    public void release() {
+        if (attributes.remove(CLIENT_RESPONSE_CONN_ATTR) instanceof Connection connection) {
+            connection.dispose();
+        }
+    }
+
+    /* load balancer가 고른 인스턴스 (아직 고르기 전이거나 lb:// route가 아니면 null) */
+    public ServiceInstance instance() {
+        Object lbResponse = attributes.get(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse instanceof Response<?> response && response.hasServer()
+                && response.getServer() instanceof ServiceInstance instance) {
+            return instance;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.api_gateway.resilience;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * AttemptResponse
+ * - attempt마다 상태 코드/헤더/쿠키를 따로 보관하는 응답 decorator
+ * - NettyRoutingFilter는 upstream 응답 헤더를 받으면 여기에 상태 코드와 헤더만 채우고 끝남
+ *   (본문은 체인 바깥쪽의 NettyWriteResponseFilter가 exchange attribute의 connection에서 읽어 씀)
+ * - 그래서 attempt 체인이 끝난 시점에 결과(WON/FAILED/LOST)를 정하고, 이긴 attempt만 실제 응답으로 옮김
+ * - 체인 안의 다른 필터가 직접 본문을 쓰는 경우(writeWith/setComplete)에는 그 시점에 승자 자리를 요청
+ */
+public class AttemptResponse extends ServerHttpResponseDecorator {
+    public enum Outcome { PENDING, WON, FAILED, LOST }
+
+    /* 같은 요청의 attempt들 중 실제 응답을 쓸 attempt 하나를 정함 */
+    public interface Arbiter {
+        boolean tryWin(AttemptExchange attempt);
+    }
+
+    private final Arbiter arbiter;
+    private final AttemptExchange attempt;
+    private final HttpHeaders headers = new HttpHeaders();
+    private final MultiValueMap<String, ResponseCookie> cookies = new LinkedMultiValueMap<>();
+    private final List<Supplier<? extends Mono<Void>>> commitActions = new ArrayList<>();
+    private volatile HttpStatusCode status;
+    private volatile Outcome outcome = Outcome.PENDING;
+
+    AttemptResponse(ServerHttpResponse delegate, Arbiter arbiter, AttemptExchange attempt) {
+        super(delegate);
+        this.arbiter = arbiter;
+        this.attempt = attempt;
+    }
+
+    public Outcome outcome() { return outcome; }
+    public boolean isDecided() { return outcome != Outcome.PENDING; }
+
+    public void markFailed() {
+        if (outcome == Outcome.PENDING) {
+            outcome = Outcome.FAILED;
+        }
+    }
+
+    /* 승자가 되면 상태 코드/헤더를 실제 응답으로 옮김, 이미 다른 attempt가 이겼다면 LOST */
+    public synchronized boolean win() {
+        if (outcome != Outcome.PENDING) {
+            return outcome == Outcome.WON;
+        }
+        if (!arbiter.tryWin(attempt)) {
+            outcome = Outcome.LOST;
+            return false;
+        }
+        outcome = Outcome.WON;
+        copyTo(getDelegate());
+        return true;
+    }
+
+    @Override
+    public boolean setStatusCode(HttpStatusCode status) {
+        if (outcome != Outcome.PENDING) return false;
+        this.status = status;
+        return true;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return status;
+    }
+
+    @Override
+    @Deprecated
+    public boolean setRawStatusCode(Integer value) {
+        return setStatusCode(value != null ? HttpStatusCode.valueOf(value) : null);
+    }
+
+    @Override
+    @Deprecated
+    public Integer getRawStatusCode() {
+        return status != null ? status.value() : null;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public MultiValueMap<String, ResponseCookie> getCookies() {
+        return cookies;
+    }
+
+    @Override
+    public void addCookie(ResponseCookie cookie) {
+        cookies.add(cookie.getName(), cookie);
+    }
+
+    @Override
+    public void beforeCommit(Supplier<? extends Mono<Void>> action) {
+        commitActions.add(action);
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return outcome != Outcome.PENDING;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (!win()) {
+            return Flux.from(body).doOnNext(DataBufferUtils::release).then();
+        }
+        return getDelegate().writeWith(body);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        if (!win()) {
+            return Flux.from(body).concatMap(Flux::from).doOnNext(DataBufferUtils::release).then();
+        }
+        return getDelegate().writeAndFlushWith(body);
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        return win() ? getDelegate().setComplete() : Mono.empty();
+    }
+
+    /* 이 attempt의 상태 코드/헤더/쿠키를 실제 응답으로 옮김 */
+    public void copyTo(ServerHttpResponse target) {
+        if (status != null) {
+            target.setStatusCode(status);
+        }
+        target.getHeaders().putAll(headers);
+        cookies.values().forEach(values -> values.forEach(target::addCookie));
+        commitActions.forEach(target::beforeCommit);
+    }
+}
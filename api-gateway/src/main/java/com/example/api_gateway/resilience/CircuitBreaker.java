@@ -0,0 +1,108 @@
+package com.example.api_gateway.resilience;
+
+/**
+ * CircuitBreaker
+ * - 최근 windowSize번 호출 중 실패 비율이 failureRateThreshold(%) 이상이면 OPEN
+ * - OPEN 상태에서는 openDurationNanos 동안 호출을 막고, 이후 HALF_OPEN에서 시험 호출 한 건만 허용
+ * - 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - 시간은 호출하는 쪽에서 전달(now, nanos)하여 테스트에서 가상 시계를 쓸 수 있도록 함
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+
+    // 최근 호출 결과 (true = 실패), 원형으로 덮어씀
+    private final boolean[] window;
+    private int position;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private long trialStartedAt;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationNanos) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationNanos;
+        this.window = new boolean[windowSize];
+    }
+
+    /* 호출을 보내도 되는지 확인만 함 (상태를 바꾸지 않음, load balancer 후보 필터링용) */
+    public synchronized boolean isCallPermitted(long now) {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> now - openedAt >= openDurationNanos;
+            // 시험 호출이 끝나지 않은 채 오래 지났다면(취소 등) 다음 시험 호출을 허용
+            case HALF_OPEN -> now - trialStartedAt >= openDurationNanos;
+        };
+    }
+
+    /* 실제로 호출을 보낼 때 호출: OPEN 기간이 끝났다면 HALF_OPEN으로 바꾸고 시험 호출로 기록 */
+    public synchronized boolean tryAcquire(long now) {
+        if (!isCallPermitted(now)) {
+            return false;
+        }
+        if (state != State.CLOSED) {
+            state = State.HALF_OPEN;
+            trialStartedAt = now;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long now) {
+        if (state == State.HALF_OPEN) {
+            reset();
+            state = State.CLOSED;
+            return;
+        }
+        record(false, now);
+    }
+
+    public synchronized void onFailure(long now) {
+        if (state == State.HALF_OPEN) {
+            open(now);
+            return;
+        }
+        record(true, now);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed, long now) {
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (calls == windowSize) {
+            if (window[position]) failures--;
+        } else {
+            calls++;
+        }
+        window[position] = failed;
+        if (failed) failures++;
+        position = (position + 1) % windowSize;
+
+        if (calls >= minimumCalls && failures * 100.0 / calls >= failureRateThreshold) {
+            open(now);
+        }
+    }
+
+    private void open(long now) {
+        reset();
+        state = State.OPEN;
+        openedAt = now;
+    }
+
+    private void reset() {
+        position = 0;
+        calls = 0;
+        failures = 0;
+    }
+}
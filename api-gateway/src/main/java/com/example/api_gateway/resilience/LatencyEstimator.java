@@ -0,0 +1,42 @@
+package com.example.api_gateway.resilience;
+
+import java.util.Arrays;
+
+/**
+ * LatencyEstimator
+ * - 최근 응답 시간 샘플(원형 버퍼)로 percentile 값을 추정 (hedge 지연시간 계산용)
+ * - 정렬은 RECOMPUTE_INTERVAL번 기록마다 한 번만 하고, 나머지 조회는 캐시된 값을 사용
+ */
+public class LatencyEstimator {
+    private static final int SIZE = 256;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final double percentile;
+    private final long[] samples = new long[SIZE];
+    private int count;
+    private int position;
+    private int sinceRecompute;
+    private volatile long estimate = -1;
+
+    public LatencyEstimator(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public synchronized void record(long nanos) {
+        samples[position] = nanos;
+        position = (position + 1) % SIZE;
+        if (count < SIZE) count++;
+        if (count >= MIN_SAMPLES && ++sinceRecompute >= RECOMPUTE_INTERVAL || count == MIN_SAMPLES) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            estimate = sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)];
+            sinceRecompute = 0;
+        }
+    }
+
+    /* 샘플이 부족하면 -1 */
+    public long estimate() {
+        return estimate;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.api_gateway.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ResilienceRegistry
+ * - route별 RouteResilience와 인스턴스별 CircuitBreaker 보관소
+ * - route가 다시 만들어져도(Eureka 갱신 등) breaker 상태와 재시도 예산이 유지되도록 filter 밖에 둠
+ * - 인스턴스 breaker는 UpstreamStatsFilter/ResilienceFilter가 결과를 기록하고 LatencyAwareLoadBalancer가 후보에서 제외할 때 사용
+ * - breaker 상태와 재시도/hedge 횟수를 Micrometer(gateway.resilience.*)로 노출
+ * - discovery 목록에서 빠진 인스턴스의 breaker(와 gauge)는 LatencyAwareLoadBalancer가 목록을 받을 때 정리 (retain)
+ */
+@Component
+public class ResilienceRegistry {
+    // hedge/재시도 요청에서 다시 고르지 않을 인스턴스 키 목록 (exchange attribute -> LoadBalancer RequestData)
+    public static final String EXCLUDED_INSTANCES_ATTR = ResilienceRegistry.class.getName() + ".excludedInstances";
+
+    private final Map<String, RouteResilience> routes = new ConcurrentHashMap<>();
+    private final Map<String, CircuitBreaker> instances = new ConcurrentHashMap<>();
+    private final Map<String, List<ServiceInstance>> lastSeen = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Supplier<CircuitBreaker> instanceBreakerFactory;
+
+    public ResilienceRegistry(MeterRegistry meterRegistry,
+                              @Value("${gateway.resilience.instance.window-size:20}") int windowSize,
+                              @Value("${gateway.resilience.instance.minimum-calls:10}") int minimumCalls,
+                              @Value("${gateway.resilience.instance.failure-rate-threshold:50}") double failureRateThreshold,
+                              @Value("${gateway.resilience.instance.open-duration-ms:10000}") long openDurationMs) {
+        this.meterRegistry = meterRegistry;
+        long openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.instanceBreakerFactory = () -> new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationNanos);
+    }
+
+    public RouteResilience route(String routeId, Supplier<RouteResilience> factory) {
+        return routes.computeIfAbsent(routeId, id -> register(factory.get()));
+    }
+
+    public CircuitBreaker instance(ServiceInstance instance) {
+        return instances.computeIfAbsent(key(instance), key -> {
+            CircuitBreaker breaker = instanceBreakerFactory.get();
+            Gauge.builder("gateway.resilience.breaker.state", breaker, b -> b.state().ordinal())
+                    .tag("kind", "instance")
+                    .tag("name", key)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    /**
+     * serviceId의 현재 인스턴스 목록에 없는 인스턴스 breaker를 제거
+     * - 목록이 이전 호출과 같은 객체이면(캐시된 목록) 바로 반환하므로 요청마다 호출해도 됨
+     */
+    public void retain(String serviceId, List<ServiceInstance> current) {
+        if (lastSeen.put(serviceId, current) == current) {
+            return;
+        }
+        Set<String> keys = new HashSet<>();
+        for (ServiceInstance instance : current) {
+            keys.add(key(instance));
+        }
+        String prefix = serviceId + "/";
+        instances.keySet().removeIf(key -> {
+            if (!key.regionMatches(true, 0, prefix, 0, prefix.length()) || keys.contains(key)) {
+                return false;
+            }
+            Gauge gauge = meterRegistry.find("gateway.resilience.breaker.state").tags("kind", "instance", "name", key).gauge();
+            if (gauge != null) {
+                meterRegistry.remove(gauge);
+            }
+            return true;
+        });
+    }
+
+    int instanceCount() {
+        return instances.size();
+    }
+
+    /* retry, hedge, short_circuited(route breaker OPEN으로 바로 거절) */
+    public void count(String routeId, String type) {
+        counters.computeIfAbsent(routeId + '/' + type, k -> Counter.builder("gateway.resilience.calls")
+                .tag("route", routeId)
+                .tag("type", type)
+                .register(meterRegistry)).increment();
+    }
+
+    public long now() {
+        return System.nanoTime();
+    }
+
+    public static String key(ServiceInstance instance) {
+        String id = instance.getInstanceId();
+        if (id == null) {
+            id = instance.getHost() + ":" + instance.getPort();
+        }
+        return instance.getServiceId() + "/" + id;
+    }
+
+    private RouteResilience register(RouteResilience route) {
+        Gauge.builder("gateway.resilience.breaker.state", route.breaker(), b -> b.state().ordinal())
+                .tag("kind", "route")
+                .tag("name", route.routeId())
+                .register(meterRegistry);
+        Gauge.builder("gateway.resilience.budget.tokens", route.budget(), RetryBudget::tokens)
+                .tag("route", route.routeId())
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.resilience.budget.rejected", route.budget(), RetryBudget::rejected)
+                .tag("route", route.routeId())
+                .register(meterRegistry);
+        return route;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.api_gateway.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RetryBudget
+ * - 재시도(및 hedge 요청)를 실제 트래픽의 일정 비율로 제한
+ * - 요청 하나가 들어올 때마다 percent/100 토큰을 적립하고, 재시도 한 번에 토큰 1개를 사용
+ * - 적립 한도(maxTokens)가 있어 장애 시 재시도가 트래픽을 percent% 이상 늘리지 못함
+ */
+public class RetryBudget {
+    private static final long TOKEN = 1000; // 정수 연산을 위해 토큰 1개 = 1000
+
+    private final long deposit;
+    private final long max;
+    private final AtomicLong balance;
+    private final LongAdder rejected = new LongAdder();
+
+    public RetryBudget(int percent, int maxTokens) {
+        this.deposit = TOKEN * percent / 100;
+        this.max = TOKEN * maxTokens;
+        this.balance = new AtomicLong(max);
+    }
+
+    public void onRequest() {
+        long current = balance.get();
+        while (current < max && !balance.compareAndSet(current, Math.min(max, current + deposit))) {
+            current = balance.get();
+        }
+    }
+
+    public boolean tryWithdraw() {
+        long current = balance.get();
+        while (current >= TOKEN) {
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+            current = balance.get();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public double tokens() {
+        return (double) balance.get() / TOKEN;
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+}
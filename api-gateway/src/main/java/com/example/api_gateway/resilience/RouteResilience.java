@@ -0,0 +1,7 @@
+package com.example.api_gateway.resilience;
+
+/**
+ * route 하나의 resilience 상태: route 단위 circuit breaker, 재시도 예산, hedge 지연시간 추정기
+ */
+public record RouteResilience(String routeId, CircuitBreaker breaker, RetryBudget budget, LatencyEstimator latency) {
+}
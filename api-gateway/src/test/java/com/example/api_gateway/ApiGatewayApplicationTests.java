@@ -3,7 +3,7 @@ package com.example.api_gateway;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "token.secret=test-token-secret-0123456789abcdef0123456789")
 class ApiGatewayApplicationTests {
 
 	@Test
@@ -0,0 +1,29 @@
+package com.example.api_gateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * 서비스 간 내부 API(/{service}/internal/**)는 upstream으로 전달하지 않고 404로 응답
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "token.secret=test-token-secret-0123456789abcdef0123456789")
+@AutoConfigureWebTestClient
+class InternalRouteTests {
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Test
+    void internalApisAreNotRouted() {
+        webTestClient.post().uri("/user-service/internal/user-cache/invalidations")
+                .bodyValue("[\"user-1\"]")
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.post().uri("/order-service/internal/order-summaries/rebuild")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
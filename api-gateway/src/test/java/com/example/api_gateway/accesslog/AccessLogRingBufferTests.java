@@ -0,0 +1,61 @@
+package com.example.api_gateway.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTests {
+
+    @Test
+    void dropsWhenFullInsteadOfBlocking() {
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(1, buffer.dropped());
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(5));
+        assertEquals(1, buffer.poll());
+    }
+
+    @Test
+    void deliversEveryRecordFromConcurrentProducers() throws Exception {
+        int producers = 8;
+        int perProducer = 10_000;
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            Integer item = buffer.poll();
+            if (item != null) {
+                assertTrue(received.add(item));
+            }
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNull(buffer.poll());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.api_gateway.composite;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserOverviewServiceTests {
+    private final Map<String, Duration> delays = new ConcurrentHashMap<>();
+    private final AtomicInteger catalogCalls = new AtomicInteger();
+    private final List<URI> requested = new CopyOnWriteArrayList<>();
+    private final List<String> orders = new CopyOnWriteArrayList<>(List.of(
+            "{\"productId\":\"CATALOG-001\",\"qty\":2,\"orderId\":\"o1\"}",
+            "{\"productId\":\"CATALOG-404\",\"qty\":1,\"orderId\":\"o2\"}"));
+
+    private final ExchangeFunction upstream = request -> {
+        requested.add(request.url());
+        String path = request.url().getPath();
+        String body;
+        String nextCursor = null;
+        if (path.startsWith("/user-service/")) {
+            body = "{\"email\":\"a@b.com\",\"name\":\"kim\",\"userId\":\"u1\",\"orders\":[]}";
+        } else if (path.startsWith("/order-service/")) {
+            // order-service처럼 limit건씩 반환, 남은 주문이 있으면 X-Next-Cursor(여기서는 offset)를 붙임
+            MultiValueMap<String, String> query = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+            int offset = Integer.parseInt(query.getOrDefault("cursor", List.of("0")).get(0));
+            int end = Math.min(orders.size(), offset + Integer.parseInt(query.getFirst("limit")));
+            body = "[" + String.join(",", orders.subList(offset, end)) + "]";
+            nextCursor = end < orders.size() ? String.valueOf(end) : null;
+        } else {
+            catalogCalls.incrementAndGet();
+            body = "[{\"productId\":\"CATALOG-001\",\"productName\":\"Berlin\",\"unitPrice\":1500}]";
+        }
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body);
+        if (nextCursor != null) {
+            builder.header(UserOverviewService.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        ClientResponse response = builder.build();
+        Duration delay = delays.getOrDefault(request.url().getHost(), Duration.ZERO);
+        return Mono.delay(delay).thenReturn(response);
+    };
+
+    private UserOverviewService service() {
+        return new UserOverviewService(WebClient.builder().exchangeFunction(upstream),
+                (request, next) -> next.exchange(request), 200, 200, 2, 100, 60_000);
+    }
+
+    @Test
+    void joinsOrdersWithCatalogAndReusesCatalogSnapshot() {
+        UserOverviewService service = service();
+
+        ResponseUserOverview overview = service.overview("u1").block();
+        assertFalse(overview.isPartial());
+        assertEquals("kim", overview.getUser().getName());
+        assertEquals(2, overview.getOrders().size());
+        assertEquals("Berlin", overview.getOrders().get(0).getCatalog().getProductName());
+        assertNull(overview.getOrders().get(1).getCatalog());
+
+        service.overview("u1").block();
+        assertEquals(1, catalogCalls.get());
+    }
+
+    @Test
+    void returnsPartialResultWhenLegTimesOut() {
+        // 첫 호출의 초기화 비용(Jackson, Reactor 등)이 시간 측정에 섞이지 않도록 미리 한 번 호출
+        service().overview("u1").block();
+        delays.put("catalog-service", Duration.ofSeconds(5));
+        delays.put("user-service", Duration.ofSeconds(5));
+
+        long start = System.nanoTime();
+        ResponseUserOverview overview = service().overview("u1").block();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(overview.isPartial());
+        assertNull(overview.getUser());
+        assertEquals(2, overview.getOrders().size());
+        assertEquals(Map.of("user", "timeout", "catalog", "timeout"), overview.getFailures());
+        // 세 leg가 동시에 실행되므로 가장 긴 timeout(200ms) 근처에서 끝남
+        assertTrue(elapsedMs < 1000, "took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void slowOrdersDoNotFailUserLeg() {
+        delays.put("order-service", Duration.ofSeconds(5));
+
+        ResponseUserOverview overview = service().overview("u1").block();
+
+        assertTrue(overview.isPartial());
+        assertEquals("kim", overview.getUser().getName());
+        assertNull(overview.getOrders());
+        assertEquals(Map.of("orders", "timeout"), overview.getFailures());
+        // user-service는 주문을 다시 조회하지 않음
+        URI userRequest = requested.stream().filter(uri -> uri.getHost().equals("user-service")).findFirst().orElseThrow();
+        assertEquals("includeOrders=false", userRequest.getQuery());
+    }
+
+    @Test
+    void followsNextCursorAcrossOrderPages() {
+        for (int i = 3; i <= 5; i++) {
+            orders.add("{\"productId\":\"CATALOG-001\",\"qty\":1,\"orderId\":\"o" + i + "\"}");
+        }
+
+        ResponseUserOverview overview = service().overview("u1").block();
+
+        assertFalse(overview.isPartial());
+        assertEquals(List.of("o1", "o2", "o3", "o4", "o5"),
+                overview.getOrders().stream().map(ResponseOrder::getOrderId).toList());
+        // page-size(2)씩 세 페이지
+        assertEquals(3, requested.stream().filter(uri -> uri.getHost().equals("order-service")).count());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.api_gateway.discovery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistryEventSubscriberTests {
+    private final RegistryOverlay overlay = new RegistryOverlay(new SimpleMeterRegistry(), 60_000);
+    private final RegistryEventSubscriber subscriber = new RegistryEventSubscriber(WebClient.builder(), overlay,
+            false, "http://127.0.0.1:8761/registry-events", 1000, 30000);
+
+    @Test
+    void resyncReplacesLastEventIdSoRestartedServerIsNotAskedForOldSequence() {
+        RegistryEvent event = new RegistryEvent(41, RegistryEvent.Type.CANCELLED, "USER-SERVICE", "a", null, 0, false,
+                null, Map.of(), System.currentTimeMillis());
+        subscriber.onEvent(ServerSentEvent.builder(event).id("41").event("CANCELLED").build());
+        assertEquals("41", subscriber.lastEventId());
+        assertEquals(1, overlay.pending());
+
+        // 재시작한 서버(sequence 0)가 RESYNC를 보냄
+        subscriber.onEvent(ServerSentEvent.<RegistryEvent>builder().id("0").event("RESYNC").build());
+        assertEquals("0", subscriber.lastEventId());
+        assertEquals(0, overlay.pending());
+
+        subscriber.onEvent(ServerSentEvent.<RegistryEvent>builder().event("RESYNC").build());
+        assertNull(subscriber.lastEventId());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.api_gateway.discovery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistryOverlayTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RegistryOverlay overlay = new RegistryOverlay(meterRegistry, 60_000);
+
+    private final ServiceInstance a = new DefaultServiceInstance("a", "USER-SERVICE", "10.0.0.1", 8080, false);
+    private final ServiceInstance b = new DefaultServiceInstance("b", "USER-SERVICE", "10.0.0.2", 8080, false);
+
+    @Test
+    void appliesPushedChangesUntilPullCatchesUp() {
+        long now = System.currentTimeMillis();
+        overlay.apply(new RegistryEvent(1, RegistryEvent.Type.CANCELLED, "USER-SERVICE", "a", null, 0, false, null, Map.of(), now));
+        overlay.apply(new RegistryEvent(2, RegistryEvent.Type.REGISTERED, "USER-SERVICE", "c", "10.0.0.3", 8080, false, "UP", Map.of(), now));
+
+        // fetch 결과는 아직 a가 살아 있고 c가 없는 상태
+        List<ServiceInstance> merged = overlay.merge("user-service", List.of(a, b));
+        assertEquals(List.of("b", "c"), merged.stream().map(ServiceInstance::getInstanceId).toList());
+        assertEquals(2, overlay.pending());
+
+        // fetch 결과가 따라잡으면 push 변경은 지우고 pull 지연을 기록
+        ServiceInstance c = new DefaultServiceInstance("c", "USER-SERVICE", "10.0.0.3", 8080, false);
+        assertEquals(List.of(b, c), overlay.merge("user-service", List.of(b, c)));
+        assertEquals(0, overlay.pending());
+        assertEquals(2, meterRegistry.get("gateway.discovery.pull.lag").timer().count());
+        assertEquals(2, meterRegistry.get("gateway.discovery.push.lag").timer().count());
+    }
+
+    @Test
+    void downInstanceIsRemovedAndOtherServicesAreUntouched() {
+        overlay.apply(new RegistryEvent(1, RegistryEvent.Type.REGISTERED, "USER-SERVICE", "b", "10.0.0.2", 8080, false,
+                "DOWN", Map.of(), System.currentTimeMillis()));
+
+        assertEquals(List.of(a), overlay.merge("USER-SERVICE", List.of(a, b)));
+        assertEquals(List.of(a, b), overlay.merge("ORDER-SERVICE", List.of(a, b)));
+
+        overlay.clear();
+        assertEquals(List.of(a, b), overlay.merge("USER-SERVICE", List.of(a, b)));
+    }
+}
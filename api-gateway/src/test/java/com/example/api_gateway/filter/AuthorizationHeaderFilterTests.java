@@ -0,0 +1,77 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.auth.TokenVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorizationHeaderFilterTests {
+    private static final String SECRET = "test-token-secret-0123456789abcdef0123456789";
+
+    private final TokenVerifier verifier = new TokenVerifier(SECRET, 100);
+    private final GatewayFilter filter = new AuthorizationHeaderFilter(verifier).apply(new AuthorizationHeaderFilter.Config());
+    private final AtomicReference<String> forwardedUserId = new AtomicReference<>();
+
+    private final GatewayFilterChain upstream = exchange -> {
+        forwardedUserId.set(exchange.getRequest().getHeaders().getFirst(AuthorizationHeaderFilter.USER_ID_HEADER));
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+    };
+
+    @Test
+    void forwardsUserIdFromValidTokenAndCachesClaims() {
+        String token = token(SECRET, "user-1", 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/user-service/users")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .header(AuthorizationHeaderFilter.USER_ID_HEADER, "spoofed"));
+            filter.filter(exchange, upstream).block();
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+            assertEquals("user-1", forwardedUserId.get());
+        }
+        assertEquals(1, verifier.misses());
+        assertEquals(2, verifier.hits());
+    }
+
+    @Test
+    void rejectsMissingForgedAndExpiredTokens() {
+        assertUnauthorized(null);
+        assertUnauthorized("Bearer " + token("another-secret-0123456789abcdef0123456789", "user-1", 60_000));
+        assertUnauthorized("Bearer " + token(SECRET, "user-1", -1_000));
+        assertNull(forwardedUserId.get());
+    }
+
+    private void assertUnauthorized(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/user-service/users");
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, upstream).block();
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+
+    private static String token(String secret, String userId, long validMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(userId)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + validMillis))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
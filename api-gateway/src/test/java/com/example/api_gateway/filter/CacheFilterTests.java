@@ -0,0 +1,98 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.cache.ResponseCacheRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheFilterTests {
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = "[{\"productId\":\"CATALOG-001\"}]".getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    };
+
+    @Test
+    void servesRepeatedGetFromCacheAndRevalidatesWithEtag() {
+        CacheFilter.Config config = new CacheFilter.Config();
+        config.setRouteId("catalog-service");
+        GatewayFilter filter = new CacheFilter(new ResponseCacheRegistry(new SimpleMeterRegistry())).apply(config);
+
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/catalog-service/catalogs"));
+        filter.filter(first, upstream).block();
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(CacheFilter.CACHE_STATUS_HEADER));
+        String etag = first.getResponse().getHeaders().getETag();
+        assertNotNull(etag);
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/catalog-service/catalogs"));
+        filter.filter(second, upstream).block();
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(CacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("[{\"productId\":\"CATALOG-001\"}]", second.getResponse().getBodyAsString().block());
+
+        MockServerWebExchange revalidate = MockServerWebExchange.from(MockServerHttpRequest.get("/catalog-service/catalogs")
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(revalidate, upstream).block();
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidate.getResponse().getStatusCode());
+
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void doesNotStorePrivateOrNoStoreResponses() {
+        GatewayFilterChain privateUpstream = exchange -> {
+            exchange.getResponse().getHeaders().setCacheControl("private, max-age=60");
+            return upstream.filter(exchange);
+        };
+        CacheFilter.Config config = new CacheFilter.Config();
+        config.setRouteId("user-service");
+        GatewayFilter filter = new CacheFilter(new ResponseCacheRegistry(new SimpleMeterRegistry())).apply(config);
+
+        for (int i = 0; i < 2; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/user-service/users/1"));
+            filter.filter(exchange, privateUpstream).block();
+            assertEquals("[{\"productId\":\"CATALOG-001\"}]", exchange.getResponse().getBodyAsString().block());
+            assertNull(exchange.getResponse().getHeaders().getFirst(CacheFilter.CACHE_STATUS_HEADER));
+        }
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void streamsBodiesLargerThanLimitWithoutCaching() {
+        GatewayFilterChain chunkedUpstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().writeWith(Flux.range(0, 10).map(i ->
+                    exchange.getResponse().bufferFactory().wrap(("chunk-" + i + ";").getBytes(StandardCharsets.UTF_8))));
+        };
+        CacheFilter.Config config = new CacheFilter.Config();
+        config.setRouteId("catalog-service");
+        config.setMaxBodyBytes(20);
+        GatewayFilter filter = new CacheFilter(new ResponseCacheRegistry(new SimpleMeterRegistry())).apply(config);
+
+        for (int i = 0; i < 2; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/catalog-service/catalogs"));
+            filter.filter(exchange, chunkedUpstream).block();
+            assertEquals("chunk-0;chunk-1;chunk-2;chunk-3;chunk-4;chunk-5;chunk-6;chunk-7;chunk-8;chunk-9;",
+                    exchange.getResponse().getBodyAsString().block());
+            assertNull(exchange.getResponse().getHeaders().getETag());
+        }
+        assertEquals(2, upstreamCalls.get());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.api_gateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingFilterTests {
+
+    @Test
+    void concurrentIdenticalGetsShareOneUpstreamCall() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        GatewayFilterChain slowUpstream = exchange -> Mono.delay(Duration.ofMillis(200)).then(Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+
+        CoalescingFilter.Config config = new CoalescingFilter.Config();
+        config.setRouteId("catalog-service");
+        GatewayFilter filter = new CoalescingFilter().apply(config);
+
+        List<MockServerWebExchange> exchanges = IntStream.range(0, 10)
+                .mapToObj(i -> MockServerWebExchange.from(MockServerHttpRequest.get("/catalog-service/catalogs")))
+                .toList();
+        Flux.fromIterable(exchanges)
+                .flatMap(exchange -> filter.filter(exchange, slowUpstream))
+                .blockLast(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        for (MockServerWebExchange exchange : exchanges) {
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+            assertEquals("[]", exchange.getResponse().getBodyAsString().block());
+        }
+        assertEquals(9, exchanges.stream()
+                .filter(e -> e.getResponse().getHeaders().containsKey(CoalescingFilter.COALESCED_HEADER))
+                .count());
+    }
+
+    @Test
+    void releasesFollowersAsSoonAsLeaderBodyExceedsLimit() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        AtomicBoolean leaderFinished = new AtomicBoolean();
+        AtomicBoolean followerCalledEarly = new AtomicBoolean();
+        GatewayFilterChain largeUpstream = exchange -> {
+            if (upstreamCalls.incrementAndGet() > 1) {
+                followerCalledEarly.set(!leaderFinished.get());
+            }
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            DataBufferFactory factory = exchange.getResponse().bufferFactory();
+            return exchange.getResponse().writeWith(Flux.concat(
+                    Mono.fromSupplier(() -> factory.wrap("0123456789".getBytes(StandardCharsets.UTF_8))),
+                    Mono.delay(Duration.ofMillis(300)).map(i -> factory.wrap("end".getBytes(StandardCharsets.UTF_8)))));
+        };
+
+        CoalescingFilter.Config config = new CoalescingFilter.Config();
+        config.setRouteId("catalog-service");
+        config.setMaxBodyBytes(4);
+        GatewayFilter filter = new CoalescingFilter().apply(config);
+
+        MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get("/catalog-service/catalogs"));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("/catalog-service/catalogs"));
+        Mono.when(
+                filter.filter(leader, largeUpstream).doFinally(signal -> leaderFinished.set(true)),
+                Mono.delay(Duration.ofMillis(50)).then(filter.filter(follower, largeUpstream))
+        ).block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+        assertTrue(followerCalledEarly.get());
+        assertEquals("0123456789end", leader.getResponse().getBodyAsString().block());
+        assertEquals("0123456789end", follower.getResponse().getBodyAsString().block());
+        assertFalse(follower.getResponse().getHeaders().containsKey(CoalescingFilter.COALESCED_HEADER));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.cache.ResponseCacheRegistry;
+import com.example.api_gateway.compression.CompressionMetrics;
+import com.example.api_gateway.compression.ContentEncoding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionFilterTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    // 주문 목록처럼 여러 조각(chunked)으로 오는 JSON 응답
+    private final String orders = "[" + String.join(",", Collections.nCopies(200,
+            "{\"productId\":\"CATALOG-001\",\"qty\":10,\"unitPrice\":1500}")) + "]";
+
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = orders.getBytes(StandardCharsets.UTF_8);
+        int half = body.length / 2;
+        return exchange.getResponse().writeWith(Flux.just(
+                exchange.getResponse().bufferFactory().wrap(Arrays.copyOfRange(body, 0, half)),
+                exchange.getResponse().bufferFactory().wrap(Arrays.copyOfRange(body, half, body.length))));
+    };
+
+    @Test
+    void negotiatesEncodingByQuality() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate(List.of("gzip, deflate, br")));
+        assertEquals(ContentEncoding.DEFLATE, ContentEncoding.negotiate(List.of("gzip;q=0.5, deflate")));
+        assertNull(ContentEncoding.negotiate(List.of("br, identity")));
+        assertNull(ContentEncoding.negotiate(List.of("gzip;q=0")));
+    }
+
+    @Test
+    void streamsGzipAndReusesCompressedCacheEntry() throws IOException {
+        GatewayFilter compression = compressionFilter(new CompressionFilter.Config());
+        CacheFilter.Config cacheConfig = new CacheFilter.Config();
+        cacheConfig.setRouteId("order-service");
+        GatewayFilter cache = new CacheFilter(new ResponseCacheRegistry(meterRegistry)).apply(cacheConfig);
+        GatewayFilterChain chain = exchange -> cache.filter(exchange, upstream);
+
+        MockServerWebExchange miss = get("gzip, deflate");
+        compression.filter(miss, chain).block();
+        assertEquals("gzip", miss.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(miss.getResponse().getHeaders().getETag().startsWith("W/"));
+        byte[] missBody = body(miss);
+        assertTrue(missBody.length < orders.length() / 5, "compressed=" + missBody.length);
+        assertEquals(orders, gunzip(missBody));
+
+        MockServerWebExchange hit = get("gzip");
+        compression.filter(hit, chain).block();
+        assertEquals("HIT", hit.getResponse().getHeaders().getFirst(CacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("gzip", hit.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(orders, gunzip(body(hit)));
+
+        MockServerWebExchange deflate = get("deflate");
+        compression.filter(deflate, chain).block();
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(body(deflate)))) {
+            assertEquals(orders, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(2, meterRegistry.get("gateway.compression.responses").tag("result", "precompressed").counter().count());
+        assertEquals(1, meterRegistry.get("gateway.compression.responses").tag("result", "compressed").counter().count());
+        assertTrue(meterRegistry.get("gateway.compression.ratio").summary().mean() < 0.2);
+    }
+
+    @Test
+    void skipsResponsesBelowThreshold() {
+        CompressionFilter.Config config = new CompressionFilter.Config();
+        config.setMinSize(orders.length() + 1);
+        MockServerWebExchange exchange = get("gzip");
+        exchange.getResponse().getHeaders().setContentLength(orders.length());
+        compressionFilter(config).filter(exchange, upstream).block();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(orders, exchange.getResponse().getBodyAsString().block());
+    }
+
+    private GatewayFilter compressionFilter(CompressionFilter.Config config) {
+        config.setRouteId("order-service");
+        return new CompressionFilter(new CompressionMetrics(meterRegistry)).apply(config);
+    }
+
+    private static MockServerWebExchange get(String acceptEncoding) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/order-service/orders")
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding));
+    }
+
+    private static byte[] body(MockServerWebExchange exchange) {
+        DataBuffer joined = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        return bytes;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
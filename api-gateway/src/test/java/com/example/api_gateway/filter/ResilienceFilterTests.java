@@ -0,0 +1,116 @@
+package com.example.api_gateway.filter;
+
+import com.example.api_gateway.resilience.ResilienceRegistry;
+import com.example.api_gateway.resilience.RouteResilience;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * upstream 대신 상태 코드만 채우는 stub 체인으로 재시도/hedge/재시도 예산 동작 확인
+ * (NettyRoutingFilter처럼 응답 헤더를 받으면 체인이 끝나는 방식)
+ */
+class ResilienceFilterTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResilienceRegistry registry = new ResilienceRegistry(meterRegistry, 20, 10, 50, 10_000);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private GatewayFilter filter(ResilienceFilter.Config config) {
+        config.setRouteId("order-service");
+        return new ResilienceFilter(registry).apply(config);
+    }
+
+    private GatewayFilterChain respond(HttpStatus... statuses) {
+        return exchange -> {
+            int call = upstreamCalls.getAndIncrement();
+            exchange.getResponse().setStatusCode(statuses[Math.min(call, statuses.length - 1)]);
+            return Mono.empty();
+        };
+    }
+
+    private double count(String type) {
+        var counter = meterRegistry.find("gateway.resilience.calls").tag("type", type).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void retries503OnceForGetButNeverForPost() {
+        GatewayFilter filter = filter(new ResilienceFilter.Config());
+
+        MockServerWebExchange get = MockServerWebExchange.from(MockServerHttpRequest.get("/order-service/user-1/orders"));
+        filter.filter(get, respond(HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.OK)).block(Duration.ofSeconds(5));
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(HttpStatus.OK, get.getResponse().getStatusCode());
+
+        upstreamCalls.set(0);
+        MockServerWebExchange post = MockServerWebExchange.from(MockServerHttpRequest.post("/order-service/user-1/orders"));
+        filter.filter(post, respond(HttpStatus.SERVICE_UNAVAILABLE)).block(Duration.ofSeconds(5));
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, post.getResponse().getStatusCode());
+        assertEquals(1, count("retry"));
+    }
+
+    @Test
+    void hedgesSlowGetAndCancelsTheLosingAttempt() {
+        ResilienceFilter.Config config = new ResilienceFilter.Config();
+        config.setHedge(true);
+        GatewayFilter filter = filter(config);
+        // 최근 응답시간 p95 = 20ms
+        RouteResilience route = registry.route("order-service", () -> null);
+        for (int i = 0; i < 20; i++) {
+            route.latency().record(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+
+        AtomicBoolean slowCancelled = new AtomicBoolean();
+        GatewayFilterChain slowThenFast = exchange -> {
+            if (upstreamCalls.getAndIncrement() == 0) {
+                return Mono.delay(Duration.ofSeconds(2))
+                        .doOnCancel(() -> slowCancelled.set(true))
+                        .then(Mono.fromRunnable(() -> exchange.getResponse().setStatusCode(HttpStatus.OK)));
+            }
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().set("X-Attempt", "hedge");
+            return Mono.empty();
+        };
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/order-service/user-1/orders"));
+        long start = System.nanoTime();
+        filter.filter(exchange, slowThenFast).block(Duration.ofSeconds(5));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "hedge 응답을 기다리지 않고 사용");
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("hedge", exchange.getResponse().getHeaders().getFirst("X-Attempt"));
+        assertTrue(slowCancelled.get());
+        assertEquals(1, count("hedge"));
+    }
+
+    @Test
+    void stopsRetryingOnceBudgetIsSpent() {
+        ResilienceFilter.Config config = new ResilienceFilter.Config();
+        config.setRetryBudgetPercent(0);   // 요청으로 적립되지 않음, 처음 토큰 2개만 사용 가능
+        config.setRetryBudgetMax(2);
+        GatewayFilter filter = filter(config);
+
+        for (int i = 0; i < 4; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/order-service/user-1/orders"));
+            filter.filter(exchange, respond(HttpStatus.SERVICE_UNAVAILABLE)).block(Duration.ofSeconds(5));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        }
+
+        // 처음 두 요청만 재시도 (2 + 2 + 1 + 1)
+        assertEquals(6, upstreamCalls.get());
+        assertEquals(2, count("retry"));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.api_gateway.loadbalancer;
+
+import com.example.api_gateway.resilience.ResilienceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * first-service/second-service 인스턴스 세 개 중 하나에 지연을 주입한 상황을 가상 시계로 시뮬레이션하여
+ * round-robin 대비 p99 개선을 확인
+ */
+class LatencyAwareLoadBalancerTests {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<ServiceInstance> instances = List.of(
+            new DefaultServiceInstance("first-1", "MY-FIRST-SERVICE", "10.0.0.1", 50001, false),
+            new DefaultServiceInstance("first-2", "MY-FIRST-SERVICE", "10.0.0.2", 50002, false),
+            new DefaultServiceInstance("second-1", "MY-FIRST-SERVICE", "10.0.0.3", 50003, false));
+
+    // 인스턴스별 기본 응답 시간: 마지막 인스턴스에 200ms 지연 주입
+    private final Map<String, Long> baseLatency = Map.of("first-1", 10 * MS, "first-2", 12 * MS, "second-1", 200 * MS);
+
+    @Test
+    void peakEwmaCutsP99ComparedToRoundRobin() {
+        long roundRobinP99 = simulate(LoadBalancingStrategy.ROUND_ROBIN);
+        long peakEwmaP99 = simulate(LoadBalancingStrategy.PEAK_EWMA);
+        long leastRequestsP99 = simulate(LoadBalancingStrategy.LEAST_REQUESTS);
+
+        assertTrue(roundRobinP99 >= 200 * MS, "round robin p99=" + roundRobinP99 / MS + "ms");
+        assertTrue(peakEwmaP99 < roundRobinP99 / 4, "peak ewma p99=" + peakEwmaP99 / MS + "ms");
+        assertTrue(leastRequestsP99 < roundRobinP99, "least requests p99=" + leastRequestsP99 / MS + "ms");
+    }
+
+    @Test
+    void routeMetadataOverridesDefaultStrategy() {
+        assertEquals(LoadBalancingStrategy.LEAST_REQUESTS,
+                LoadBalancingStrategy.from("least-requests", LoadBalancingStrategy.PEAK_EWMA));
+        assertEquals(LoadBalancingStrategy.PEAK_EWMA, LoadBalancingStrategy.from(null, LoadBalancingStrategy.PEAK_EWMA));
+    }
+
+    @Test
+    void parsesStrategyIndependentlyOfDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertEquals(LoadBalancingStrategy.ROUND_ROBIN,
+                    LoadBalancingStrategy.from("round-robin", LoadBalancingStrategy.PEAK_EWMA));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void unknownRouteMetadataFallsBackToDefaultStrategy() {
+        LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider("MY-FIRST-SERVICE", instances.toArray(new ServiceInstance[0])),
+                "MY-FIRST-SERVICE", new InstanceStatsRegistry(10_000, () -> 0L),
+                new ResilienceRegistry(new SimpleMeterRegistry(), 20, 10, 50, 10_000),
+                new ReportedLoadPolicy(90, 90, 0, 90_000, () -> 0L), LoadBalancingStrategy.ROUND_ROBIN);
+        Route route = Route.async().id("first-service").uri("lb://MY-FIRST-SERVICE").predicate(exchange -> true)
+                .metadata(LatencyAwareLoadBalancer.STRATEGY_METADATA_KEY, "fastest").build();
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext(new RequestData(HttpMethod.GET,
+                URI.create("http://MY-FIRST-SERVICE/"), new HttpHeaders(), new LinkedMultiValueMap<>(),
+                Map.of(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route))));
+
+        // 매 요청 예외(500) 대신 기본 방식(round robin)으로 인스턴스를 고름
+        Set<String> chosen = new HashSet<>();
+        for (int i = 0; i < instances.size(); i++) {
+            chosen.add(loadBalancer.choose(request).block().getServer().getInstanceId());
+        }
+        assertEquals(instances.size(), chosen.size());
+    }
+
+    @Test
+    void avoidsInstancesReportingOverloadUntilReportGoesStale() {
+        long[] now = {1_000_000};
+        ReportedLoadPolicy policy = new ReportedLoadPolicy(90, 90, 0, 90_000, () -> now[0]);
+        ServiceInstance busy = new DefaultServiceInstance("first-1", "MY-FIRST-SERVICE", "10.0.0.1", 50001, false,
+                Map.of(ReportedLoadPolicy.METADATA_KEY, "i=40;p=900;c=97;d=100;t=1000"));
+        ServiceInstance idle = new DefaultServiceInstance("first-2", "MY-FIRST-SERVICE", "10.0.0.2", 50002, false,
+                Map.of(ReportedLoadPolicy.METADATA_KEY, "i=1;p=12;c=20;d=10;t=1000"));
+        LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider("MY-FIRST-SERVICE", busy, idle), "MY-FIRST-SERVICE",
+                new InstanceStatsRegistry(10_000, () -> 0L),
+                new ResilienceRegistry(new SimpleMeterRegistry(), 20, 10, 50, 10_000), policy,
+                LoadBalancingStrategy.ROUND_ROBIN);
+
+        assertEquals(new ReportedLoad(40, 900, 97, 100, 1_000_000), policy.reported(busy));
+        assertEquals(List.of(idle), loadBalancer.available(List.of(busy, idle), Set.of()));
+        // 모두 과부하이면 그중에서 고름
+        assertEquals(List.of(busy), loadBalancer.available(List.of(busy), Set.of()));
+
+        now[0] += 91_000;
+        assertEquals(List.of(busy, idle), loadBalancer.available(List.of(busy, idle), Set.of()));
+    }
+
+    @Test
+    void dropsStatsOfInstancesThatLeftDiscovery() {
+        InstanceStatsRegistry registry = new InstanceStatsRegistry(10_000, () -> 0L);
+        ServiceInstance other = new DefaultServiceInstance("order-1", "ORDER-SERVICE", "10.0.0.9", 50009, false);
+        instances.forEach(registry::get);
+        registry.get(other);
+        assertEquals(4, registry.size());
+
+        registry.retain("my-first-service", List.of(instances.get(0)));
+        assertEquals(2, registry.size());
+        // 다른 서비스의 인스턴스는 그대로 유지, 모두 빠지면 모두 정리
+        registry.retain("MY-FIRST-SERVICE", List.of());
+        assertEquals(1, registry.size());
+        assertSame(registry.get(other), registry.get(other));
+    }
+
+    private long simulate(LoadBalancingStrategy strategy) {
+        long[] clock = {0};
+        InstanceStatsRegistry registry = new InstanceStatsRegistry(10_000, () -> clock[0]);
+        LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider("MY-FIRST-SERVICE", instances.toArray(new ServiceInstance[0])),
+                "MY-FIRST-SERVICE", registry, new ResilienceRegistry(new SimpleMeterRegistry(), 20, 10, 50, 10_000),
+                new ReportedLoadPolicy(90, 90, 0, 90_000, () -> 0L), strategy);
+
+        record InFlight(long finishAt, long startedAt, InstanceStats stats) {}
+        PriorityQueue<InFlight> inFlight = new PriorityQueue<>((a, b) -> Long.compare(a.finishAt, b.finishAt));
+        List<Long> latencies = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            clock[0] += MS; // 1000 req/s
+            while (!inFlight.isEmpty() && inFlight.peek().finishAt <= clock[0]) {
+                InFlight done = inFlight.poll();
+                done.stats.complete(done.finishAt - done.startedAt, done.finishAt);
+            }
+
+            ServiceInstance chosen = loadBalancer.choose(new DefaultRequest<>()).block().getServer();
+            InstanceStats stats = registry.get(chosen);
+            stats.start();
+            long latency = baseLatency.get(chosen.getInstanceId()) + (long) (random.nextDouble() * 2 * MS);
+            inFlight.add(new InFlight(clock[0] + latency, clock[0], stats));
+            latencies.add(latency);
+        }
+
+        Collections.sort(latencies);
+        return latencies.get((int) (latencies.size() * 0.99));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.api_gateway.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteMetricsTests {
+
+    @Test
+    void recordsLatencyPerStatusClass() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RouteMetrics metrics = new RouteMetrics("user-service", registry);
+
+        for (int i = 1; i <= 100; i++) {
+            metrics.start(10);
+            metrics.complete(200, TimeUnit.MILLISECONDS.toNanos(i), TimeUnit.MILLISECONDS.toNanos(i) / 2, 100);
+        }
+        metrics.start(0);
+        metrics.complete(503, TimeUnit.MILLISECONDS.toNanos(5), -1, 0);
+
+        assertThat(metrics.inFlight()).isZero();
+        Timer ok = registry.get("gateway.route.total").tags("route", "user-service", "status", "2xx").timer();
+        assertThat(ok.count()).isEqualTo(100);
+        assertThat(ok.takeSnapshot().percentileValues()).hasSize(4);
+        assertThat(ok.takeSnapshot().percentileValues()[2].value(TimeUnit.MILLISECONDS)).isBetween(95.0, 101.0);
+        assertThat(registry.get("gateway.route.total").tags("status", "5xx").timer().count()).isEqualTo(1);
+        assertThat(metrics.upstreamTimer(5)).isNull();
+        assertThat(registry.get("gateway.route.response.bytes").summary().totalAmount()).isEqualTo(10_000);
+        assertThat(registry.get("gateway.route.inflight").gauge().value()).isZero();
+    }
+}
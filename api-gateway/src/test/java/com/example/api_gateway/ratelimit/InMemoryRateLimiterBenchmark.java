@@ -0,0 +1,59 @@
+package com.example.api_gateway.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * InMemoryRateLimiter 요청당 오버헤드 측정
+ * - hotKey: 모든 스레드가 같은 client key를 사용 (단일 버킷 CAS 경합 최대)
+ * - spreadKeys: 스레드마다 다른 client key를 사용 (ConcurrentHashMap 조회 + 버킷 갱신)
+ * - 실행: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=InMemoryRateLimiterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class InMemoryRateLimiterBenchmark {
+    private InMemoryRateLimiter rateLimiter;
+    private String[] keys;
+
+    @Param({"1", "1024"})
+    public int clients;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new InMemoryRateLimiter(null, 100_000, 10_000);
+        InMemoryRateLimiter.Config config = new InMemoryRateLimiter.Config();
+        config.setReplenishRate(1_000_000);
+        config.setBurstCapacity(1_000_000);
+        rateLimiter.getConfig().put("order-service", config);
+
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @Benchmark
+    public void tryAcquire(Blackhole blackhole) {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        blackhole.consume(rateLimiter.tryAcquire("order-service", key));
+    }
+
+    @Benchmark
+    public void isAllowed(Blackhole blackhole) {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        blackhole.consume(rateLimiter.isAllowed("order-service", key).block());
+    }
+}
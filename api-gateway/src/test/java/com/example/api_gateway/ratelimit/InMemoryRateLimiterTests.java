@@ -0,0 +1,45 @@
+package com.example.api_gateway.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimiterTests {
+    private final InMemoryRateLimiter rateLimiter = new InMemoryRateLimiter(null, 2, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @Test
+    void deniesRequestsBeyondBurstCapacityPerClient() {
+        InMemoryRateLimiter.Config config = new InMemoryRateLimiter.Config();
+        config.setReplenishRate(1);
+        config.setBurstCapacity(2);
+        rateLimiter.getConfig().put("order-service", config);
+
+        RateLimiter.Response first = rateLimiter.tryAcquire("order-service", "127.0.0.1");
+        assertTrue(first.isAllowed());
+        assertEquals("1", first.getHeaders().get(InMemoryRateLimiter.REMAINING_HEADER));
+        assertEquals("2", first.getHeaders().get(InMemoryRateLimiter.BURST_CAPACITY_HEADER));
+        assertTrue(rateLimiter.tryAcquire("order-service", "127.0.0.1").isAllowed());
+        assertFalse(rateLimiter.tryAcquire("order-service", "127.0.0.1").isAllowed());
+
+        // 다른 client는 별도 버킷 사용
+        assertTrue(rateLimiter.tryAcquire("order-service", "10.0.0.2").isAllowed());
+    }
+
+    @Test
+    void boundsBucketCountWithOverflowBucket() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("order-service", "10.0.0." + i);
+        }
+        assertEquals(3, rateLimiter.bucketCount()); // 2 + overflow
+
+        rateLimiter.evictIdleBuckets();
+        assertTrue(rateLimiter.bucketCount() <= 3);
+    }
+}
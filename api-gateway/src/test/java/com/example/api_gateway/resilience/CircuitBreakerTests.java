@@ -0,0 +1,82 @@
+package com.example.api_gateway.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTests {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void opensOnFailureRateAndRecoversThroughHalfOpen() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 5, 50, 10 * SECOND);
+        long now = 0;
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(now);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "minimumCalls 전에는 열리지 않음");
+        breaker.onSuccess(now);
+        breaker.onFailure(now);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire(now + SECOND));
+
+        // OPEN 기간이 지나면 시험 호출 한 건만 허용
+        now += 10 * SECOND;
+        assertTrue(breaker.tryAcquire(now));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire(now));
+
+        breaker.onFailure(now);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        now += 10 * SECOND;
+        assertTrue(breaker.tryAcquire(now));
+        breaker.onSuccess(now);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void retryBudgetIsCappedByTrafficRatio() {
+        RetryBudget budget = new RetryBudget(20, 2);
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+
+        // 요청 100건 -> 재시도 20건까지 가능하지만 적립 한도(2)로 제한
+        for (int i = 0; i < 100; i++) {
+            budget.onRequest();
+        }
+        assertEquals(2.0, budget.tokens());
+
+        budget.tryWithdraw();
+        budget.tryWithdraw();
+        for (int i = 0; i < 5; i++) {
+            budget.onRequest();
+        }
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+        assertEquals(2, budget.rejected());
+    }
+
+    @Test
+    void evictsInstanceBreakersThatLeftDiscovery() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResilienceRegistry registry = new ResilienceRegistry(meterRegistry, 20, 10, 50, 10_000);
+        ServiceInstance first = new DefaultServiceInstance("order-1", "ORDER-SERVICE", "10.0.0.1", 50001, false);
+        ServiceInstance second = new DefaultServiceInstance("order-2", "ORDER-SERVICE", "10.0.0.2", 50002, false);
+        registry.instance(first);
+        registry.instance(second);
+
+        registry.retain("ORDER-SERVICE", List.of(first));
+
+        assertEquals(1, registry.instanceCount());
+        assertEquals(1, meterRegistry.find("gateway.resilience.breaker.state").tag("kind", "instance").gauges().size());
+    }
+}
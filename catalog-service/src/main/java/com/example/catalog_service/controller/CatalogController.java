@@ -1,9 +1,9 @@
 package com.example.catalog_service.controller;
 
 import com.example.catalog_service.jpa.CatalogEntity;
+import com.example.catalog_service.mapper.CatalogMapper;
 import com.example.catalog_service.service.CatalogService;
 import com.example.catalog_service.vo.ResponseCatalog;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
@@ -21,15 +21,17 @@ public class CatalogController {
     // Spring 환경설정 정보를 주입 받는 객체 (application.yml 등의 설정 값 접근 가능)
     Environment env;
     CatalogService catalogService;
+    CatalogMapper catalogMapper;
 
     /**
      * 생성자 주입 방식 (Autowired)
-     * - 스프링이 CatalogController를 생성할 때 Environment와 CatalogService Bean을 자동 주입
+     * - 스프링이 CatalogController를 생성할 때 Environment, CatalogService, CatalogMapper Bean을 자동 주입
      */
     @Autowired
-    public CatalogController(Environment env, CatalogService catalogService) {
+    public CatalogController(Environment env, CatalogService catalogService, CatalogMapper catalogMapper) {
         this.env = env;
         this.catalogService = catalogService;
+        this.catalogMapper = catalogMapper;
     }
 
     /**
@@ -54,9 +56,9 @@ public class CatalogController {
 
         // 응답용 DTO 리스트 생성
         List<ResponseCatalog> result = new ArrayList<>();
-        // ModelMapper를 사용하여 Entity → VO 변환 수행
+        // 미리 만들어 둔 매핑(CatalogMapper)으로 Entity → VO 변환 수행
         catalogList.forEach(v -> {
-            result.add(new ModelMapper().map(v, ResponseCatalog.class));
+            result.add(catalogMapper.toResponse(v));
         });
 
         // HTTP 200(OK) 상태코드와 함께 JSON 배열 형태로 응답
@@ -0,0 +1,143 @@
+package com.example.catalog_service.load;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoadMetadataPublisher
+ * - 인스턴스 부하 요약을 Eureka 인스턴스 metadata "load"로 게시 (api-gateway가 과부하 인스턴스를 미리 피하는 데 사용)
+ *   형식: i=처리 중 요청;p=최근 p99(ms);c=CPU 사용률(%);d=DB pool 사용률(%);t=측정 시각(epoch s)
+ * - sampleInterval마다 측정하지만, 값이 구간(bucket)을 바꿀 만큼 변했을 때만 게시하고
+ *   게시 간격은 최소 minPublishInterval로 제한 (registry에 metadata 갱신이 몰리지 않도록)
+ * - 변화가 없어도 maxPublishInterval마다 다시 게시하여 측정 시각(t)을 갱신 (오래된 값은 gateway가 무시)
+ * - 실제 전송은 Eureka client의 InstanceInfoReplicator가 다음 주기에 재등록하면서 수행
+ */
+@Component
+@Slf4j
+public class LoadMetadataPublisher {
+    public static final String METADATA_KEY = "load";
+
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final LoadTracker tracker;
+    private final ObjectProvider<DataSource> dataSource;
+    private final long sampleIntervalMs;
+    private final long minPublishIntervalMs;
+    private final long maxPublishIntervalMs;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "load-metadata-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private LoadSnapshot published;
+    private long publishedAt;
+
+    public LoadMetadataPublisher(ObjectProvider<ApplicationInfoManager> applicationInfoManager, LoadTracker tracker,
+                                 ObjectProvider<DataSource> dataSource,
+                                 @Value("${load-metadata.sample-interval-ms:5000}") long sampleIntervalMs,
+                                 @Value("${load-metadata.min-publish-interval-ms:15000}") long minPublishIntervalMs,
+                                 @Value("${load-metadata.max-publish-interval-ms:60000}") long maxPublishIntervalMs) {
+        this.applicationInfoManager = applicationInfoManager;
+        this.tracker = tracker;
+        this.dataSource = dataSource;
+        this.sampleIntervalMs = sampleIntervalMs;
+        this.minPublishIntervalMs = minPublishIntervalMs;
+        this.maxPublishIntervalMs = maxPublishIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::sample, 0, sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void sample() {
+        ApplicationInfoManager manager = applicationInfoManager.getIfAvailable();
+        if (manager == null) {
+            return;   // eureka client가 꺼져 있음
+        }
+        try {
+            long now = System.currentTimeMillis();
+            LoadSnapshot current = new LoadSnapshot(tracker.inFlight(), tracker.p99Millis(), cpuPercent(), dbPoolPercent());
+            long sincePublished = now - publishedAt;
+            boolean changed = published == null || !current.sameBuckets(published);
+            if ((changed && sincePublished >= minPublishIntervalMs) || sincePublished >= maxPublishIntervalMs) {
+                manager.registerAppMetadata(Map.of(METADATA_KEY, current.format(now)));
+                published = current;
+                publishedAt = now;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish load metadata: {}", e.toString());
+        }
+    }
+
+    private static int cpuPercent() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            double load = os.getProcessCpuLoad();
+            return load < 0 ? -1 : (int) Math.round(load * 100);
+        }
+        return -1;
+    }
+
+    private int dbPoolPercent() {
+        return dbPoolPercent(dataSource.getIfAvailable());
+    }
+
+    /*
+     * (사용 중 + 대기 중인 요청) / 최대 connection 수, Hikari가 아니면 -1
+     * - JdbcConcurrencyGuard(가상 스레드 모드)가 감싼 DataSource도 unwrap으로 안쪽 Hikari 풀을 찾음
+     */
+    static int dbPoolPercent(DataSource dataSource) {
+        HikariDataSource hikari = unwrapHikari(dataSource);
+        if (hikari != null && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            int max = hikari.getMaximumPoolSize();
+            return (int) Math.min(100, Math.round(100.0 * (pool.getActiveConnections() + pool.getThreadsAwaitingConnection()) / max));
+        }
+        return -1;
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    record LoadSnapshot(int inFlight, long p99Ms, int cpuPercent, int dbPoolPercent) {
+        String format(long nowMillis) {
+            return "i=" + inFlight + ";p=" + p99Ms + ";c=" + cpuPercent + ";d=" + dbPoolPercent + ";t=" + nowMillis / 1000;
+        }
+
+        /* 요청 수/응답시간은 2배 단위, 사용률은 10% 단위로 같은 구간인지 */
+        boolean sameBuckets(LoadSnapshot other) {
+            return log2(inFlight) == log2(other.inFlight) && log2(p99Ms) == log2(other.p99Ms)
+                    && cpuPercent / 10 == other.cpuPercent / 10 && dbPoolPercent / 10 == other.dbPoolPercent / 10;
+        }
+
+        private static int log2(long value) {
+            return 64 - Long.numberOfLeadingZeros(Math.max(0, value));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.catalog_service.load;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LoadTracker
+ * - 처리 중인 요청 수와 최근 응답시간(최근 SAMPLES개)을 기록하는 서블릿 필터
+ * - LoadMetadataPublisher가 주기적으로 값을 읽어 Eureka 인스턴스 metadata로 게시
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LoadTracker extends OncePerRequestFilter {
+    private static final int SAMPLES = 512;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLongArray latencies = new AtomicLongArray(SAMPLES);
+    private final AtomicLong recorded = new AtomicLong();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+            latencies.set((int) (recorded.getAndIncrement() % SAMPLES), System.nanoTime() - start);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /* 최근 응답시간의 p99(ms), 기록이 없으면 0 */
+    public long p99Millis() {
+        int count = (int) Math.min(recorded.get(), SAMPLES);
+        if (count == 0) {
+            return 0;
+        }
+        long[] copy = new long[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = latencies.get(i);
+        }
+        Arrays.sort(copy);
+        return copy[(int) Math.ceil(count * 0.99) - 1] / 1_000_000;
+    }
+}
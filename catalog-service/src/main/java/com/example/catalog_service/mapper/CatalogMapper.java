@@ -0,0 +1,38 @@
+package com.example.catalog_service.mapper;
+
+import com.example.catalog_service.dto.CatalogDto;
+import com.example.catalog_service.jpa.CatalogEntity;
+import com.example.catalog_service.vo.ResponseCatalog;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.stereotype.Component;
+
+/**
+ * CatalogMapper
+ * - catalog-service의 Entity ↔ Dto ↔ VO 변환을 한곳에서 담당
+ * - 매핑 정보(TypeMap)는 애플리케이션 시작 시 한 번만 만들고, 요청마다 재사용
+ * - 설정이 끝난 ModelMapper/TypeMap은 읽기 전용이므로 여러 요청 스레드에서 동시에 사용해도 안전
+ * - STRICT: 필드명이 정확히 일치할 때만 매핑
+ */
+@Component
+public class CatalogMapper {
+    private final TypeMap<CatalogEntity, CatalogDto> entityToDto;
+    private final TypeMap<CatalogEntity, ResponseCatalog> entityToResponse;
+
+    public CatalogMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        this.entityToDto = mapper.createTypeMap(CatalogEntity.class, CatalogDto.class);
+        this.entityToResponse = mapper.createTypeMap(CatalogEntity.class, ResponseCatalog.class);
+    }
+
+    public CatalogDto toDto(CatalogEntity catalogEntity) {
+        return entityToDto.map(catalogEntity);
+    }
+
+    public ResponseCatalog toResponse(CatalogEntity catalogEntity) {
+        return entityToResponse.map(catalogEntity);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.eureka_server.events;
+
+import com.netflix.appinfo.InstanceInfo;
+
+import java.util.Map;
+
+/**
+ * RegistryEvent
+ * - registry 변경 한 건 (인스턴스 등록/상태 변경 = REGISTERED, 해제/만료 = CANCELLED)
+ * - sequence: 서버가 매기는 증가 번호, SSE event id로 사용 (재연결 시 Last-Event-ID로 이어받기)
+ * - timestamp: 서버가 변경을 받은 시각(epoch ms), 클라이언트가 전달 지연을 측정할 때 사용
+ */
+public record RegistryEvent(long sequence,
+                            Type type,
+                            String app,
+                            String instanceId,
+                            String host,
+                            int port,
+                            boolean secure,
+                            String status,
+                            Map<String, String> metadata,
+                            long timestamp) {
+
+    public enum Type { REGISTERED, CANCELLED }
+
+    static RegistryEvent registered(long sequence, InstanceInfo info, long timestamp) {
+        boolean secure = info.isPortEnabled(InstanceInfo.PortType.SECURE);
+        return new RegistryEvent(sequence, Type.REGISTERED, info.getAppName(), info.getId(), info.getHostName(),
+                secure ? info.getSecurePort() : info.getPort(), secure, info.getStatus().name(),
+                Map.copyOf(info.getMetadata()), timestamp);
+    }
+
+    static RegistryEvent cancelled(long sequence, String app, String instanceId, long timestamp) {
+        return new RegistryEvent(sequence, Type.CANCELLED, app, instanceId, null, 0, false, null, Map.of(), timestamp);
+    }
+}
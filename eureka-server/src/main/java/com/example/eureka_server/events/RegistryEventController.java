@@ -0,0 +1,27 @@
+package com.example.eureka_server.events;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * GET /registry-events
+ * - registry 변경 스트림 (text/event-stream)
+ * - event name: REGISTERED / CANCELLED / RESYNC, id: sequence, data: RegistryEvent(JSON)
+ * - 재연결 시 Last-Event-ID 헤더를 보내면 그 이후 이벤트부터 이어서 받음
+ */
+@RestController
+public class RegistryEventController {
+    private final RegistryEventPublisher publisher;
+
+    public RegistryEventController(RegistryEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @GetMapping(path = "/registry-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return publisher.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.eureka_server.events;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * RegistryEventPublisher
+ * - Eureka registry의 등록/해제/만료 이벤트를 구독 중인 클라이언트(SSE)에게 바로 전달 (push)
+ *   -> 클라이언트는 30초 주기 fetch + 서버 response cache + 클라이언트 cache를 기다리지 않고 변경을 반영
+ * - 최근 replaySize개의 이벤트를 보관하여 재연결한 클라이언트가 놓친 이벤트를 이어받음
+ *   보관 범위를 벗어났다면 RESYNC를 보내 클라이언트가 push 상태를 버리고 기존 fetch 결과를 사용하게 함
+ * - 전송은 전용 스레드 하나에서만 수행 (등록 요청 스레드가 느린 클라이언트 때문에 막히지 않음)
+ */
+@Component
+public class RegistryEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(RegistryEventPublisher.class);
+    public static final String RESYNC_EVENT = "RESYNC";
+
+    private final int replaySize;
+    private final long emitterTimeoutMs;
+    private final Deque<RegistryEvent> replay = new ArrayDeque<>();
+    private final List<SseEmitter> emitters = new ArrayList<>();   // sender 스레드에서만 사용
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "registry-event-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long sequence;
+
+    public RegistryEventPublisher(@Value("${registry-events.replay-size:1024}") int replaySize,
+                                  @Value("${registry-events.heartbeat-ms:15000}") long heartbeatMs,
+                                  @Value("${registry-events.emitter-timeout-ms:0}") long emitterTimeoutMs) {
+        this.replaySize = replaySize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 comment 전송
+        sender.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener
+    public void onRegistered(EurekaInstanceRegisteredEvent event) {
+        publish(sequence -> RegistryEvent.registered(sequence, event.getInstanceInfo(), System.currentTimeMillis()));
+    }
+
+    @EventListener
+    public void onCanceled(EurekaInstanceCanceledEvent event) {
+        // InstanceRegistry는 cancel()과 internalCancel()에서 같은 해제 이벤트를 두 번 발행함
+        if (lastTypeOf(event.getServerId()) == RegistryEvent.Type.CANCELLED) {
+            return;
+        }
+        publish(sequence -> RegistryEvent.cancelled(sequence, event.getAppName(), event.getServerId(),
+                System.currentTimeMillis()));
+    }
+
+    /**
+     * 새 구독
+     * @param lastEventId 클라이언트가 마지막으로 받은 sequence (처음 연결이면 null)
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> sender.execute(() -> emitters.remove(emitter)));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitter.complete());
+
+        sender.execute(() -> {
+            List<RegistryEvent> missed = new ArrayList<>();
+            boolean resync;
+            long current;
+            synchronized (replay) {
+                current = sequence;
+                // 놓친 이벤트가 이미 버려졌거나, 서버가 재시작되어 sequence가 처음부터 다시 시작된 경우
+                long oldest = replay.isEmpty() ? sequence + 1 : replay.peekFirst().sequence();
+                resync = lastEventId != null && (lastEventId > sequence || oldest > lastEventId + 1);
+                for (RegistryEvent event : replay) {
+                    if (resync || (lastEventId != null && event.sequence() > lastEventId)) {
+                        missed.add(event);
+                    }
+                }
+            }
+            try {
+                if (resync) {
+                    // id: 현재 sequence, 보관된 이벤트가 없어도 클라이언트가 다음 재연결에서 이 값부터 이어받음
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT).id(String.valueOf(current)).data(""));
+                }
+                for (RegistryEvent event : missed) {
+                    send(emitter, event);
+                }
+                emitters.add(emitter);
+            } catch (IOException e) {
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    private void publish(LongFunction<RegistryEvent> factory) {
+        RegistryEvent event;
+        synchronized (replay) {
+            event = factory.apply(++sequence);
+            replay.addLast(event);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+        }
+        sender.execute(() -> broadcast(event));
+    }
+
+    private RegistryEvent.Type lastTypeOf(String instanceId) {
+        synchronized (replay) {
+            Iterator<RegistryEvent> recent = replay.descendingIterator();
+            for (int i = 0; i < 16 && recent.hasNext(); i++) {
+                RegistryEvent event = recent.next();
+                if (event.instanceId().equals(instanceId)) {
+                    return event.type();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void broadcast(RegistryEvent event) {
+        emitters.removeIf(emitter -> {
+            try {
+                send(emitter, event);
+                return false;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping registry event subscriber: {}", e.toString());
+                emitter.complete();
+                return true;
+            }
+        });
+    }
+
+    private void heartbeat() {
+        emitters.removeIf(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return false;
+            } catch (IOException | IllegalStateException e) {
+                emitter.complete();
+                return true;
+            }
+        });
+    }
+
+    private static void send(SseEmitter emitter, RegistryEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.sequence()))
+                .name(event.type().name())
+                .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    public int subscribers() {
+        return emitters.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+    }
+}
@@ -0,0 +1,369 @@
+package com.example.eureka_server.benchmark;
+
+import com.example.eureka_server.EurekaServerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * RegistryBenchmark
+ * - eureka-server를 같은 JVM에서 띄우고(임의 포트), 실제 Eureka 클라이언트와 같은 REST 호출로 부하를 줌
+ *   register(POST /eureka/apps/{app}), renew(PUT .../{id}), cancel(DELETE), full fetch(GET /eureka/apps), delta fetch(GET /eureka/apps/delta)
+ * - instances개의 인스턴스가 renewIntervalMs마다 heartbeat (시점은 고르게 분산)
+ * - fetchers개의 클라이언트가 fetchIntervalMs마다 delta fetch, fullFetchRatio 비율로 full fetch
+ * - churnPerSec: 초당 해제 후 새 id로 재등록하는 인스턴스 수 (delta가 비지 않도록)
+ * - warmupSec 이후 durationSec 동안의 처리량, 지연시간 백분위, heap 사용량, GC pause를 JSON 파일(output)로 기록
+ *   서버와 부하 발생기가 같은 JVM이므로 heap/GC 값은 둘을 합친 값
+ * - 실행: mvn -Pbenchmark test-compile exec:exec [-Dinstances=5000 -Dfetchers=200 ...]
+ */
+public class RegistryBenchmark {
+    private static final String[] OPERATIONS = {"register", "renew", "cancel", "fullFetch", "deltaFetch"};
+
+    private final int instances = Integer.getInteger("instances", 2000);
+    private final int apps = Integer.getInteger("apps", 20);
+    private final long renewIntervalMs = Long.getLong("renewIntervalMs", 30_000);
+    private final int fetchers = Integer.getInteger("fetchers", 50);
+    private final long fetchIntervalMs = Long.getLong("fetchIntervalMs", 1_000);
+    private final double fullFetchRatio = Double.parseDouble(System.getProperty("fullFetchRatio", "0.1"));
+    private final int churnPerSec = Integer.getInteger("churnPerSec", 5);
+    private final int registerConcurrency = Integer.getInteger("registerConcurrency", 32);
+    private final int warmupSec = Integer.getInteger("warmupSec", 10);
+    private final int durationSec = Integer.getInteger("durationSec", 60);
+    private final String output = System.getProperty("output", "target/registry-benchmark.json");
+
+    private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicReferenceArray<String> instanceIds = new AtomicReferenceArray<>(instances);
+    private final AtomicLong generation = new AtomicLong();
+    private final GcRecorder gc = new GcRecorder();
+
+    private String baseUrl;
+    private volatile boolean running = true;
+
+    public static void main(String[] args) throws Exception {
+        new RegistryBenchmark().run();
+    }
+
+    void run() throws Exception {
+        for (String operation : OPERATIONS) {
+            histograms.put(operation, new LatencyHistogram());
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EurekaServerApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "spring.main.banner-mode=off")
+                .run();
+        try {
+            baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/eureka";
+            PeerAwareInstanceRegistry registry = context.getBean(PeerAwareInstanceRegistry.class);
+
+            long registerStart = System.nanoTime();
+            registerAll();
+            double registerSeconds = (System.nanoTime() - registerStart) / 1e9;
+            System.out.printf("Registered %d instances in %.1fs%n", instances, registerSeconds);
+            Map<String, Object> registerSummary = histograms.get("register").summary(registerSeconds);
+
+            ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+            startRenewals(scheduler);
+            scheduler.scheduleAtFixedRate(this::churn, 1, 1, TimeUnit.SECONDS);
+            for (int i = 0; i < fetchers; i++) {
+                workers.execute(this::fetchLoop);
+            }
+
+            Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSec));
+            histograms.values().forEach(LatencyHistogram::reset);
+            gc.start();
+            HeapSampler heap = new HeapSampler();
+            scheduler.scheduleAtFixedRate(heap::sample, 0, 200, TimeUnit.MILLISECONDS);
+
+            long measureStart = System.nanoTime();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(durationSec));
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+            running = false;
+            scheduler.shutdownNow();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("timestamp", System.currentTimeMillis());
+            result.put("config", config());
+            result.put("registeredInstances", registry.getApplications().getRegisteredApplications().stream()
+                    .mapToInt(app -> app.getInstances().size()).sum());
+            Map<String, Object> operations = new LinkedHashMap<>();
+            operations.put("initialRegister", registerSummary);
+            for (String operation : OPERATIONS) {
+                if (!"register".equals(operation)) {
+                    operations.put(operation, histograms.get(operation).summary(seconds));
+                }
+            }
+            operations.put("churnRegister", histograms.get("register").summary(seconds));
+            result.put("operations", operations);
+            result.put("heap", heap.summary());
+            result.put("gc", gc.summary());
+
+            File file = new File(output);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            mapper.writeValue(file, result);
+            System.out.println(mapper.writeValueAsString(result));
+            System.out.println("Result written to " + file.getAbsolutePath());
+        } finally {
+            running = false;
+            workers.shutdownNow();
+            context.close();
+        }
+    }
+
+    /* 초기 등록: 동시에 registerConcurrency개까지만 보냄 (실제로도 인스턴스는 한꺼번에 뜨지 않음) */
+    private void registerAll() throws InterruptedException {
+        Semaphore permits = new Semaphore(registerConcurrency);
+        List<Future<?>> pending = new ArrayList<>(instances);
+        for (int i = 0; i < instances; i++) {
+            int index = i;
+            permits.acquire();
+            pending.add(workers.submit(() -> {
+                try {
+                    register(index, true);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                histograms.get("register").error();
+            }
+        }
+    }
+
+    /* 100ms마다 이번 구간에 heartbeat 차례인 인스턴스들의 renew를 보냄 */
+    private void startRenewals(ScheduledExecutorService scheduler) {
+        long tickMs = 100;
+        double perTick = (double) instances * tickMs / renewIntervalMs;
+        double[] cursor = {0};
+        scheduler.scheduleAtFixedRate(() -> {
+            int from = (int) cursor[0];
+            cursor[0] += perTick;
+            int to = (int) cursor[0];
+            for (int i = from; i < to; i++) {
+                int index = i % instances;
+                workers.execute(() -> renew(index));
+            }
+        }, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void churn() {
+        for (int i = 0; i < churnPerSec; i++) {
+            int index = ThreadLocalRandom.current().nextInt(instances);
+            workers.execute(() -> {
+                cancel(index);
+                register(index, true);
+            });
+        }
+    }
+
+    private void fetchLoop() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            Thread.sleep(random.nextLong(fetchIntervalMs + 1));
+            while (running) {
+                boolean full = random.nextDouble() < fullFetchRatio;
+                send(full ? "fullFetch" : "deltaFetch",
+                        get(full ? "/apps/" : "/apps/delta"));
+                Thread.sleep(fetchIntervalMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void register(int index, boolean newId) {
+        String app = app(index);
+        String id = instanceIds.get(index);
+        if (newId || id == null) {
+            id = app.toLowerCase() + ":" + index + ":" + generation.incrementAndGet();
+            instanceIds.set(index, id);
+        }
+        String host = "10." + (index >> 16 & 255) + "." + (index >> 8 & 255) + "." + (index & 255);
+        String body = """
+                {"instance":{"instanceId":"%s","hostName":"%s","app":"%s","ipAddr":"%s","status":"UP",
+                "port":{"$":8080,"@enabled":"true"},"securePort":{"$":443,"@enabled":"false"},
+                "dataCenterInfo":{"@class":"com.netflix.appinfo.InstanceInfo$DefaultDataCenterInfo","name":"MyOwn"},
+                "leaseInfo":{"renewalIntervalInSecs":30,"durationInSecs":90},
+                "metadata":{"load":"i=0;p=0;c=0;d=0;t=0"}}}""".formatted(id, host, app, host);
+        send("register", HttpRequest.newBuilder(URI.create(baseUrl + "/apps/" + app))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private void renew(int index) {
+        String id = instanceIds.get(index);
+        int status = send("renew", HttpRequest.newBuilder(URI.create(baseUrl + "/apps/" + app(index) + "/" + id
+                + "?status=UP")).PUT(HttpRequest.BodyPublishers.noBody()));
+        if (status == 404 && running && id.equals(instanceIds.get(index))) {
+            register(index, false);   // 실제 클라이언트처럼 lease가 없으면 같은 id로 다시 등록
+        }
+    }
+
+    private void cancel(int index) {
+        send("cancel", HttpRequest.newBuilder(URI.create(baseUrl + "/apps/" + app(index) + "/" + instanceIds.get(index)))
+                .DELETE());
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET();
+    }
+
+    private int send(String operation, HttpRequest.Builder request) {
+        LatencyHistogram histogram = histograms.get(operation);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() >= 400 && !(operation.equals("renew") && response.statusCode() == 404)) {
+                histogram.error();
+            } else {
+                histogram.record(System.nanoTime() - start, response.body().length);
+            }
+            return response.statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            histogram.error();
+            return -1;
+        }
+    }
+
+    private String app(int index) {
+        return "BENCH-APP-" + (index % apps);
+    }
+
+    private Map<String, Object> config() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("instances", instances);
+        config.put("apps", apps);
+        config.put("renewIntervalMs", renewIntervalMs);
+        config.put("fetchers", fetchers);
+        config.put("fetchIntervalMs", fetchIntervalMs);
+        config.put("fullFetchRatio", fullFetchRatio);
+        config.put("churnPerSec", churnPerSec);
+        config.put("registerConcurrency", registerConcurrency);
+        config.put("warmupSec", warmupSec);
+        config.put("durationSec", durationSec);
+        config.put("javaVersion", System.getProperty("java.version"));
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        config.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        return config;
+    }
+
+    /* 측정 구간 동안 heap 사용량 샘플링 */
+    static class HeapSampler {
+        private long max;
+        private long sum;
+        private long samples;
+
+        synchronized void sample() {
+            long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            max = Math.max(max, used);
+            sum += used;
+            samples++;
+        }
+
+        synchronized Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("maxUsedBytes", max);
+            summary.put("avgUsedBytes", samples == 0 ? 0 : sum / samples);
+            return summary;
+        }
+    }
+
+    /* GC 알림으로 측정 구간의 GC pause를 기록 */
+    static class GcRecorder {
+        private final LatencyHistogram pauses = new LatencyHistogram();
+        private volatile boolean recording;
+        private long startCount;
+        private long startTimeMs;
+
+        GcRecorder() {
+            for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (bean instanceof NotificationEmitter emitter) {
+                    emitter.addNotificationListener((notification, handback) -> {
+                        if (recording && GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                                .equals(notification.getType())) {
+                            GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo
+                                    .from((CompositeData) notification.getUserData());
+                            // concurrent 단계(예: G1 Concurrent Cycle)는 애플리케이션을 멈추지 않으므로 제외
+                            if (!info.getGcName().contains("Concurrent") && !info.getGcCause().contains("Concurrent")) {
+                                pauses.record(TimeUnit.MILLISECONDS.toNanos(info.getGcInfo().getDuration()), 0);
+                            }
+                        }
+                    }, null, null);
+                }
+            }
+        }
+
+        void start() {
+            startCount = totalCount();
+            startTimeMs = totalTimeMs();
+            recording = true;
+        }
+
+        Map<String, Object> summary() {
+            recording = false;
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("collections", totalCount() - startCount);
+            summary.put("collectionTimeMs", totalTimeMs() - startTimeMs);
+            summary.put("pauseP50Ms", pauses.percentile(0.5) / 1000.0);
+            summary.put("pauseP99Ms", pauses.percentile(0.99) / 1000.0);
+            summary.put("pauseMaxMs", pauses.percentile(1.0) / 1000.0);
+            return summary;
+        }
+
+        private static long totalCount() {
+            return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                    .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+        }
+
+        private static long totalTimeMs() {
+            return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                    .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package com.example.order_service.controller;
 
+import com.example.order_service.dto.OrderCursor;
 import com.example.order_service.dto.OrderDto;
-import com.example.order_service.jpa.OrderEntity;
+import com.example.order_service.jpa.OrderRow;
+import com.example.order_service.mapper.OrderMapper;
 import com.example.order_service.service.OrderService;
 import com.example.order_service.vo.RequestOrder;
 import com.example.order_service.vo.ResponseOrder;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -28,6 +37,7 @@ import java.util.List;
 @RequestMapping("/order-service") // 모든 엔드포인트의 공통 URL prefix
 @Slf4j
 public class OrderController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     // 환경 설정 파일(application.yml)의 속성값을 접근하기 위한 객체
     Environment env;
@@ -35,15 +45,27 @@ public class OrderController {
     // 비즈니스 로직을 수행하는 서비스 객체
     OrderService orderService;
 
+    // Entity ↔ Dto ↔ VO 변환 (시작 시 한 번 만든 매핑을 재사용)
+    OrderMapper orderMapper;
+
+    // 주문 목록 한 페이지의 기본/최대 건수
+    int defaultLimit;
+    int maxLimit;
+
     /**
      * 생성자 주입 방식 (@Autowired)
-     * - 스프링이 자동으로 Environment와 OrderService를 주입함
+     * - 스프링이 자동으로 Environment, OrderService, OrderMapper를 주입함
      * - 생성자 주입을 사용하면 의존성 불변성 확보 및 테스트 용이
      */
     @Autowired
-    public OrderController(Environment env, OrderService orderService) {
+    public OrderController(Environment env, OrderService orderService, OrderMapper orderMapper,
+                           @Value("${orders.page.default-limit:50}") int defaultLimit,
+                           @Value("${orders.page.max-limit:500}") int maxLimit) {
         this.env = env;
         this.orderService = orderService;
+        this.orderMapper = orderMapper;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
     }
 
     /**
@@ -76,12 +98,8 @@ public class OrderController {
             @RequestBody RequestOrder orderDetails) {     // JSON 요청 본문 매핑
         log.info("Before add orders data");
 
-        // ModelMapper를 이용해 DTO 간 매핑 전략 설정
-        ModelMapper mapper = new ModelMapper();
-        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-
         // RequestOrder → OrderDto 변환
-        OrderDto orderDto = mapper.map(orderDetails, OrderDto.class);
+        OrderDto orderDto = orderMapper.toDto(orderDetails);
 
         // 경로에서 받은 userId를 DTO에 설정
         orderDto.setUserId(userId);
@@ -90,7 +108,7 @@ public class OrderController {
         OrderDto createdOrder = orderService.createOrder(orderDto);
 
         // DB 저장 결과를 응답 객체(ResponseOrder)로 매핑
-        ResponseOrder responseOrder = mapper.map(createdOrder, ResponseOrder.class);
+        ResponseOrder responseOrder = orderMapper.toResponse(createdOrder);
 
         log.info("After added orders data");
 
@@ -99,32 +117,72 @@ public class OrderController {
     }
 
     /**
-     * 주문 목록 조회 API
-     * - GET /order-service/{userId}/orders
-     * - 특정 사용자(userId)의 모든 주문 정보를 조회
-     * - DB에서 가져온 OrderEntity 목록을 ResponseOrder 리스트로 변환하여 반환
+     * 주문 목록 조회 API (keyset pagination)
+     * - GET /order-service/{userId}/orders?limit=50&from=2025-01-01&to=2025-12-31
+     * - 최신 주문부터(createdAt, id 내림차순) limit건을 반환, 다음 페이지가 있으면 X-Next-Cursor 헤더로 cursor 전달
+     * - 다음 페이지는 같은 조건에 cursor={X-Next-Cursor}를 붙여 조회
+     * - from/to: 주문 날짜 범위 (둘 다 포함, 생략 가능)
+     * - 응답에 필요한 컬럼만 조회(OrderRow)하므로 엔티티 전체를 읽지 않음
      * @param userId 사용자 ID
-     * @return 해당 사용자의 주문 리스트
+     * @return 해당 사용자의 주문 리스트 (한 페이지)
      */
     @GetMapping("/{userId}/orders")
-    public ResponseEntity<List<ResponseOrder>> getOrder(@PathVariable("userId") String userId) throws Exception {
+    public ResponseEntity<List<ResponseOrder>> getOrder(
+            @PathVariable("userId") String userId,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         log.info("Before retrieve orders data");
 
-        // 서비스 계층을 통해 사용자별 주문 목록 조회
-        Iterable<OrderEntity> orderList = orderService.getOrdersByUserId(userId);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        int pageSize = limit != null ? Math.min(Math.max(limit, 1), maxLimit) : defaultLimit;
 
-        // 응답용 리스트 생성
-        List<ResponseOrder> result = new ArrayList<>();
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+        List<OrderRow> orderList = orderService.getOrdersPage(userId,
+                from != null ? Timestamp.valueOf(from.atStartOfDay()) : null,
+                to != null ? Timestamp.valueOf(to.plusDays(1).atStartOfDay()) : null,
+                decodeCursor(cursor), pageSize + 1);
+        boolean hasNext = orderList.size() > pageSize;
 
-        // Entity → ResponseOrder 매핑 반복 수행
-        orderList.forEach(v -> {
-            result.add(new ModelMapper().map(v, ResponseOrder.class));
-        });
+        List<ResponseOrder> result = new ArrayList<>(pageSize);
+        for (OrderRow v : hasNext ? orderList.subList(0, pageSize) : orderList) {
+            result.add(orderMapper.toResponse(v));
+        }
 
         log.info("Add retrieved orders data");
 
         // HTTP 200(OK) 상태코드와 함께 JSON 배열로 반환
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK);
+        if (hasNext) {
+            builder.header(NEXT_CURSOR_HEADER, encodeCursor(orderList.get(pageSize - 1)));
+        }
+        return builder.body(result);
+    }
+
+    /* cursor는 클라이언트가 해석하지 않는 값(opaque)으로 전달: 마지막 주문의 "createdAt(초.나노초):id"를 Base64(URL-safe)로 인코딩 */
+    private static String encodeCursor(OrderRow last) {
+        Instant createdAt = last.createdAt().toInstant();
+        String value = createdAt.getEpochSecond() + "." + createdAt.getNano() + ":" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OrderCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int dot = value.indexOf('.');
+            int colon = value.indexOf(':');
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(value.substring(0, dot)),
+                    Long.parseLong(value.substring(dot + 1, colon)));
+            return new OrderCursor(Timestamp.from(createdAt), Long.valueOf(value.substring(colon + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
     }
 
 }
@@ -0,0 +1,35 @@
+package com.example.order_service.controller;
+
+import com.example.order_service.service.OrderSummaryService;
+import com.example.order_service.vo.ResponseOrderSummary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * OrderSummaryController
+ * - 사용자별 주문 요약(주문 수, 총 주문 금액, 마지막 주문) 조회
+ * - 요약은 주문 저장 시 함께 갱신되므로 주문 목록을 읽지 않고 한 행만 조회
+ * - 요약 재계산은 HTTP로 노출하지 않고 시작 옵션으로만 실행 (OrderSummaryRebuildRunner)
+ */
+@RestController
+@RequestMapping("/order-service")
+public class OrderSummaryController {
+    private final OrderSummaryService orderSummaryService;
+
+    public OrderSummaryController(OrderSummaryService orderSummaryService) {
+        this.orderSummaryService = orderSummaryService;
+    }
+
+    /**
+     * 주문 요약 조회 API
+     * - GET /order-service/{userId}/orders/summary
+     * - 주문이 없는 사용자는 0건으로 응답
+     */
+    @GetMapping("/{userId}/orders/summary")
+    public ResponseEntity<ResponseOrderSummary> getSummary(@PathVariable("userId") String userId) {
+        return ResponseEntity.ok(orderSummaryService.getSummary(userId));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.order_service.dto;
+
+import java.util.Date;
+
+/**
+ * 주문 목록 keyset pagination 위치 (마지막으로 받은 주문의 createdAt, id)
+ * - 목록은 createdAt, id 내림차순이므로 다음 페이지는 이 위치보다 앞선 주문부터 조회
+ */
+public record OrderCursor(Date createdAt, Long id) {
+}
@@ -0,0 +1,41 @@
+package com.example.order_service.id;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UuidBinaryConverter
+ * - UUID 문자열(36자)을 16바이트 BINARY 컬럼으로 저장하는 선택적 매핑
+ * - 인덱스 크기가 절반 이하로 줄고, UUIDv7은 바이트 순서가 곧 시간 순서이므로 정렬/범위 조회도 그대로 가능
+ * - 기본으로 적용하지 않음 (autoApply = false), 사용할 컬럼에 직접 지정:
+ *   @Convert(converter = UuidBinaryConverter.class)
+ *   @Column(nullable = false, unique = true, length = 16, columnDefinition = "BINARY(16)")
+ *   (기존 VARCHAR 컬럼의 데이터는 별도로 변환해야 함)
+ */
+@Converter(autoApply = false)
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        UUID uuid = UUID.fromString(attribute);
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(dbData);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
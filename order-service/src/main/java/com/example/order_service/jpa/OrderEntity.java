@@ -9,7 +9,8 @@ import java.util.Date;
 
 @Data
 @Entity
-@Table(name="orders")
+// 사용자별 주문 목록(최신순) 조회와 keyset pagination에 사용하는 인덱스
+@Table(name="orders", indexes = @Index(name = "idx_orders_user_created_id", columnList = "user_id, created_at desc, id desc"))
 public class OrderEntity implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,7 +30,8 @@ public class OrderEntity implements Serializable {
     @Column(nullable = false, unique = true)
     private String orderId;
 
-    @Column(nullable = false, updatable = false, insertable = false)
+    // 주문 저장 시 애플리케이션에서 채움, 기본값은 SQL로 직접 넣는 행을 위한 것
+    @Column(nullable = false, updatable = false)
     @ColumnDefault(value = "CURRENT_TIMESTAMP")
     private Date createdAt;
 }
@@ -1,8 +1,27 @@
 package com.example.order_service.jpa;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
 
 public interface OrderRepository extends CrudRepository<OrderEntity, Long> {
     OrderEntity findByOrderId(String orderId);
     Iterable<OrderEntity> findByUserId(String userId);
+
+    /**
+     * 사용자의 주문을 최신순(createdAt, id 내림차순)으로 limit건 조회 (keyset pagination)
+     * - [from, to) 기간 중 (afterCreatedAt, afterId)보다 앞선 주문만 조회
+     * - (user_id, created_at desc, id desc) 인덱스 순서와 같으므로 OFFSET 없이 인덱스를 이어서 읽음
+     */
+    @Query("select new com.example.order_service.jpa.OrderRow(o.id, o.orderId, o.productId, o.qty, o.unitPrice, "
+            + "o.totalPrice, o.createdAt) from OrderEntity o "
+            + "where o.userId = :userId and o.createdAt >= :from and o.createdAt < :to "
+            + "and (o.createdAt < :afterCreatedAt or (o.createdAt = :afterCreatedAt and o.id < :afterId)) "
+            + "order by o.createdAt desc, o.id desc")
+    List<OrderRow> findPage(@Param("userId") String userId, @Param("from") Date from, @Param("to") Date to,
+                            @Param("afterCreatedAt") Date afterCreatedAt, @Param("afterId") Long afterId, Limit limit);
 }
@@ -0,0 +1,11 @@
+package com.example.order_service.jpa;
+
+import java.util.Date;
+
+/**
+ * 주문 목록 조회용 projection
+ * - 응답(ResponseOrder)에 필요한 컬럼과 cursor용 id만 조회 (엔티티 전체를 읽지 않고, 영속성 컨텍스트에도 올리지 않음)
+ */
+public record OrderRow(Long id, String orderId, String productId, Integer qty, Integer unitPrice, Integer totalPrice,
+                       Date createdAt) {
+}
@@ -0,0 +1,31 @@
+package com.example.order_service.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 사용자별 주문 요약 (주문 수, 누적 금액, 마지막 주문)
+ * - 주문 저장과 같은 트랜잭션에서 OrderSummaryService가 증가분을 반영 (JdbcTemplate, 원자적 UPDATE)
+ * - 이 엔티티는 테이블 정의(ddl-auto)에 사용
+ */
+@Data
+@Entity
+@Table(name = "user_order_summary")
+public class UserOrderSummaryEntity {
+    @Id
+    @Column(length = 255)
+    private String userId;
+
+    @Column(nullable = false)
+    private Long orderCount;
+    @Column(nullable = false)
+    private Long totalSpend;
+
+    private Date lastOrderAt;
+    private String lastOrderId;
+}
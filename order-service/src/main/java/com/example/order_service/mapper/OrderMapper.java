@@ -0,0 +1,70 @@
+package com.example.order_service.mapper;
+
+import com.example.order_service.dto.OrderDto;
+import com.example.order_service.jpa.OrderEntity;
+import com.example.order_service.jpa.OrderRow;
+import com.example.order_service.vo.RequestOrder;
+import com.example.order_service.vo.ResponseOrder;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderMapper
+ * - order-service의 Entity ↔ Dto ↔ VO 변환을 한곳에서 담당
+ * - 매핑 정보(TypeMap)는 애플리케이션 시작 시 한 번만 만들고, 요청마다 재사용
+ * - 설정이 끝난 ModelMapper/TypeMap은 읽기 전용이므로 여러 요청 스레드에서 동시에 사용해도 안전
+ * - STRICT: 필드명이 정확히 일치할 때만 매핑
+ */
+@Component
+public class OrderMapper {
+    private final TypeMap<RequestOrder, OrderDto> requestToDto;
+    private final TypeMap<OrderDto, OrderEntity> dtoToEntity;
+    private final TypeMap<OrderEntity, OrderDto> entityToDto;
+    private final TypeMap<OrderDto, ResponseOrder> dtoToResponse;
+    private final TypeMap<OrderEntity, ResponseOrder> entityToResponse;
+
+    public OrderMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        this.requestToDto = mapper.createTypeMap(RequestOrder.class, OrderDto.class);
+        this.dtoToEntity = mapper.createTypeMap(OrderDto.class, OrderEntity.class);
+        this.entityToDto = mapper.createTypeMap(OrderEntity.class, OrderDto.class);
+        this.dtoToResponse = mapper.createTypeMap(OrderDto.class, ResponseOrder.class);
+        this.entityToResponse = mapper.createTypeMap(OrderEntity.class, ResponseOrder.class);
+    }
+
+    public OrderDto toDto(RequestOrder requestOrder) {
+        return requestToDto.map(requestOrder);
+    }
+
+    public OrderDto toDto(OrderEntity orderEntity) {
+        return entityToDto.map(orderEntity);
+    }
+
+    public OrderEntity toEntity(OrderDto orderDto) {
+        return dtoToEntity.map(orderDto);
+    }
+
+    public ResponseOrder toResponse(OrderDto orderDto) {
+        return dtoToResponse.map(orderDto);
+    }
+
+    public ResponseOrder toResponse(OrderEntity orderEntity) {
+        return entityToResponse.map(orderEntity);
+    }
+
+    /* record는 getter(getX)가 없어 ModelMapper가 읽지 못하므로 직접 변환 */
+    public ResponseOrder toResponse(OrderRow orderRow) {
+        ResponseOrder responseOrder = new ResponseOrder();
+        responseOrder.setOrderId(orderRow.orderId());
+        responseOrder.setProductId(orderRow.productId());
+        responseOrder.setQty(orderRow.qty());
+        responseOrder.setUnitPrice(orderRow.unitPrice());
+        responseOrder.setTotalPrice(orderRow.totalPrice());
+        responseOrder.setCreatedAt(orderRow.createdAt());
+        return responseOrder;
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.order_service.service;
+
+import com.example.order_service.jpa.OrderEntity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderBatchWriter
+ * - 주문 저장을 모아서 처리하는 group-commit 방식 (order-batch.enabled=true일 때 사용)
+ * - 요청 스레드는 주문을 대기 큐(queue-capacity)에 넣고, 전용 스레드(order-batch-writer)가
+ *   최대 batch-size건 또는 첫 주문 이후 max-wait-ms 동안 모인 주문을 JDBC batch INSERT 한 번, 트랜잭션 한 번으로 저장
+ * - 각 요청은 자기 주문이 들어간 batch가 commit된 뒤에 응답 (commit 전에 성공 응답을 보내지 않음)
+ * - batch 저장이 실패하면 해당 batch의 주문을 한 건씩 다시 저장하여 실패한 주문만 오류로 응답
+ * - 대기 큐가 가득 차면 기다리지 않고 바로 503(Service Unavailable)으로 거절
+ * - 전용 스레드가 인터럽트나 Error로 멈추면 아직 저장하지 못한 주문을 모두 503으로 완료 (요청 스레드가 끝없이 기다리지 않도록)
+ *   호출하는 쪽도 await-timeout-ms까지만 기다림
+ * - 기다리다 포기한 주문은 cancel로 대기 큐에서 꺼냄, 꺼냈으면(저장되지 않음) 503으로 재시도를 허용하고
+ *   이미 batch로 넘어갔으면 저장될 수 있으므로 Retry-After 없이 504로 응답 (재시도하면 주문이 두 번 저장될 수 있음)
+ * - 사용자별 주문 요약(OrderSummaryService)도 같은 트랜잭션에서 갱신, batch 안의 같은 사용자 주문은 합쳐서 한 번만 갱신
+ */
+@Component
+@Slf4j
+public class OrderBatchWriter {
+    private static final String INSERT_SQL = "insert into orders "
+            + "(product_id, qty, unit_price, total_price, user_id, order_id, created_at) values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderSummaryService summaryService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxWaitNanos;
+    private final long awaitTimeoutMs;
+    private final BlockingQueue<PendingOrder> queue;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    public OrderBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            OrderSummaryService summaryService,
+                            @Value("${order-batch.enabled:false}") boolean enabled,
+                            @Value("${order-batch.batch-size:100}") int batchSize,
+                            @Value("${order-batch.max-wait-ms:5}") long maxWaitMs,
+                            @Value("${order-batch.queue-capacity:10000}") int queueCapacity,
+                            @Value("${order-batch.await-timeout-ms:5000}") long awaitTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.summaryService = summaryService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        if (enabled) {
+            this.writer = new Thread(this::writeLoop, "order-batch-writer");
+            this.writer.setDaemon(true);
+            this.writer.start();
+            log.info("Order group commit: batchSize={}, maxWaitMs={}, queue={}", batchSize, maxWaitMs, queueCapacity);
+        } else {
+            this.writer = null;
+        }
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * 주문 저장 요청
+     * @return 주문이 들어간 batch가 commit되면 완료되는 future (createdAt이 채워진 같은 엔티티)
+     * @throws ResponseStatusException 대기 큐가 가득 찬 경우 503
+     */
+    public CompletableFuture<OrderEntity> submit(OrderEntity order) {
+        PendingOrder pending = new PendingOrder(order, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new OrderQueueFullException();
+        }
+        return pending.result();
+    }
+
+    public int queued() { return queue.size(); }
+
+    /** submit한 주문의 commit을 기다리는 최대 시간, 넘으면 cancel */
+    public long awaitTimeoutMs() { return awaitTimeoutMs; }
+
+    /**
+     * 기다리기를 포기한 주문을 대기 큐에서 꺼냄
+     * - 큐 잠금 안에서 꺼내므로 쓰기 스레드가 batch로 가져가는 것과 동시에 일어나지 않음
+     * @return 큐에서 꺼냈으면 true (저장되지 않음), 이미 batch로 넘어갔으면 false (commit될 수 있음)
+     */
+    public boolean cancel(CompletableFuture<OrderEntity> result) {
+        return queue.removeIf(pending -> pending.result() == result);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            // 이미 받은 주문은 모두 저장한 뒤 종료
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // 종료 직전에 들어와 저장되지 못한 주문은 거절
+        reject(new ArrayList<>());
+    }
+
+    /* batch에 남은 주문과 대기 큐의 주문을 모두 503으로 완료 (이미 완료된 주문은 그대로) */
+    private void reject(List<PendingOrder> pending) {
+        queue.drainTo(pending);
+        pending.forEach(order -> order.result().completeExceptionally(new OrderQueueFullException()));
+        pending.clear();
+    }
+
+    private void writeLoop() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < batchSize) {
+                    // 이미 쌓여 있는 주문은 기다리지 않고 가져오고, 큐가 비면 deadline까지만 기다림
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    write(batch);
+                } catch (RuntimeException e) {
+                    log.error("Order batch writer failed", e);
+                    batch.forEach(pending -> pending.result().completeExceptionally(e));
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 정상 종료가 아니면(인터럽트, Error) 더 이상 주문을 받지 않고, 저장하지 못한 주문은 모두 거절
+            running = false;
+            if (!batch.isEmpty() || !queue.isEmpty()) {
+                log.error("Order batch writer stopped, rejecting {} pending orders", batch.size() + queue.size());
+            }
+            reject(batch);
+        }
+    }
+
+    private void write(List<PendingOrder> batch) {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        List<OrderEntity> orders = batch.stream().map(PendingOrder::order).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, orders, orders.size(),
+                        (statement, order) -> bind(statement, order, createdAt));
+                summaryService.add(orders, createdAt);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Order batch of {} failed, retrying one by one: {}", batch.size(), e.toString());
+            for (PendingOrder pending : batch) {
+                try {
+                    writeOne(pending.order(), createdAt);
+                    complete(pending, createdAt);
+                } catch (RuntimeException single) {
+                    pending.result().completeExceptionally(single);
+                }
+            }
+            return;
+        }
+        for (PendingOrder pending : batch) {
+            complete(pending, createdAt);
+        }
+    }
+
+    /* 요약 행을 다른 트랜잭션이 먼저 만든 경우(DuplicateKeyException) 한 번 더 실행 */
+    private void writeOne(OrderEntity order, Timestamp createdAt) {
+        try {
+            insertOne(order, createdAt);
+        } catch (DuplicateKeyException e) {
+            insertOne(order, createdAt);
+        }
+    }
+
+    private void insertOne(OrderEntity order, Timestamp createdAt) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, order, createdAt));
+            summaryService.add(List.of(order), createdAt);
+        });
+    }
+
+    private static void bind(PreparedStatement statement, OrderEntity order, Timestamp createdAt) throws SQLException {
+        statement.setString(1, order.getProductId());
+        statement.setInt(2, order.getQty());
+        statement.setInt(3, order.getUnitPrice());
+        statement.setInt(4, order.getTotalPrice());
+        statement.setString(5, order.getUserId());
+        statement.setString(6, order.getOrderId());
+        statement.setTimestamp(7, createdAt);
+    }
+
+    private static void complete(PendingOrder pending, Timestamp createdAt) {
+        pending.order().setCreatedAt(createdAt);
+        pending.result().complete(pending.order());
+    }
+
+    private record PendingOrder(OrderEntity order, CompletableFuture<OrderEntity> result) {
+    }
+
+    static class OrderQueueFullException extends ResponseStatusException {
+        OrderQueueFullException() {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "Too many orders in progress, retry later");
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+            return headers;
+        }
+    }
+
+    /* 저장 중인 batch를 기다리다 포기한 경우, 저장 여부를 알 수 없으므로 Retry-After를 보내지 않음 */
+    static class OrderWriteTimeoutException extends ResponseStatusException {
+        OrderWriteTimeoutException() {
+            super(HttpStatus.GATEWAY_TIMEOUT, "Order may still be saved, check the order list before retrying");
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.order_service.service;
 
+import com.example.order_service.dto.OrderCursor;
 import com.example.order_service.dto.OrderDto;
 import com.example.order_service.jpa.OrderEntity;
+import com.example.order_service.jpa.OrderRow;
+
+import java.util.Date;
+import java.util.List;
 
 public interface OrderService {
     OrderDto createOrder(OrderDto orderDetails);
     OrderDto getOrderByOrderId(String orderId);
     Iterable<OrderEntity> getOrdersByUserId(String userId);
+    List<OrderRow> getOrdersPage(String userId, Date from, Date to, OrderCursor after, int limit);
 }
@@ -1,14 +1,26 @@
 package com.example.order_service.service;
 
+import com.example.order_service.dto.OrderCursor;
 import com.example.order_service.dto.OrderDto;
+import com.example.order_service.id.TimeOrderedIdGenerator;
 import com.example.order_service.jpa.OrderEntity;
 import com.example.order_service.jpa.OrderRepository;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
+import com.example.order_service.jpa.OrderRow;
+import com.example.order_service.mapper.OrderMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.UUID;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * OrderServiceImpl
@@ -18,12 +30,37 @@ import java.util.UUID;
  */
 @Service
 public class OrderServiceImpl implements OrderService{
+    // 기간/cursor를 지정하지 않았을 때 사용하는 범위 (조건이 항상 참이 되도록 하여 쿼리를 하나로 유지)
+    private static final Date MIN_DATE = new Timestamp(0);
+    private static final Date MAX_DATE = Timestamp.valueOf("9999-12-31 00:00:00");
+
     // JPA를 통해 DB 접근을 수행하는 Repository
     OrderRepository orderRepository;
 
+    // Entity ↔ Dto 변환 (시작 시 한 번 만든 매핑을 재사용)
+    OrderMapper orderMapper;
+
+    // 주문 ID 생성기 (시간 순서 UUIDv7)
+    TimeOrderedIdGenerator idGenerator;
+
+    // group-commit 모드에서 주문을 모아 저장 (order-batch.enabled)
+    OrderBatchWriter orderBatchWriter;
+
+    // 사용자별 주문 요약 (주문 저장과 같은 트랜잭션에서 갱신)
+    OrderSummaryService orderSummaryService;
+
+    TransactionTemplate transactionTemplate;
+
     @Autowired
-    public OrderServiceImpl(OrderRepository orderRepository) {
+    public OrderServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper, TimeOrderedIdGenerator idGenerator,
+                            OrderBatchWriter orderBatchWriter, OrderSummaryService orderSummaryService,
+                            PlatformTransactionManager transactionManager) {
         this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.idGenerator = idGenerator;
+        this.orderBatchWriter = orderBatchWriter;
+        this.orderSummaryService = orderSummaryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -36,26 +73,73 @@ public class OrderServiceImpl implements OrderService{
      */
     @Override
     public OrderDto createOrder(OrderDto orderDto) {
-        // 주문 ID를 UUID로 자동 생성 (고유 식별자)
-        orderDto.setOrderId(UUID.randomUUID().toString());
+        // 주문 ID를 시간 순서 UUID(v7)로 자동 생성 (고유 식별자, unique 인덱스에 순서대로 추가됨)
+        orderDto.setOrderId(idGenerator.next());
         // 총 금액 계산(totalPrice): 수량 × 단가
         orderDto.setTotalPrice(orderDto.getQty() * orderDto.getUnitPrice());
 
-        // ModelMapper 설정: 매핑 전략을 STRICT로 설정 (필드명이 정확히 일치해야 매핑)
-        ModelMapper mapper = new ModelMapper();
-        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-        // DTO → Entity 변환
-        OrderEntity orderEntity = mapper.map(orderDto, OrderEntity.class);
-
-        // DB에 주문 정보 저장
-        orderRepository.save(orderEntity);
+        // DB에 주문 정보 저장 (사용자별 주문 요약도 같은 트랜잭션에서 갱신)
+        OrderEntity orderEntity;
+        if (orderBatchWriter.isEnabled()) {
+            // group-commit: 다른 요청의 주문과 함께 한 트랜잭션으로 저장, commit될 때까지 기다림
+            orderEntity = await(orderBatchWriter.submit(orderMapper.toEntity(orderDto)));
+        } else {
+            try {
+                orderEntity = transactionTemplate.execute(status -> save(orderDto));
+            } catch (DuplicateKeyException e) {
+                // 같은 사용자의 첫 주문이 동시에 들어와 요약 행을 다른 트랜잭션이 먼저 만든 경우 한 번 더 저장
+                orderEntity = transactionTemplate.execute(status -> save(orderDto));
+            }
+        }
 
         // Entity → DTO로 다시 변환하여 반환
-        OrderDto returnValue = mapper.map(orderEntity, OrderDto.class);
+        OrderDto returnValue = orderMapper.toDto(orderEntity);
 
         return returnValue;
     }
 
+    private OrderEntity save(OrderDto orderDto) {
+        // DTO → Entity 변환 (STRICT: 필드명이 정확히 일치해야 매핑), 다시 저장할 때 id가 남지 않도록 매번 새로 만듦
+        OrderEntity orderEntity = orderMapper.toEntity(orderDto);
+        // 주문 시각은 group-commit 모드와 같이 애플리케이션에서 정해서 저장 (저장 후 다시 읽지 않음)
+        orderEntity.setCreatedAt(new Timestamp(System.currentTimeMillis()));
+        orderRepository.save(orderEntity);
+        orderSummaryService.add(List.of(orderEntity), orderEntity.getCreatedAt());
+        return orderEntity;
+    }
+
+    /**
+     * 쓰기 스레드가 멈춰도 요청 스레드가 끝없이 기다리지 않도록 await-timeout-ms까지만 기다림
+     * - 아직 대기 큐에 있던 주문은 꺼내고 503 (저장되지 않았으므로 재시도 가능)
+     * - 이미 저장 중인 batch에 들어간 주문은 commit될 수 있으므로 504 (Retry-After 없음)
+     */
+    private OrderEntity await(CompletableFuture<OrderEntity> result) {
+        try {
+            return result.get(orderBatchWriter.awaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Order batch write failed", e.getCause());
+        } catch (TimeoutException e) {
+            return giveUp(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return giveUp(result);
+        }
+    }
+
+    private OrderEntity giveUp(CompletableFuture<OrderEntity> result) {
+        if (orderBatchWriter.cancel(result)) {
+            throw new OrderBatchWriter.OrderQueueFullException();
+        }
+        if (!result.isDone()) {
+            throw new OrderBatchWriter.OrderWriteTimeoutException();
+        }
+        // 포기하는 사이에 batch가 끝난 경우 그 결과로 응답 (이미 완료되었으므로 바로 반환)
+        return await(result);
+    }
+
     /**
      * 주문 ID로 주문 조회(getOrderByOrderId)
      * - 특정 주문 ID에 해당하는 주문 데이터를 조회
@@ -65,7 +149,7 @@ public class OrderServiceImpl implements OrderService{
     @Override
     public OrderDto getOrderByOrderId(String orderId) {
         OrderEntity orderEntity = orderRepository.findByOrderId(orderId);
-        OrderDto orderDto = new ModelMapper().map(orderEntity, OrderDto.class);
+        OrderDto orderDto = orderMapper.toDto(orderEntity);
 
         return orderDto;
     }
@@ -80,4 +164,19 @@ public class OrderServiceImpl implements OrderService{
         return orderRepository.findByUserId(userId);
     }
 
+    /**
+     * 사용자별 주문 목록 페이지 조회 (최신순)
+     * - from/to: 주문 시각 범위 [from, to), null이면 제한 없음
+     * - after: 이전 페이지의 마지막 주문 위치, null이면 첫 페이지
+     */
+    @Override
+    public List<OrderRow> getOrdersPage(String userId, Date from, Date to, OrderCursor after, int limit) {
+        return orderRepository.findPage(userId,
+                from != null ? from : MIN_DATE,
+                to != null ? to : MAX_DATE,
+                after != null ? after.createdAt() : MAX_DATE,
+                after != null ? after.id() : Long.MAX_VALUE,
+                Limit.of(limit));
+    }
+
 }
@@ -0,0 +1,33 @@
+package com.example.order_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * OrderSummaryRebuildRunner
+ * - 시작 옵션 --rebuild-order-summaries 가 있으면 시작하면서 주문 요약을 한 번 다시 계산 (OrderSummaryRebuilder)
+ *   예) java -jar order-service.jar --rebuild-order-summaries
+ * - 요약이 orders와 어긋났을 때, 요약 테이블을 처음 만들었을 때 운영자가 실행
+ * - 재계산이 끝난 뒤에 시작이 완료되고 요청을 받기 시작함 (재계산 중에도 주문 저장은 안전하지만 외부 호출로 시작할 수는 없음)
+ */
+@Component
+@Slf4j
+public class OrderSummaryRebuildRunner implements ApplicationRunner {
+    public static final String OPTION = "rebuild-order-summaries";
+
+    private final OrderSummaryRebuilder orderSummaryRebuilder;
+
+    public OrderSummaryRebuildRunner(OrderSummaryRebuilder orderSummaryRebuilder) {
+        this.orderSummaryRebuilder = orderSummaryRebuilder;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            log.info("Rebuilding order summaries (--{})", OPTION);
+            orderSummaryRebuilder.rebuild();
+        }
+    }
+}
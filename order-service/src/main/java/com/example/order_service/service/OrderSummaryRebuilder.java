@@ -0,0 +1,148 @@
+package com.example.order_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderSummaryRebuilder
+ * - orders 테이블에서 사용자별 주문 요약(user_order_summary)을 다시 계산
+ * - 주문이 있거나 요약 행이 있는 사용자를 chunk-size명씩 나눠 parallelism개의 스레드에서 동시에 처리 (chunk마다 트랜잭션 하나)
+ *   주문이 모두 사라진 사용자의 요약 행은 0건으로 되돌림
+ * - chunk마다 트랜잭션 동안 커넥션을 하나씩 잡으므로, parallelism은 커넥션 풀 크기의 절반을 넘지 않게 제한
+ *   (나머지 커넥션은 서비스 요청이 사용)
+ * - 실행: 시작 옵션 --rebuild-order-summaries (OrderSummaryRebuildRunner), HTTP로는 노출하지 않음
+ * - chunk 처리 순서: 요약 행이 없으면 만들고 → 요약 행을 잠근 뒤(select ... for update) → orders를 집계해서 덮어씀
+ *   잠그는 동안 들어온 주문은 요약 행 잠금을 기다렸다가 재계산된 값 위에 증가분을 반영하므로, 서비스 중에 실행해도 됨
+ */
+@Component
+@Slf4j
+public class OrderSummaryRebuilder {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public OrderSummaryRebuilder(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 @Value("${order-summary.rebuild.chunk-size:500}") int chunkSize,
+                                 @Value("${order-summary.rebuild.parallelism:2}") int parallelism,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = Math.max(1, Math.min(parallelism, poolSize / 2));
+    }
+
+    /** 재계산 결과 (사용자 수, 주문 수, chunk 수, 걸린 시간) */
+    public record Result(int users, long orders, int chunks, long elapsedMs) {
+    }
+
+    public Result rebuild() {
+        long start = System.nanoTime();
+        List<String> userIds = jdbcTemplate.queryForList("select user_id from orders union "
+                + "select user_id from user_order_summary order by user_id", String.class);
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += chunkSize) {
+            chunks.add(userIds.subList(i, Math.min(i + chunkSize, userIds.size())));
+        }
+
+        long orders = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<Long>> results = new ArrayList<>(chunks.size());
+            for (List<String> chunk : chunks) {
+                results.add(executor.submit(() -> rebuildChunk(chunk)));
+            }
+            for (Future<Long> result : results) {
+                orders += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Order summary rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Order summary rebuild failed", e.getCause());
+        }
+
+        Result result = new Result(userIds.size(), orders, chunks.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Rebuilt order summaries: {}", result);
+        return result;
+    }
+
+    /* 다른 트랜잭션이 같은 사용자의 요약 행을 먼저 만든 경우 한 번 더 실행 */
+    private long rebuildChunk(List<String> userIds) {
+        try {
+            return transactionTemplate.execute(status -> recompute(userIds));
+        } catch (DuplicateKeyException e) {
+            return transactionTemplate.execute(status -> recompute(userIds));
+        }
+    }
+
+    private long recompute(List<String> userIds) {
+        MapSqlParameterSource ids = new MapSqlParameterSource("userIds", userIds);
+
+        // 1) 요약 행이 없는 사용자는 0건으로 만들어 둠 (잠글 행이 있도록)
+        Set<String> existing = new HashSet<>(namedJdbcTemplate.queryForList(
+                "select user_id from user_order_summary where user_id in (:userIds)", ids, String.class));
+        List<Object[]> missing = new ArrayList<>();
+        for (String userId : userIds) {
+            if (!existing.contains(userId)) {
+                missing.add(new Object[]{userId});
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into user_order_summary (user_id, order_count, total_spend) values (?, 0, 0)", missing);
+        }
+
+        // 2) 요약 행 잠금 (userId 순서)
+        namedJdbcTemplate.queryForList("select user_id from user_order_summary where user_id in (:userIds) "
+                + "order by user_id for update", ids, String.class);
+
+        // 3) 집계: 주문 수, 합계, 마지막 주문
+        Map<String, Object[]> totals = new HashMap<>();
+        namedJdbcTemplate.query("select user_id, count(*) order_count, sum(total_price) total_spend from orders "
+                + "where user_id in (:userIds) group by user_id", ids, rs -> {
+            totals.put(rs.getString("user_id"), new Object[]{rs.getLong("order_count"), rs.getLong("total_spend"), null, null});
+        });
+        namedJdbcTemplate.query("select o.user_id, o.order_id, o.created_at from orders o where o.user_id in (:userIds) "
+                + "and o.id = (select o2.id from orders o2 where o2.user_id = o.user_id "
+                + "order by o2.created_at desc, o2.id desc fetch first 1 rows only)", ids, rs -> {
+            Object[] total = totals.get(rs.getString("user_id"));
+            total[2] = rs.getTimestamp("created_at");
+            total[3] = rs.getString("order_id");
+        });
+
+        // 4) 덮어쓰기 (주문이 없는 사용자는 0건으로)
+        List<Object[]> updates = new ArrayList<>(userIds.size());
+        long orders = 0;
+        for (String userId : userIds) {
+            Object[] total = totals.getOrDefault(userId, new Object[]{0L, 0L, null, null});
+            orders += (Long) total[0];
+            updates.add(new Object[]{total[0], total[1], (Timestamp) total[2], total[3], userId});
+        }
+        jdbcTemplate.batchUpdate("update user_order_summary set order_count = ?, total_spend = ?, last_order_at = ?, "
+                + "last_order_id = ? where user_id = ?", updates);
+        return orders;
+    }
+}
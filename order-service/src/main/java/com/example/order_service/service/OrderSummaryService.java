@@ -0,0 +1,93 @@
+package com.example.order_service.service;
+
+import com.example.order_service.jpa.OrderEntity;
+import com.example.order_service.vo.ResponseOrderSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * OrderSummaryService
+ * - 사용자별 주문 요약(user_order_summary)을 주문 저장과 같은 트랜잭션에서 갱신
+ * - 요약 행의 값을 읽어서 다시 쓰지 않고 UPDATE ... set order_count = order_count + ? 로 증가분만 반영
+ *   (같은 사용자의 주문이 동시에 들어와도 갱신이 사라지지 않음)
+ * - 여러 주문을 한 번에 반영할 때는 사용자별로 합쳐서 사용자당 UPDATE 한 번, userId 순서로 갱신 (잠금 순서 고정)
+ * - 조회는 userId(PK)로 한 행만 읽음 (주문 수와 관계없이 일정한 비용)
+ */
+@Service
+public class OrderSummaryService {
+    private static final String UPDATE_SQL = "update user_order_summary set "
+            + "order_count = order_count + ?, total_spend = total_spend + ?, "
+            + "last_order_id = case when last_order_at is null or last_order_at <= ? then ? else last_order_id end, "
+            + "last_order_at = case when last_order_at is null or last_order_at <= ? then ? else last_order_at end "
+            + "where user_id = ?";
+    private static final String INSERT_SQL = "insert into user_order_summary "
+            + "(user_id, order_count, total_spend, last_order_at, last_order_id) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderSummaryService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 저장한 주문을 요약에 반영 (호출하는 쪽의 트랜잭션 안에서 실행해야 함)
+     * - 요약 행이 없으면 새로 만듦, 다른 트랜잭션이 같은 사용자의 행을 먼저 만들었다면
+     *   DuplicateKeyException이 발생하므로 호출하는 쪽에서 트랜잭션을 다시 실행
+     * @param createdAt 주문 시각 (같은 batch의 주문은 모두 같은 시각)
+     */
+    public void add(Collection<OrderEntity> orders, Date createdAt) {
+        Timestamp at = new Timestamp(createdAt.getTime());
+        Map<String, Delta> deltas = new TreeMap<>();
+        for (OrderEntity order : orders) {
+            deltas.computeIfAbsent(order.getUserId(), userId -> new Delta()).add(order);
+        }
+        deltas.forEach((userId, delta) -> {
+            int updated = jdbcTemplate.update(UPDATE_SQL, delta.count, delta.amount, at, delta.lastOrderId, at, at, userId);
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT_SQL, userId, delta.count, delta.amount, at, delta.lastOrderId);
+            }
+        });
+    }
+
+    /* 주문이 없는 사용자는 0건으로 응답 */
+    public ResponseOrderSummary getSummary(String userId) {
+        List<ResponseOrderSummary> rows = jdbcTemplate.query("select order_count, total_spend, last_order_at, last_order_id "
+                + "from user_order_summary where user_id = ?", (rs, rowNum) -> {
+            ResponseOrderSummary summary = new ResponseOrderSummary();
+            summary.setUserId(userId);
+            summary.setOrderCount(rs.getLong("order_count"));
+            summary.setTotalSpend(rs.getLong("total_spend"));
+            summary.setLastOrderAt(rs.getTimestamp("last_order_at"));
+            summary.setLastOrderId(rs.getString("last_order_id"));
+            return summary;
+        }, userId);
+        if (rows.isEmpty()) {
+            ResponseOrderSummary empty = new ResponseOrderSummary();
+            empty.setUserId(userId);
+            return empty;
+        }
+        return rows.get(0);
+    }
+
+    /* 한 사용자의 증가분 (같은 시각의 주문 중 마지막 주문은 orderId가 가장 큰 주문, UUIDv7은 시간 순서) */
+    private static class Delta {
+        long count;
+        long amount;
+        String lastOrderId;
+
+        void add(OrderEntity order) {
+            count++;
+            amount += order.getTotalPrice();
+            if (lastOrderId == null || order.getOrderId().compareTo(lastOrderId) > 0) {
+                lastOrderId = order.getOrderId();
+            }
+        }
+    }
+}
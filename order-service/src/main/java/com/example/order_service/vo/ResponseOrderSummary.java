@@ -0,0 +1,16 @@
+package com.example.order_service.vo;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.Date;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResponseOrderSummary {
+    private String userId;
+    private long orderCount;    // 주문 수
+    private long totalSpend;    // 누적 주문 금액 (totalPrice 합계)
+    private Date lastOrderAt;   // 마지막 주문 시각
+    private String lastOrderId;
+}
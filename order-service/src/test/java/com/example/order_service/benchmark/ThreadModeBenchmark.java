@@ -0,0 +1,154 @@
+package com.example.order_service.benchmark;
+
+import com.example.order_service.OrderServiceApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ThreadModeBenchmark
+ * - order-service를 같은 JVM에서 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)로 차례로 띄우고
+ *   POST /order-service/{userId}/orders의 처리량과 지연시간 백분위를 동시 요청 수(concurrency)를 늘려가며 비교
+ * - 요청마다 주문 한 건을 DB에 저장 (userId는 users개 중 임의 선택), Eureka는 사용하지 않음
+ * - 동시성 단계마다 closed-loop(응답을 받으면 바로 다음 요청)로 warmupSec 후 durationSec 동안 측정
+ * - 결과는 JSON 파일(output)로 기록하고 요약을 콘솔에 출력
+ * - 실행: mvn -Pthread-mode-benchmark test-compile exec:exec [-Dconcurrency=16,64,256,1024 -DdurationSec=60]
+ */
+public class ThreadModeBenchmark {
+    private final List<String> modes = List.of(System.getProperty("modes", "platform,virtual").split(","));
+    private final int[] concurrency = Arrays.stream(System.getProperty("concurrency", "16,64,256,1024").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+    private final int users = Integer.getInteger("users", 1000);
+    private final int warmupSec = Integer.getInteger("warmupSec", 5);
+    private final int durationSec = Integer.getInteger("durationSec", 20);
+    private final String output = System.getProperty("output", "target/thread-mode-benchmark.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        // devtools가 애플리케이션을 별도 스레드(restartedMain)에서 다시 띄우지 않도록 함
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        new ThreadModeBenchmark().run();
+    }
+
+    void run() throws Exception {
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String mode : modes) {
+            results.put(mode, runMode(mode.trim()));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", System.currentTimeMillis());
+        result.put("config", config());
+        result.put("modes", results);
+
+        File file = new File(output);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file, result);
+        System.out.println(mapper.writeValueAsString(result));
+        System.out.println("Result written to " + file.getAbsolutePath());
+    }
+
+    private Map<String, Object> runMode(String mode) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderServiceApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "spring.main.banner-mode=off",
+                        "spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                        "spring.datasource.url=jdbc:h2:mem:thread-mode-" + mode + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "eureka.client.enabled=false",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        try {
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/order-service";
+            String body = objectMapper.writeValueAsString(Map.of("productId", "CATALOG-001", "qty", 1, "unitPrice", 1500));
+
+            Map<String, Object> levels = new LinkedHashMap<>();
+            for (int clients : concurrency) {
+                LatencyHistogram histogram = new LatencyHistogram();
+                load(clients, histogram, () -> HttpRequest.newBuilder(URI.create(baseUrl + "/user-"
+                                + ThreadLocalRandom.current().nextInt(users) + "/orders"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)));
+                Map<String, Object> summary = histogram.summary(durationSec);
+                levels.put(String.valueOf(clients), summary);
+                System.out.printf("%-8s concurrency=%-5d throughput=%10s/s p50=%8sms p99=%8sms errors=%s%n", mode, clients,
+                        summary.get("throughputPerSec"), summary.get("p50Ms"), summary.get("p99Ms"), summary.get("errors"));
+            }
+            return levels;
+        } finally {
+            context.close();
+        }
+    }
+
+    /* clients개의 클라이언트가 closed-loop로 요청, 워밍업 이후 시작한 요청만 기록 */
+    private void load(int clients, LatencyHistogram histogram, Supplier<HttpRequest.Builder> requests) {
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSec);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSec);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                workers.execute(() -> {
+                    long start;
+                    while ((start = System.nanoTime()) < end) {
+                        try {
+                            HttpResponse<byte[]> response = client.send(requests.get().timeout(Duration.ofSeconds(30)).build(),
+                                    HttpResponse.BodyHandlers.ofByteArray());
+                            if (start < measureStart) {
+                                continue;
+                            }
+                            if (response.statusCode() >= 400) {
+                                histogram.error();
+                            } else {
+                                histogram.record(System.nanoTime() - start, response.body().length);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            if (start >= measureStart) {
+                                histogram.error();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private Map<String, Object> config() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("endpoint", "POST /order-service/{userId}/orders");
+        config.put("modes", modes);
+        config.put("concurrency", concurrency);
+        config.put("users", users);
+        config.put("warmupSec", warmupSec);
+        config.put("durationSec", durationSec);
+        config.put("javaVersion", System.getProperty("java.version"));
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        config.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        return config;
+    }
+}
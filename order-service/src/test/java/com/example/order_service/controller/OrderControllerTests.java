@@ -0,0 +1,95 @@
+package com.example.order_service.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderControllerTests {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from orders");
+        // order-1 ~ order-5: 하루 간격, order-5와 order-6은 같은 시각 (id로 순서 결정)
+        for (int i = 1; i <= 6; i++) {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, Math.min(i, 5), 12, 0);
+            jdbcTemplate.update("insert into orders (product_id, qty, unit_price, total_price, user_id, order_id, created_at) "
+                    + "values ('CATALOG-001', 1, 1000, 1000, 'user-1', ?, ?)", "order-" + i, Timestamp.valueOf(createdAt));
+        }
+        jdbcTemplate.update("insert into orders (product_id, qty, unit_price, total_price, user_id, order_id) "
+                + "values ('CATALOG-001', 1, 1000, 1000, 'user-2', 'order-other')");
+    }
+
+    @Test
+    void pagesThroughOrdersNewestFirstWithNextCursor() throws Exception {
+        List<String> orderIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/order-service/user-1/orders")
+                            .param("limit", "4")
+                            .param("cursor", cursor != null ? cursor : ""))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            orderIds.addAll(JsonPath.read(result.getResponse().getContentAsString(), "$[*].orderId"));
+            cursor = result.getResponse().getHeader(OrderController.NEXT_CURSOR_HEADER);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(2);
+        assertThat(orderIds).containsExactly("order-6", "order-5", "order-4", "order-3", "order-2", "order-1");
+    }
+
+    @Test
+    void filtersByDateRange() throws Exception {
+        mockMvc.perform(get("/order-service/user-1/orders")
+                        .param("from", "2025-01-02")
+                        .param("to", "2025-01-03"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(OrderController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$[*].orderId", contains("order-3", "order-2")));
+    }
+
+    @Test
+    void rejectsInvalidCursorAndRange() throws Exception {
+        mockMvc.perform(get("/order-service/user-1/orders").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/order-service/user-1/orders").param("from", "2025-02-01").param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createsCompositeIndexForUserOrders() {
+        List<String> columns = jdbcTemplate.queryForList("select column_name from information_schema.index_columns "
+                + "where index_name = 'IDX_ORDERS_USER_CREATED_ID' order by ordinal_position", String.class);
+
+        assertThat(columns).containsExactly("USER_ID", "CREATED_AT", "ID");
+        String plan = jdbcTemplate.queryForObject("explain select id, order_id from orders where user_id = 'user-1' "
+                + "and created_at < current_timestamp order by created_at desc, id desc limit 10", String.class);
+        assertThat(plan).containsIgnoringCase("IDX_ORDERS_USER_CREATED_ID");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.order_service.controller;
+
+import com.example.order_service.service.OrderSummaryRebuildRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderSummaryControllerTests {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    OrderSummaryRebuildRunner orderSummaryRebuildRunner;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from orders");
+        jdbcTemplate.update("delete from user_order_summary");
+    }
+
+    @Test
+    void updatesSummaryWhenOrderIsCreated() throws Exception {
+        for (int qty = 1; qty <= 2; qty++) {
+            mockMvc.perform(post("/order-service/user-1/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"productId\":\"CATALOG-001\",\"qty\":" + qty + ",\"unitPrice\":1500}"))
+                    .andExpect(status().isCreated());
+        }
+        String lastOrderId = jdbcTemplate.queryForObject("select order_id from orders where user_id = 'user-1' "
+                + "order by created_at desc, id desc fetch first 1 rows only", String.class);
+        // 요약의 마지막 주문 시각은 저장된 주문의 created_at과 같은 값 (애플리케이션에서 정한 시각)
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders o join user_order_summary s "
+                + "on s.last_order_id = o.order_id and s.last_order_at = o.created_at", Integer.class)).isEqualTo(1);
+
+        mockMvc.perform(get("/order-service/user-1/orders/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(2))
+                .andExpect(jsonPath("$.totalSpend").value(4500))
+                .andExpect(jsonPath("$.lastOrderId").value(lastOrderId));
+        mockMvc.perform(get("/order-service/user-unknown/orders/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(0))
+                .andExpect(jsonPath("$.lastOrderId").doesNotExist());
+    }
+
+    @Test
+    void rebuildRecomputesSummariesFromOrders() throws Exception {
+        // 요약을 거치지 않고 orders에 직접 넣은 주문 + 어긋난 요약 행
+        for (int i = 1; i <= 6; i++) {
+            jdbcTemplate.update("insert into orders (product_id, qty, unit_price, total_price, user_id, order_id, created_at) "
+                    + "values ('CATALOG-001', 1, 1000, 1000, 'user-1', ?, ?)",
+                    "order-" + i, Timestamp.valueOf(LocalDateTime.of(2025, 1, Math.min(i, 5), 12, 0)));
+        }
+        jdbcTemplate.update("insert into orders (product_id, qty, unit_price, total_price, user_id, order_id) "
+                + "values ('CATALOG-001', 2, 1000, 2000, 'user-2', 'order-other')");
+        jdbcTemplate.update("insert into user_order_summary (user_id, order_count, total_spend) values ('user-1', 99, 99)");
+        // 주문이 모두 사라진 사용자의 요약 행
+        jdbcTemplate.update("insert into user_order_summary (user_id, order_count, total_spend, last_order_id) "
+                + "values ('user-gone', 3, 3000, 'order-deleted')");
+
+        orderSummaryRebuildRunner.run(new DefaultApplicationArguments("--" + OrderSummaryRebuildRunner.OPTION));
+
+        mockMvc.perform(get("/order-service/user-1/orders/summary"))
+                .andExpect(jsonPath("$.orderCount").value(6))
+                .andExpect(jsonPath("$.totalSpend").value(6000))
+                .andExpect(jsonPath("$.lastOrderId").value("order-6"));
+        mockMvc.perform(get("/order-service/user-2/orders/summary"))
+                .andExpect(jsonPath("$.orderCount").value(1))
+                .andExpect(jsonPath("$.totalSpend").value(2000));
+        mockMvc.perform(get("/order-service/user-gone/orders/summary"))
+                .andExpect(jsonPath("$.orderCount").value(0))
+                .andExpect(jsonPath("$.totalSpend").value(0))
+                .andExpect(jsonPath("$.lastOrderId").doesNotExist());
+    }
+
+    @Test
+    void rebuildIsNotExposedOverHttp() throws Exception {
+        mockMvc.perform(post("/order-service/internal/order-summaries/rebuild"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.order_service.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * orders 테이블 INSERT 처리량 비교 (order_id unique 인덱스)
+ * - UUID_V4: 기존 방식, UUID.randomUUID().toString() (VARCHAR)
+ * - UUID_V7: TimeOrderedIdGenerator (VARCHAR)
+ * - UUID_V7_BINARY: TimeOrderedIdGenerator + UuidBinaryConverter (BINARY(16))
+ * - 파일 기반 H2에 batchSize건씩 JDBC batch로 넣고 commit, 측정 동안 테이블이 계속 커지므로
+ *   행 수가 늘수록 랜덤 키의 인덱스 삽입 비용 차이가 드러남
+ * - 실행: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=OrderIdInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class OrderIdInsertBenchmark {
+    public enum IdType { UUID_V4, UUID_V7, UUID_V7_BINARY }
+
+    @Param({"UUID_V4", "UUID_V7", "UUID_V7_BINARY"})
+    public IdType idType;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+    private final UuidBinaryConverter binaryConverter = new UuidBinaryConverter();
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("order-id-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("orders"), "sa", "");
+        connection.setAutoCommit(false);
+        String orderIdColumn = idType == IdType.UUID_V7_BINARY ? "binary(16)" : "varchar(255)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table orders ("
+                    + "id bigint generated by default as identity primary key, "
+                    + "product_id varchar(120) not null, "
+                    + "qty integer not null, "
+                    + "unit_price integer not null, "
+                    + "total_price integer not null, "
+                    + "user_id varchar(255) not null, "
+                    + "order_id " + orderIdColumn + " not null unique, "
+                    + "created_at timestamp default current_timestamp not null)");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("insert into orders "
+                + "(product_id, qty, unit_price, total_price, user_id, order_id) values (?, ?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        insert.close();
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /* batchSize건 INSERT + commit 한 번 (결과 단위: batch/s) */
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < batchSize; i++) {
+            int qty = 1 + random.nextInt(10);
+            insert.setString(1, "CATALOG-00" + (1 + random.nextInt(3)));
+            insert.setInt(2, qty);
+            insert.setInt(3, 1500);
+            insert.setInt(4, qty * 1500);
+            insert.setString(5, "user-" + random.nextInt(1000));
+            switch (idType) {
+                case UUID_V4 -> insert.setString(6, UUID.randomUUID().toString());
+                case UUID_V7 -> insert.setString(6, generator.next());
+                case UUID_V7_BINARY -> insert.setBytes(6, binaryConverter.convertToDatabaseColumn(generator.next()));
+            }
+            insert.addBatch();
+        }
+        int inserted = insert.executeBatch().length;
+        connection.commit();
+        return inserted;
+    }
+}
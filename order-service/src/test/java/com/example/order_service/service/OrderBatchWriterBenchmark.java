@@ -0,0 +1,126 @@
+package com.example.order_service.service;
+
+import com.example.order_service.id.TimeOrderedIdGenerator;
+import com.example.order_service.jpa.OrderEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 주문 저장 방식별 처리량/지연시간 비교 (동시 요청 64개)
+ * - batchSize 0: 기존 방식, 요청마다 INSERT 한 건 + 주문 요약 갱신 + commit (OrderServiceImpl의 batch 미사용 경로와 같은 트랜잭션 단위)
+ * - batchSize 1 이상: OrderBatchWriter group-commit, 최대 batchSize건 / maxWaitMs 동안 모아 commit 한 번
+ * - 파일 기반 H2 + Hikari(커넥션 10개), 결과: Throughput(ops/s)와 SampleTime(요청 한 건의 응답까지 걸린 시간 분포, p99 포함)
+ * - 실행: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=OrderBatchWriterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class OrderBatchWriterBenchmark {
+    @Param({"0", "1", "16", "128"})
+    public int batchSize;
+
+    @Param({"2"})
+    public long maxWaitMs;
+
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+    private Path directory;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OrderSummaryService summaryService;
+    private OrderBatchWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("order-batch-benchmark");
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:file:" + directory.resolve("orders"));
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(10);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table orders ("
+                + "id bigint generated by default as identity primary key, "
+                + "product_id varchar(120) not null, "
+                + "qty integer not null, "
+                + "unit_price integer not null, "
+                + "total_price integer not null, "
+                + "user_id varchar(255) not null, "
+                + "order_id varchar(255) not null unique, "
+                + "created_at timestamp default current_timestamp not null)");
+        jdbcTemplate.execute("create table user_order_summary (user_id varchar(255) primary key, "
+                + "order_count bigint not null, total_spend bigint not null, last_order_at timestamp, "
+                + "last_order_id varchar(255))");
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        summaryService = new OrderSummaryService(jdbcTemplate);
+        writer = new OrderBatchWriter(jdbcTemplate, transactionManager, summaryService, batchSize > 0,
+                Math.max(batchSize, 1), maxWaitMs, 100_000, 5000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        writer.shutdown();
+        dataSource.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /* 주문 한 건 저장, commit될 때까지 기다림 (요청 하나의 처리와 같음) */
+    @Benchmark
+    public OrderEntity createOrder() {
+        OrderEntity order = order();
+        if (!writer.isEnabled()) {
+            // 주문 저장과 요약 갱신을 요청마다 한 트랜잭션으로 (batch 모드와 같은 작업량)
+            Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(order, createdAt));
+            } catch (DuplicateKeyException e) {
+                transactionTemplate.executeWithoutResult(status -> insert(order, createdAt));
+            }
+            return order;
+        }
+        return writer.submit(order).join();
+    }
+
+    private void insert(OrderEntity order, Timestamp createdAt) {
+        jdbcTemplate.update("insert into orders (product_id, qty, unit_price, total_price, user_id, order_id, created_at) "
+                        + "values (?, ?, ?, ?, ?, ?, ?)",
+                order.getProductId(), order.getQty(), order.getUnitPrice(), order.getTotalPrice(),
+                order.getUserId(), order.getOrderId(), createdAt);
+        summaryService.add(List.of(order), createdAt);
+    }
+
+    private OrderEntity order() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        OrderEntity order = new OrderEntity();
+        order.setProductId("CATALOG-00" + (1 + random.nextInt(3)));
+        order.setQty(1 + random.nextInt(10));
+        order.setUnitPrice(1500);
+        order.setTotalPrice(order.getQty() * order.getUnitPrice());
+        order.setUserId("user-" + random.nextInt(1000));
+        order.setOrderId(generator.next());
+        return order;
+    }
+}
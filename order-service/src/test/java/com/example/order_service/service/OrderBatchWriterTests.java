@@ -0,0 +1,218 @@
+package com.example.order_service.service;
+
+import com.example.order_service.dto.OrderDto;
+import com.example.order_service.id.TimeOrderedIdGenerator;
+import com.example.order_service.jpa.OrderEntity;
+import com.example.order_service.mapper.OrderMapper;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderBatchWriterTests {
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private OrderBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:order-batch;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table orders (id bigint generated by default as identity primary key, "
+                + "product_id varchar(120) not null, qty integer not null, unit_price integer not null, "
+                + "total_price integer not null, user_id varchar(255) not null, order_id varchar(255) not null unique, "
+                + "created_at timestamp default current_timestamp not null)");
+        jdbcTemplate.execute("create table user_order_summary (user_id varchar(255) primary key, "
+                + "order_count bigint not null, total_spend bigint not null, last_order_at timestamp, "
+                + "last_order_id varchar(255))");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+        }
+        jdbcTemplate.execute("drop table orders");
+        jdbcTemplate.execute("drop table user_order_summary");
+    }
+
+    private OrderBatchWriter writer(int batchSize, long maxWaitMs, int queueCapacity) {
+        return writer(new OrderSummaryService(jdbcTemplate), batchSize, maxWaitMs, queueCapacity);
+    }
+
+    private OrderBatchWriter writer(OrderSummaryService summaryService, int batchSize, long maxWaitMs, int queueCapacity) {
+        return writer(summaryService, batchSize, maxWaitMs, queueCapacity, 5000);
+    }
+
+    private OrderBatchWriter writer(OrderSummaryService summaryService, int batchSize, long maxWaitMs, int queueCapacity,
+                                    long awaitTimeoutMs) {
+        writer = new OrderBatchWriter(jdbcTemplate, new DataSourceTransactionManager(dataSource), summaryService, true,
+                batchSize, maxWaitMs, queueCapacity, awaitTimeoutMs);
+        return writer;
+    }
+
+    private static OrderEntity order(String orderId) {
+        OrderEntity order = new OrderEntity();
+        order.setProductId("CATALOG-001");
+        order.setQty(2);
+        order.setUnitPrice(1500);
+        order.setTotalPrice(3000);
+        order.setUserId("user-1");
+        order.setOrderId(orderId);
+        return order;
+    }
+
+    @Test
+    void completesEachOrderAfterItsBatchCommits() {
+        OrderBatchWriter writer = writer(10, 50, 100);
+
+        List<CompletableFuture<OrderEntity>> results = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            results.add(writer.submit(order("order-" + i)));
+        }
+
+        for (CompletableFuture<OrderEntity> result : results) {
+            assertThat(result.join().getCreatedAt()).isNotNull();
+        }
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders", Integer.class)).isEqualTo(25);
+        assertThat(new OrderSummaryService(jdbcTemplate).getSummary("user-1"))
+                .extracting("orderCount", "totalSpend", "lastOrderId").containsExactly(25L, 75000L, "order-24");
+    }
+
+    @Test
+    void failsOnlyTheDuplicateOrderInABatch() {
+        jdbcTemplate.update("insert into orders (product_id, qty, unit_price, total_price, user_id, order_id) "
+                + "values ('CATALOG-001', 1, 1500, 1500, 'user-1', 'order-dup')");
+        OrderBatchWriter writer = writer(10, 50, 100);
+
+        CompletableFuture<OrderEntity> ok = writer.submit(order("order-ok"));
+        CompletableFuture<OrderEntity> duplicate = writer.submit(order("order-dup"));
+
+        assertThat(ok.join().getOrderId()).isEqualTo("order-ok");
+        assertThatThrownBy(duplicate::join).isInstanceOf(CompletionException.class);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWith503AfterShutdown() throws InterruptedException {
+        OrderBatchWriter writer = writer(1, 0, 1);
+        writer.shutdown();
+
+        assertThatThrownBy(() -> writer.submit(order("order-late")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void rejectsPendingOrdersWith503WhenWriterDiesWithError() {
+        // 첫 batch를 저장하는 중에 Error가 나서 쓰기 스레드가 멈추는 경우
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch queued = new CountDownLatch(1);
+        OrderSummaryService failing = new OrderSummaryService(jdbcTemplate) {
+            @Override
+            public void add(Collection<OrderEntity> orders, Date createdAt) {
+                writing.countDown();
+                try {
+                    queued.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new OutOfMemoryError("simulated");
+            }
+        };
+        OrderBatchWriter writer = writer(failing, 1, 0, 10);
+
+        CompletableFuture<OrderEntity> inBatch = writer.submit(order("order-1"));
+        assertThat(awaitLatch(writing)).isTrue();
+        CompletableFuture<OrderEntity> inQueue = writer.submit(order("order-2"));
+        queued.countDown();
+
+        for (CompletableFuture<OrderEntity> result : List.of(inBatch, inQueue)) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isInstanceOfSatisfying(ResponseStatusException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+        assertThatThrownBy(() -> writer.submit(order("order-3"))).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void timedOutOrderIsStoredAtMostOnce() {
+        // 첫 batch의 저장이 await-timeout-ms보다 오래 걸리는 경우
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OrderSummaryService slow = new OrderSummaryService(jdbcTemplate) {
+            @Override
+            public void add(Collection<OrderEntity> orders, Date createdAt) {
+                writing.countDown();
+                awaitLatch(release);
+                super.add(orders, createdAt);
+            }
+        };
+        OrderBatchWriter writer = writer(slow, 1, 0, 10, 200);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        OrderServiceImpl orderService = new OrderServiceImpl(null, new OrderMapper(), new TimeOrderedIdGenerator(),
+                writer, slow, transactionManager);
+
+        // 저장 중인 batch에 들어간 주문: commit될 수 있으므로 Retry-After 없는 504
+        CompletableFuture<ResponseStatusException> inBatch = CompletableFuture.supplyAsync(() -> rejection(orderService));
+        assertThat(awaitLatch(writing)).isTrue();
+        // 대기 큐에 남은 주문: 큐에서 꺼냈으므로 재시도 가능한 503
+        ResponseStatusException inQueue = rejection(orderService);
+        assertThat(inQueue.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(inQueue.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(inBatch.join().getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(inBatch.join().getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+
+        release.countDown();
+        assertThat(writer.queued()).isZero();
+        // 느린 batch는 끝까지 저장되고, 503으로 거절한 주문은 저장되지 않음
+        writer.submit(order("order-after")).join();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders", Integer.class)).isEqualTo(2);
+        assertThat(new OrderSummaryService(jdbcTemplate).getSummary("user-1"))
+                .extracting("orderCount").isEqualTo(2L);
+    }
+
+    private static ResponseStatusException rejection(OrderServiceImpl orderService) {
+        OrderDto orderDto = new OrderDto();
+        orderDto.setProductId("CATALOG-001");
+        orderDto.setQty(1);
+        orderDto.setUnitPrice(1500);
+        orderDto.setUserId("user-1");
+        try {
+            orderService.createOrder(orderDto);
+        } catch (ResponseStatusException e) {
+            return e;
+        }
+        throw new AssertionError("order was not rejected");
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.user_service;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @SpringBootApplication
 @EnableDiscoveryClient
@@ -19,4 +30,44 @@ public class UserServiceApplication {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * 서비스 간 호출이 함께 쓰는 연결 풀(ConnectionProvider)
+     * - 호출마다 TCP 연결을 새로 맺지 않음
+     */
+    @Bean
+    public ClientHttpConnector sharedHttpConnector(
+            @Value("${http-client.max-connections:200}") int maxConnections,
+            @Value("${http-client.pending-acquire-timeout-ms:500}") long pendingAcquireTimeoutMs,
+            @Value("${http-client.max-idle-time-ms:30000}") long maxIdleTimeMs,
+            @Value("${http-client.connect-timeout-ms:500}") int connectTimeoutMs) {
+        ConnectionProvider provider = ConnectionProvider.builder("user-service-http-client")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .build();
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    /**
+     * 다른 서비스(order-service 등) 호출용 WebClient.Builder
+     * - @LoadBalanced: http://ORDER-SERVICE/... 처럼 Eureka 서비스 이름으로 호출하면 인스턴스를 골라 요청
+     */
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(ClientHttpConnector sharedHttpConnector) {
+        return WebClient.builder().clientConnector(sharedHttpConnector);
+    }
+
+    /**
+     * 인스턴스 주소로 직접 호출하는 WebClient.Builder (user-service 인스턴스 간 캐시 무효화 전달 등)
+     * - 연결 풀은 loadBalancedWebClientBuilder와 공유
+     */
+    @Bean
+    @Primary
+    public WebClient.Builder webClientBuilder(ClientHttpConnector sharedHttpConnector) {
+        return WebClient.builder().clientConnector(sharedHttpConnector);
+    }
+
 }
@@ -0,0 +1,132 @@
+package com.example.user_service.cache;
+
+import com.example.user_service.jpa.UserEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * UserCache
+ * - userId로 사용자 조회(findByUserId) 결과를 프로세스 메모리에 보관하는 near-cache
+ * - 관리 대상 엔티티가 아닌 UserSnapshot(변경 불가)을 보관
+ * - 없는 userId도 짧은 시간(negative-ttl-ms) 동안 기억하여 같은 id로 반복 조회해도 DB에 가지 않음
+ * - 항목 수는 max-entries로 제한, 가득 차면 만료된 항목을 정리하고 그래도 가득 차면 임의의 항목을 10% 비움
+ * - 사용자 정보가 바뀌면(가입, 수정 등) invalidate를 호출, broadcast가 켜져 있으면 다른 user-service 인스턴스에도 전달
+ * - 지표: user.cache.requests(result=hit|miss), user.cache.hit.ratio, user.cache.load(DB 조회 시간), user.cache.size
+ */
+@Component
+public class UserCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final UserCacheInvalidationBroadcaster broadcaster;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    // 조회 중에 무효화가 일어났다면 조회 결과(이전 값일 수 있음)를 캐시에 넣지 않기 위한 값
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Timer loadTimer;
+
+    public UserCache(MeterRegistry meterRegistry, UserCacheInvalidationBroadcaster broadcaster,
+                     @Value("${user-cache.max-entries:10000}") int maxEntries,
+                     @Value("${user-cache.ttl-ms:60000}") long ttlMs,
+                     @Value("${user-cache.negative-ttl-ms:5000}") long negativeTtlMs) {
+        this.broadcaster = broadcaster;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtlMs);
+
+        FunctionCounter.builder("user.cache.requests", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("user.cache.requests", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("user.cache.hit.ratio", this, UserCache::hitRatio).register(meterRegistry);
+        Gauge.builder("user.cache.size", entries, Map::size).register(meterRegistry);
+        this.loadTimer = Timer.builder("user.cache.load")
+                .description("캐시 미스 시 DB에서 사용자를 읽는 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * userId로 사용자 조회
+     * @param loader 캐시에 없을 때 DB에서 읽는 함수 (없으면 null 반환)
+     * @return 사용자, 없는 userId이면 null
+     */
+    public UserSnapshot get(String userId, Function<String, UserEntity> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            hits.increment();
+            return entry.user();
+        }
+        misses.increment();
+
+        long version = invalidations.get();
+        UserEntity loaded = loadTimer.record(() -> loader.apply(userId));
+        UserSnapshot user = loaded != null ? UserSnapshot.of(loaded) : null;
+
+        long loadedAt = System.nanoTime();
+        Entry fresh = new Entry(user, loadedAt + (user != null ? ttlNanos : negativeTtlNanos));
+        makeRoom(loadedAt);
+        entries.put(userId, fresh);
+        if (invalidations.get() != version) {
+            entries.remove(userId, fresh);
+        }
+        return user;
+    }
+
+    /* 이 인스턴스와 (broadcast가 켜져 있으면) 다른 인스턴스의 캐시 항목을 무효화 */
+    public void invalidate(String userId) {
+        invalidateAll(List.of(userId));
+    }
+
+    public void invalidateAll(Collection<String> userIds) {
+        invalidateLocal(userIds);
+        broadcaster.broadcast(userIds);
+    }
+
+    /* 다른 인스턴스에서 받은 무효화 요청 처리 (다시 broadcast하지 않음) */
+    public void invalidateLocal(Collection<String> userIds) {
+        invalidations.incrementAndGet();
+        for (String userId : userIds) {
+            entries.remove(userId);
+        }
+    }
+
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public int size() { return entries.size(); }
+
+    private void makeRoom(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+        int excess = entries.size() - maxEntries * 9 / 10;
+        for (Iterator<String> keys = entries.keySet().iterator(); excess > 0 && keys.hasNext(); excess--) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry(UserSnapshot user, long expiresAt) {
+    }
+}
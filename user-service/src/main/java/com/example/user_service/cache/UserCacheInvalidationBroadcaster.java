@@ -0,0 +1,70 @@
+package com.example.user_service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * UserCacheInvalidationBroadcaster
+ * - user-cache.broadcast.enabled가 true이면, 캐시 무효화를 Eureka에 등록된 다른 user-service 인스턴스에 전달
+ * - 각 인스턴스의 POST /user-service/internal/user-cache/invalidations 를 비동기로 호출 (응답을 기다리지 않음)
+ * - 받는 쪽은 token.trusted-proxies에 있는 주소에서 온 요청만 처리하므로, 다른 인스턴스 주소도 여기에 포함해야 함 (WebSecurity)
+ * - 전달에 실패해도 각 인스턴스의 항목은 ttl-ms가 지나면 만료되므로, 최대 ttl-ms 동안만 이전 값이 보일 수 있음
+ */
+@Component
+@Slf4j
+public class UserCacheInvalidationBroadcaster {
+    public static final String INVALIDATION_PATH = "/user-service/internal/user-cache/invalidations";
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final WebClient webClient;
+    private final boolean enabled;
+    private final String serviceId;
+    private final Duration timeout;
+
+    public UserCacheInvalidationBroadcaster(DiscoveryClient discoveryClient, ObjectProvider<Registration> registration,
+                                            WebClient.Builder webClientBuilder,
+                                            @Value("${user-cache.broadcast.enabled:false}") boolean enabled,
+                                            @Value("${spring.application.name}") String serviceId,
+                                            @Value("${user-cache.broadcast.timeout-ms:1000}") long timeoutMs) {
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+        this.webClient = webClientBuilder.build();
+        this.enabled = enabled;
+        this.serviceId = serviceId;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    public void broadcast(Collection<String> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+        Registration self = registration.getIfAvailable();
+        String selfId = self != null ? self.getInstanceId() : null;
+        List<String> body = List.copyOf(userIds);
+
+        for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+            if (instance.getInstanceId() != null && instance.getInstanceId().equals(selfId)) {
+                continue;
+            }
+            webClient.post()
+                    .uri(instance.getUri() + INVALIDATION_PATH)
+                    .bodyValue(body)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(timeout)
+                    .subscribe(response -> { },
+                            e -> log.warn("User cache invalidation to {} failed: {}", instance.getUri(), e.toString()));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.user_service.cache;
+
+import com.example.user_service.jpa.UserEntity;
+import lombok.Value;
+
+/**
+ * UserCache에 보관하는 사용자 정보 (변경 불가)
+ * - 영속성 컨텍스트가 관리하는 UserEntity를 캐시에 두지 않기 위해 조회 시점의 값만 복사
+ * - 암호화된 비밀번호는 사용자 조회 응답에 필요 없으므로 보관하지 않음
+ */
+@Value
+public class UserSnapshot {
+    Long id;
+    String email;
+    String name;
+    String userId;
+
+    public static UserSnapshot of(UserEntity userEntity) {
+        return new UserSnapshot(userEntity.getId(), userEntity.getEmail(), userEntity.getName(), userEntity.getUserId());
+    }
+}
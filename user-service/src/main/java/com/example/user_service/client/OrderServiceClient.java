@@ -0,0 +1,110 @@
+package com.example.user_service.client;
+
+import com.example.user_service.vo.ResponseOrder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderServiceClient
+ * - order-service의 GET /order-service/{userId}/orders 호출 (Eureka 서비스 이름 ORDER-SERVICE로 로드밸런싱)
+ * - WebClient(Reactor Netty) 사용: 연결 풀을 재사용하고, 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+ * - order-service는 한 번에 한 페이지만 반환하므로 X-Next-Cursor 헤더를 따라 마지막 페이지까지 이어서 조회
+ * - 조회 결과는 userId별로 짧은 시간(cache-ttl-ms) 동안 재사용, 항목 수는 cache-size로 제한
+ * - 시간 초과나 오류가 나면 주문 목록 없이(null) 응답하여 사용자 조회 자체는 성공하도록 함
+ */
+@Component
+@Slf4j
+public class OrderServiceClient {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final WebClient webClient;
+    private final String url;
+    private final int pageSize;
+    private final Duration timeout;
+    private final long cacheTtlNanos;
+    private final int maxEntries;
+
+    private final Map<String, CachedOrders> cache = new ConcurrentHashMap<>();
+
+    public OrderServiceClient(@LoadBalanced WebClient.Builder loadBalancedWebClientBuilder,
+                              @Value("${order_service.url:http://ORDER-SERVICE/order-service/{userId}/orders}") String url,
+                              @Value("${order_service.page-size:500}") int pageSize,
+                              @Value("${order_service.timeout-ms:1000}") long timeoutMs,
+                              @Value("${order_service.cache-ttl-ms:5000}") long cacheTtlMs,
+                              @Value("${order_service.cache-size:10000}") int cacheSize) {
+        this.webClient = loadBalancedWebClientBuilder.build();
+        this.url = url;
+        this.pageSize = pageSize;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtlMs);
+        this.maxEntries = cacheSize;
+    }
+
+    /**
+     * 사용자의 주문 목록 조회
+     * - 캐시에 유효한 목록이 있으면 바로 반환
+     * - order-service가 느리거나 실패하면 빈 Mono를 반환 (호출하는 쪽에서 "주문 정보 없음"으로 처리)
+     */
+    public Mono<List<ResponseOrder>> getOrders(String userId) {
+        long now = System.nanoTime();
+        CachedOrders cached = cache.get(userId);
+        if (cached != null) {
+            if (cached.expiresAt() - now > 0) {
+                return Mono.just(cached.orders());
+            }
+            cache.remove(userId, cached);
+        }
+
+        return fetchPage(userId, null)
+                .expand(page -> page.nextCursor() != null ? fetchPage(userId, page.nextCursor()) : Mono.empty())
+                .concatMapIterable(OrderPage::orders)
+                .collectList()
+                .timeout(timeout)
+                .doOnNext(orders -> put(userId, orders))
+                .onErrorResume(e -> {
+                    log.warn("order-service call failed for userId={}: {}", userId, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /* userId, cursor는 URI 템플릿 변수로 넘겨서 인코딩되도록 함 */
+    private Mono<OrderPage> fetchPage(String userId, String cursor) {
+        WebClient.RequestHeadersSpec<?> request = cursor == null
+                ? webClient.get().uri(url + "?limit={limit}", userId, pageSize)
+                : webClient.get().uri(url + "?limit={limit}&cursor={cursor}", userId, pageSize, cursor);
+        return request.retrieve()
+                .toEntityList(ResponseOrder.class)
+                .map(entity -> new OrderPage(entity.getBody() != null ? entity.getBody() : List.of(),
+                        entity.getHeaders().getFirst(NEXT_CURSOR_HEADER)));
+    }
+
+    private void put(String userId, List<ResponseOrder> orders) {
+        long now = System.nanoTime();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (cache.size() >= maxEntries) {
+                // 만료된 항목이 없으면 새 항목은 캐시하지 않음 (다음 조회 때 다시 호출)
+                return;
+            }
+        }
+        cache.put(userId, new CachedOrders(List.copyOf(orders), now + cacheTtlNanos));
+    }
+
+    public int size() { return cache.size(); }
+
+    private record OrderPage(List<ResponseOrder> orders, String nextCursor) {
+    }
+
+    private record CachedOrders(List<ResponseOrder> orders, long expiresAt) {
+    }
+}
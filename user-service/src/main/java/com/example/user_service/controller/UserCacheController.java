@@ -0,0 +1,29 @@
+package com.example.user_service.controller;
+
+import com.example.user_service.cache.UserCache;
+import com.example.user_service.cache.UserCacheInvalidationBroadcaster;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 다른 user-service 인스턴스가 보내는 캐시 무효화 요청을 받는 내부 API
+ * - token.trusted-proxies에 있는 주소에서 온 요청만 허용 (WebSecurity), api-gateway는 /user-service/internal/** 를 전달하지 않음
+ */
+@RestController
+public class UserCacheController {
+    private final UserCache userCache;
+
+    public UserCacheController(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @PostMapping(UserCacheInvalidationBroadcaster.INVALIDATION_PATH)
+    public ResponseEntity<Void> invalidate(@RequestBody List<String> userIds) {
+        userCache.invalidateLocal(userIds);
+        return ResponseEntity.noContent().build();
+    }
+}
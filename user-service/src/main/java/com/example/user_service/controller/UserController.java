@@ -2,36 +2,66 @@ package com.example.user_service.controller;
 
 import com.example.user_service.dto.UserDto;
 import com.example.user_service.jpa.UserEntity;
+import com.example.user_service.mapper.UserMapper;
+import com.example.user_service.service.UserBulkService;
 import com.example.user_service.service.UserService;
 import com.example.user_service.vo.Greeting;
 import com.example.user_service.vo.RequestUser;
+import com.example.user_service.vo.ResponseBulkUsers;
 import com.example.user_service.vo.ResponseUser;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 @RestController
 @RequestMapping("/user-service")
 @Slf4j
 public class UserController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private Environment env;
     private Greeting greeting;
     private UserService userService;
+    private UserBulkService userBulkService;
+    private UserMapper userMapper;
+    private ObjectMapper objectMapper;
+    private int defaultLimit;
+    private int maxLimit;
+    private int flushRows;
 
     @Autowired
-    public UserController(Environment env, Greeting greeting, UserService userService){
+    public UserController(Environment env, Greeting greeting, UserService userService, UserBulkService userBulkService,
+                          UserMapper userMapper,
+                          ObjectMapper objectMapper,
+                          @Value("${users.page.default-limit:50}") int defaultLimit,
+                          @Value("${users.page.max-limit:500}") int maxLimit,
+                          @Value("${users.stream.flush-rows:200}") int flushRows){
         this.env = env;
         this.greeting = greeting;
         this.userService = userService;
+        this.userBulkService = userBulkService;
+        this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.flushRows = flushRows;
     }
 
     @GetMapping("/health-check") // http://localhost:60000/health-check
@@ -54,58 +84,113 @@ public class UserController {
     @PostMapping("/users")
     public ResponseEntity<ResponseUser> createUser(@RequestBody RequestUser user){
 //    public String createUser(@RequestBody RequestUser user){
-        // ModelMapper는 서로 다른 타입(여기서는 RequestUser -> UserDto)의 필드 값을
-        // 자동으로 복사(mapping)해주는 라이브러리
-        ModelMapper mapper = new ModelMapper();
-
-        // 매칭 전략 설정
-        // - STRICT: 소스와 대상의 프로퍼티 이름이 엄격히 일치해야 매핑
-        // - STANDARD(기본): 약간 유연한 매핑 허용
-        // - LOOSE: 더 느슨한 매핑
-        // MatchingStrategies.STRICT는 필드명의 정확한 일치를 요구
-        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-
-        //user의 필드 값을 UserDto 타입의 새 인스턴스로 복사하여 반환
-        UserDto userDto = mapper.map(user, UserDto.class);
+        // UserMapper(시작 시 한 번 만든 STRICT 매핑)로 RequestUser -> UserDto 변환
+        UserDto userDto = userMapper.toDto(user);
         userService.createUser(userDto);
 
-        ResponseUser responseUser = mapper.map(userDto, ResponseUser.class);
+        ResponseUser responseUser = userMapper.toResponse(userDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(responseUser);
         // return "Create user method called.";
     }
 
-    // 전체 사용자 목록을 조회하는 엔드포인트
-    @GetMapping("/users")
-    public ResponseEntity getUsers() {
-        // userService를 통해 모든 사용자 정보를 가져옴 (JPA Repository의 findAll()과 유사)
-        Iterable<UserEntity> userList = userService.getUserByAll();
-
-        // 결과를 담을 리스트 (엔티티를 그대로 반환하지 않고, 응답 전용 DTO로 변환)
-        List<ResponseUser> result = new ArrayList<>();
+    /**
+     * 일괄 가입
+     * - 요청 본문: RequestUser의 JSON 배열 또는 NDJSON(한 줄에 하나)
+     * - 일부가 실패해도 나머지는 저장하고, 요청별 결과(index, 성공 시 userId, 실패 시 errors)를 반환
+     */
+    @PostMapping(value = "/users/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ResponseBulkUsers> createUsers(HttpServletRequest request) throws IOException {
+        ResponseBulkUsers result = userBulkService.createUsers(request.getInputStream());
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
 
-        // 각 UserEntity 객체를 ResponseUser DTO로 변환
-        userList.forEach(v -> {
-            // ModelMapper를 사용해 Entity → DTO 자동 매핑
-            result.add(new ModelMapper().map(v, ResponseUser.class));
-        });
+    /**
+     * 전체 사용자 목록 (limit, cursor 파라미터가 없을 때)
+     * - 목록 전체를 메모리에 모으지 않고, DB에서 읽는 대로 JSON 배열 원소를 바로 응답에 씀
+     * - flushRows 건마다 flush하여 첫 바이트가 빨리 나가도록 함
+     * - 응답 형식(JSON 배열)은 기존과 같음
+     */
+    @GetMapping(value = "/users", params = {"!limit", "!cursor"})
+    public void streamUsers(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            int[] written = {0};
+            userService.streamUsers(v -> {
+                try {
+                    generator.writeObject(userMapper.toResponse(v));
+                    if (++written[0] % flushRows == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊은 경우 등: 스트림(DB 커서)을 바로 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
 
-        // HTTP 200 OK 상태 코드와 함께 결과 리스트 반환
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+    /**
+     * 사용자 목록 페이지 조회 (keyset pagination)
+     * - GET /users?limit=50, 다음 페이지는 GET /users?cursor={X-Next-Cursor}&limit=50
+     * - id 순으로 정렬하고, cursor(마지막으로 받은 id)보다 큰 id부터 limit건을 조회
+     * - 다음 페이지가 있으면 X-Next-Cursor 헤더로 다음 cursor를 전달 (없으면 헤더 없음)
+     */
+    @GetMapping("/users")
+    public ResponseEntity<List<ResponseUser>> getUsers(@RequestParam(value = "limit", required = false) Integer limit,
+                                                       @RequestParam(value = "cursor", required = false) String cursor) {
+        int pageSize = limit != null ? Math.min(Math.max(limit, 1), maxLimit) : defaultLimit;
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+        List<UserEntity> userList = userService.getUsersAfter(decodeCursor(cursor), pageSize + 1);
+        boolean hasNext = userList.size() > pageSize;
+
+        List<ResponseUser> result = new ArrayList<>(pageSize);
+        for (UserEntity v : hasNext ? userList.subList(0, pageSize) : userList) {
+            result.add(userMapper.toResponse(v));
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK);
+        if (hasNext) {
+            builder.header(NEXT_CURSOR_HEADER, encodeCursor(userList.get(pageSize - 1).getId()));
+        }
+        return builder.body(result);
     }
 
     // 특정 사용자 ID(userId)에 해당하는 사용자 정보를 조회하는 엔드포인트
+    // includeOrders=false이면 주문 목록 없이 응답 (order-service를 호출하지 않음)
     @GetMapping("/users/{userId}")
-    public ResponseEntity getUser(@PathVariable("userId") String userId) {
+    public ResponseEntity getUser(@PathVariable("userId") String userId,
+                                  @RequestParam(value = "includeOrders", defaultValue = "true") boolean includeOrders) {
         // userService를 통해 userId로 사용자 정보를 조회 (존재하지 않으면 예외 발생)
-        UserDto userDto = userService.getUserByUserId(userId);
+        UserDto userDto = userService.getUserByUserId(userId, includeOrders);
 
         // 서비스 계층의 UserDto를 응답용 DTO(ResponseUser)로 변환
-        ResponseUser returnValue = new ModelMapper().map(userDto, ResponseUser.class);
+        ResponseUser returnValue = userMapper.toResponse(userDto);
 
         // HTTP 200 OK 상태 코드와 함께 변환된 사용자 정보를 반환
         return ResponseEntity.status(HttpStatus.OK).body(returnValue);
     }
 
+    /* cursor는 클라이언트가 해석하지 않는 값(opaque)으로 전달: 마지막 id를 Base64(URL-safe)로 인코딩 */
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
 
 
 
@@ -0,0 +1,42 @@
+package com.example.user_service.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * JdbcConcurrencyGuard
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 DataSource를 ConcurrencyLimitingDataSource로 감쌈
+ * - 가상 스레드는 요청 수만큼 만들어지므로, 제한이 없으면 수백 개의 스레드가 동시에 커넥션 풀과 JDBC 드라이버에 들어감
+ *   이때 synchronized 구간에서 기다리는 가상 스레드는 carrier 스레드를 붙잡아(pinning) 다른 가상 스레드까지 멈출 수 있음
+ * - 동시에 JDBC를 사용하는 스레드를 커넥션 풀 크기로 제한하고, 나머지는 Semaphore에서 carrier를 놓고 기다리게 함
+ * - 플랫폼 스레드 모드에서는 Tomcat 스레드 수가 이미 동시성을 제한하므로 감싸지 않음
+ */
+@Component
+@Slf4j
+public class JdbcConcurrencyGuard implements BeanPostProcessor {
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMs;
+
+    public JdbcConcurrencyGuard(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                @Value("${jdbc-guard.enabled:true}") boolean enabled,
+                                @Value("${jdbc-guard.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+                                @Value("${jdbc-guard.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        this.enabled = virtualThreads && enabled;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+            log.info("Limiting concurrent JDBC use of '{}' to {} threads (virtual threads enabled)", beanName, maxConcurrency);
+            return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeoutMs);
+        }
+        return bean;
+    }
+}
@@ -7,8 +7,11 @@ import lombok.Data;
 @Entity
 @Table(name = "users") //import jakarta.persistence.*;
 public class UserEntity {
+    // IDENTITY는 INSERT를 실행해야 id를 알 수 있어 JDBC batch insert가 불가능함
+    // SEQUENCE + allocationSize: 시퀀스를 한 번 조회할 때 id 50개를 미리 받아 메모리에서 할당 (pooled optimizer)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq_generator")
+    @SequenceGenerator(name = "users_seq_generator", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50, unique = true)
@@ -1,8 +1,33 @@
 package com.example.user_service.jpa;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface UserRepository extends CrudRepository<UserEntity, Long> {
     UserEntity findByUserId(String userId);
-}
+    UserEntity findByEmail(String email); // 로그인(email + 비밀번호) 시 사용
+
+    // 일괄 가입 시 이미 가입된 email을 한 번의 쿼리로 확인
+    @Query("select u.email from UserEntity u where u.email in :emails")
+    List<String> findExistingEmails(Collection<String> emails);
 
+    // keyset 페이지 조회: id > ? ORDER BY id LIMIT ? (offset 없이 PK 인덱스로 바로 다음 위치부터 읽음)
+    List<UserEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // 전체 목록 스트리밍: 한 번에 fetch size만큼만 DB에서 가져옴 (읽기 전용 트랜잭션 안에서만 사용 가능)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select u from UserEntity u order by u.id")
+    Stream<UserEntity> streamAllOrderById();
+}
@@ -0,0 +1,65 @@
+package com.example.user_service.mapper;
+
+import com.example.user_service.cache.UserSnapshot;
+import com.example.user_service.dto.UserDto;
+import com.example.user_service.jpa.UserEntity;
+import com.example.user_service.vo.RequestUser;
+import com.example.user_service.vo.ResponseUser;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserMapper
+ * - user-service의 Entity ↔ Dto ↔ VO 변환을 한곳에서 담당
+ * - 매핑 정보(TypeMap)는 애플리케이션 시작 시 한 번만 만들고, 요청마다 재사용
+ *   (new ModelMapper()로 매번 리플렉션 분석을 다시 하지 않음)
+ * - 설정이 끝난 ModelMapper/TypeMap은 읽기 전용이므로 여러 요청 스레드에서 동시에 사용해도 안전
+ * - STRICT: 필드명이 정확히 일치할 때만 매핑 (pwd가 encryptedPwd로 잘못 매핑되지 않도록)
+ */
+@Component
+public class UserMapper {
+    private final TypeMap<RequestUser, UserDto> requestToDto;
+    private final TypeMap<UserDto, UserEntity> dtoToEntity;
+    private final TypeMap<UserEntity, UserDto> entityToDto;
+    private final TypeMap<UserSnapshot, UserDto> snapshotToDto;
+    private final TypeMap<UserDto, ResponseUser> dtoToResponse;
+    private final TypeMap<UserEntity, ResponseUser> entityToResponse;
+
+    public UserMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        this.requestToDto = mapper.createTypeMap(RequestUser.class, UserDto.class);
+        this.dtoToEntity = mapper.createTypeMap(UserDto.class, UserEntity.class);
+        this.entityToDto = mapper.createTypeMap(UserEntity.class, UserDto.class);
+        this.snapshotToDto = mapper.createTypeMap(UserSnapshot.class, UserDto.class);
+        this.dtoToResponse = mapper.createTypeMap(UserDto.class, ResponseUser.class);
+        this.entityToResponse = mapper.createTypeMap(UserEntity.class, ResponseUser.class);
+    }
+
+    public UserDto toDto(RequestUser requestUser) {
+        return requestToDto.map(requestUser);
+    }
+
+    public UserDto toDto(UserEntity userEntity) {
+        return entityToDto.map(userEntity);
+    }
+
+    public UserDto toDto(UserSnapshot userSnapshot) {
+        return snapshotToDto.map(userSnapshot);
+    }
+
+    public UserEntity toEntity(UserDto userDto) {
+        return dtoToEntity.map(userDto);
+    }
+
+    public ResponseUser toResponse(UserDto userDto) {
+        return dtoToResponse.map(userDto);
+    }
+
+    public ResponseUser toResponse(UserEntity userEntity) {
+        return entityToResponse.map(userEntity);
+    }
+}
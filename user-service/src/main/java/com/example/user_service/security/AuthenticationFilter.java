@@ -0,0 +1,96 @@
+package com.example.user_service.security;
+
+import com.example.user_service.dto.UserDto;
+import com.example.user_service.service.UserService;
+import com.example.user_service.vo.RequestLogin;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Set;
+
+/**
+ * AuthenticationFilter
+ * - POST /user-service/login 요청의 JSON 본문(email, password)으로 로그인 처리 (다른 method는 처리하지 않음)
+ * - 본문은 RequestLogin의 검증 규칙(@NotNull, @Email, @Size)을 통과해야 하며, 형식이 잘못되면 400 응답
+ * - 비밀번호 검증(BCrypt)은 여기서 한 번만 수행하고, 성공하면 토큰을 발급하여 응답 헤더(token, userId)로 돌려줌
+ * - 이후 요청은 api-gateway가 토큰을 검증하고 X-User-Id 헤더로 사용자 id를 전달 (GatewayAuthenticationFilter)
+ */
+@Slf4j
+public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
+    public static final String LOGIN_URL = "/user-service/login";
+
+    private final UserService userService;
+    private final TokenProvider tokenProvider;
+    private final Validator validator;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public AuthenticationFilter(AuthenticationManager authenticationManager, UserService userService,
+                                TokenProvider tokenProvider, Validator validator) {
+        super(authenticationManager);
+        this.userService = userService;
+        this.tokenProvider = tokenProvider;
+        this.validator = validator;
+        setRequiresAuthenticationRequestMatcher(PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, LOGIN_URL));
+    }
+
+    @Override
+    public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
+            throws AuthenticationException {
+        try {
+            RequestLogin creds = objectMapper.readValue(request.getInputStream(), RequestLogin.class);
+            Set<ConstraintViolation<RequestLogin>> violations = validator.validate(creds);
+            if (!violations.isEmpty()) {
+                throw new InvalidLoginRequestException(violations.iterator().next().getMessage(), null);
+            }
+            return getAuthenticationManager().authenticate(
+                    new UsernamePasswordAuthenticationToken(creds.getEmail(), creds.getPassword(), new ArrayList<>()));
+        } catch (IOException e) {
+            throw new InvalidLoginRequestException("Invalid login request", e);
+        }
+    }
+
+    /* 형식이 잘못된 요청은 인증 실패(401)가 아니라 400으로 응답 */
+    @Override
+    protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
+                                              AuthenticationException failed) throws IOException, ServletException {
+        if (failed instanceof InvalidLoginRequestException) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), failed.getMessage());
+            return;
+        }
+        super.unsuccessfulAuthentication(request, response, failed);
+    }
+
+    @Override
+    protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain, Authentication authResult) {
+        String email = ((User) authResult.getPrincipal()).getUsername();
+        UserDto userDetails = userService.getUserDetailsByEmail(email);
+
+        response.addHeader("token", tokenProvider.createToken(userDetails.getUserId()));
+        response.addHeader("userId", userDetails.getUserId());
+    }
+
+    static class InvalidLoginRequestException extends AuthenticationServiceException {
+        InvalidLoginRequestException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.user_service.security;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * CachingDaoAuthenticationProvider
+ * - DaoAuthenticationProvider와 같이 매 요청마다 UserDetailsService로 사용자를 조회하고 계정 상태(잠김, 만료 등)를 확인
+ * - 비밀번호 비교만 VerifiedCredentialCache를 먼저 확인하고, 캐시에 없을 때만 BCrypt로 검증
+ *   (HTTP Basic은 요청마다 비밀번호를 보내므로 BCrypt 수십 ms 대신 HMAC 한 번으로 처리)
+ */
+public class CachingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+    private final VerifiedCredentialCache credentialCache;
+
+    public CachingDaoAuthenticationProvider(UserDetailsService userDetailsService, VerifiedCredentialCache credentialCache) {
+        super(userDetailsService);
+        this.credentialCache = credentialCache;
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        Object credentials = authentication.getCredentials();
+        if (credentials == null || userDetails.getPassword() == null) {
+            throw new BadCredentialsException(messages.getMessage(
+                    "AbstractUserDetailsAuthenticationProvider.badCredentials", "Bad credentials"));
+        }
+
+        String rawPassword = credentials.toString();
+        if (credentialCache.matches(userDetails.getUsername(), rawPassword, userDetails.getPassword())) {
+            return;
+        }
+
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        credentialCache.put(userDetails.getUsername(), rawPassword, userDetails.getPassword());
+    }
+}
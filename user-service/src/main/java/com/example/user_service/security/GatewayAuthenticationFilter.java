@@ -0,0 +1,49 @@
+package com.example.user_service.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * GatewayAuthenticationFilter
+ * - api-gateway가 토큰을 검증한 뒤 전달하는 X-User-Id 헤더로 인증 정보를 만듦 (요청마다 암호 연산 없음)
+ * - 헤더는 신뢰하는 주소(gateway)에서 온 요청일 때만 믿음, 그 외에는 무시하고 다음 인증 방식(HTTP Basic)으로 넘어감
+ */
+public class GatewayAuthenticationFilter extends OncePerRequestFilter {
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public GatewayAuthenticationFilter(List<IpAddressMatcher> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String userId = request.getHeader(USER_ID_HEADER);
+        if (userId != null && !userId.isBlank() && isTrusted(request.getRemoteAddr())
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(userId, null, List.of()));
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean isTrusted(String remoteAddress) {
+        for (IpAddressMatcher matcher : trustedProxies) {
+            if (matcher.matches(remoteAddress)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.user_service.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordHasher
+ * - 회원 가입 시 BCrypt 해시 계산을 요청 스레드(Tomcat)가 아닌 전용 스레드 풀에서 수행
+ * - 스레드 수는 CPU 코어 수(기본), 대기 큐는 queue-capacity로 제한
+ *   -> 가입 요청이 몰려도 BCrypt가 모든 요청 스레드와 CPU를 차지하지 않아 조회/health-check가 계속 처리됨
+ * - 큐가 가득 차면 기다리지 않고 바로 429(Too Many Requests)로 거절
+ * - 일괄 해시(hashAll)는 모든 일괄 요청을 합쳐 bulk-max-in-flight개까지만 풀에 넣고, 그 이상은 Semaphore에서 대기
+ *   (풀+큐 용량보다 작게 제한하므로 일괄 가입 중에도 큐에는 단건 가입이 들어갈 자리가 남음)
+ * - 가상 스레드 모드(spring.threads.virtual.enabled)에서도 이 풀은 플랫폼 스레드로 유지
+ *   (CPU 작업이라 가상 스레드로 바꿔도 처리량이 늘지 않고, 스레드 수가 동시 해시 수의 상한 역할을 함)
+ * - adaptive.enabled: 시작 시 현재 하드웨어에서 해시 1회가 budget-ms 안에 끝나는 가장 큰 cost를 선택
+ *   (min-cost 아래로는 내려가지 않음, cost는 해시 값에 포함되므로 기존 비밀번호 검증에는 영향 없음)
+ * - 지표: user.password.hash (해시 시간), user.password.hash.queue (대기 중인 작업 수),
+ *   user.password.hash.rejected (거절 수), user.password.hash.cost (현재 cost)
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore bulkPermits;
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${password-hashing.threads:0}") int threads,
+                          @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${password-hashing.bulk-max-in-flight:0}") int bulkMaxInFlight,
+                          @Value("${password-hashing.cost:10}") int cost,
+                          @Value("${password-hashing.adaptive.enabled:false}") boolean adaptive,
+                          @Value("${password-hashing.adaptive.budget-ms:250}") long budgetMs,
+                          @Value("${password-hashing.adaptive.min-cost:10}") int minCost,
+                          @Value("${password-hashing.adaptive.max-cost:14}") int maxCost) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // 0이면 스레드 수만큼 (CPU는 모두 쓰면서 큐는 비워 둠), 어떤 값이든 풀+큐 용량보다 1 이상 작게
+        int bulkLimit = Math.min(bulkMaxInFlight > 0 ? bulkMaxInFlight : poolSize, poolSize + queueCapacity - 1);
+        this.bulkPermits = new Semaphore(Math.max(1, bulkLimit));
+
+        this.cost = adaptive ? calibrate(budgetMs, minCost, maxCost) : cost;
+        this.encoder = new BCryptPasswordEncoder(this.cost);
+
+        this.hashTimer = Timer.builder("user.password.hash")
+                .description("BCrypt 해시 1회 계산 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("user.password.hash.rejected")
+                .description("대기 큐가 가득 차 거절한 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("user.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해시 계산을 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("user.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("user.password.hash.cost", this, PasswordHasher::cost)
+                .register(meterRegistry);
+
+        log.info("Password hashing pool: threads={}, queue={}, bulk in-flight={}, bcrypt cost={}",
+                poolSize, queueCapacity, bulkPermits.availablePermits(), this.cost);
+    }
+
+    /**
+     * 비밀번호 해시 계산 (요청 스레드는 결과를 기다리기만 하고 CPU는 사용하지 않음)
+     * @throws ResponseStatusException 대기 큐가 가득 찬 경우 429
+     */
+    public String hash(String rawPassword) {
+        Future<String> result;
+        try {
+            result = executor.submit(task(rawPassword));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new HashingRejectedException();
+        }
+        return await(result);
+    }
+
+    /**
+     * 여러 비밀번호를 스레드 풀에서 병렬로 해시 (일괄 가입용, 결과는 입력 순서와 같음)
+     * - 풀에 넣기 전에 bulkPermits를 얻고, 작업이 끝나거나 취소되면 반환
+     *   (허가가 없으면 먼저 넣은 일괄 작업이 끝날 때까지 호출 스레드가 대기, 큐를 일괄 작업으로 채우지 않음)
+     * @throws ResponseStatusException 단건 가입으로 대기 큐가 가득 찬 경우 429
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<Future<String>> results = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                acquireBulkPermit();
+                FutureTask<String> future = new FutureTask<>(task(rawPassword)) {
+                    @Override
+                    protected void done() {
+                        bulkPermits.release();
+                    }
+                };
+                try {
+                    executor.execute(future);
+                } catch (RejectedExecutionException e) {
+                    bulkPermits.release();
+                    rejected.increment();
+                    throw new HashingRejectedException();
+                }
+                results.add(future);
+            }
+
+            List<String> hashes = new ArrayList<>(results.size());
+            for (Future<String> result : results) {
+                hashes.add(await(result));
+            }
+            return hashes;
+        } catch (RuntimeException e) {
+            results.forEach(result -> result.cancel(false));
+            throw e;
+        }
+    }
+
+    private void acquireBulkPermit() {
+        try {
+            bulkPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to hash passwords", e);
+        }
+    }
+
+    private Callable<String> task(String rawPassword) {
+        return () -> hashTimer.record(() -> encoder.encode(rawPassword));
+    }
+
+    private static String await(Future<String> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /* 해시 1회가 budget 안에 끝나는 가장 큰 cost (cost가 1 오를 때마다 시간은 약 2배) */
+    private static int calibrate(long budgetMs, int minCost, int maxCost) {
+        int selected = minCost;
+        new BCryptPasswordEncoder(minCost).encode(CALIBRATION_PASSWORD); // JIT 워밍업
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(candidate);
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMs > budgetMs) {
+                break;
+            }
+            selected = candidate;
+            if (elapsedMs * 2 > budgetMs) {
+                break; // 다음 cost는 budget을 넘을 것이므로 측정하지 않음
+            }
+        }
+        return selected;
+    }
+
+    /* 대기 큐가 가득 찬 경우: 429 + Retry-After */
+    static class HashingRejectedException extends ResponseStatusException {
+        HashingRejectedException() {
+            super(HttpStatus.TOO_MANY_REQUESTS, "Too many sign-up requests, retry later");
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.user_service.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * TokenProvider
+ * - 로그인에 성공한 사용자에게 발급하는 토큰(JWT, HMAC-SHA 서명) 생성
+ * - subject = userId, 유효 시간은 token.expiration_time(ms)
+ * - api-gateway(AuthorizationHeaderFilter)가 같은 token.secret으로 서명을 검증하므로 두 설정 값이 같아야 함
+ */
+@Component
+public class TokenProvider {
+    private final SecretKey key;
+    private final long expirationMillis;
+
+    public TokenProvider(@Value("${token.secret}") String secret,
+                         @Value("${token.expiration_time}") long expirationMillis) {
+        // HS256 이상을 쓰려면 secret이 32바이트(256bit) 이상이어야 함
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.expirationMillis = expirationMillis;
+    }
+
+    public String createToken(String userId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(userId)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusMillis(expirationMillis)))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.user_service.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VerifiedCredentialCache
+ * - BCrypt 검증에 한 번 성공한 (아이디, 비밀번호) 쌍을 짧은 시간(ttl-ms) 동안 기억
+ * - 비밀번호 원문은 저장하지 않고, 프로세스 시작 시 만든 임의 키로 계산한 HMAC-SHA256 값만 보관
+ *   (메모리가 유출되어도 다른 프로세스에서는 쓸 수 없는 값)
+ * - 검증 당시의 암호화된 비밀번호(encryptedPwd)를 함께 저장하여, 비밀번호가 바뀌면 자동으로 캐시 미스가 됨
+ * - 항목 수는 max-entries로 제한, 가득 차면 만료된 항목을 정리하고 그래도 가득 차면 새 항목은 저장하지 않음
+ */
+@Component
+public class VerifiedCredentialCache {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Map<String, VerifiedCredential> cache = new ConcurrentHashMap<>();
+    private final SecretKeySpec key;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedCredentialCache(MeterRegistry meterRegistry,
+                                   @Value("${credential-cache.ttl-ms:60000}") long ttlMs,
+                                   @Value("${credential-cache.max-entries:10000}") int maxEntries) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("user.auth.credential-cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("user.auth.credential-cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 이미 검증된 자격 증명인지 확인
+     * @param encodedPassword 현재 저장된 암호화된 비밀번호 (검증 이후 바뀌었다면 false)
+     */
+    public boolean matches(String username, String rawPassword, String encodedPassword) {
+        VerifiedCredential cached = cache.get(username);
+        if (cached == null) {
+            misses.increment();
+            return false;
+        }
+        if (cached.expiresAt() - System.nanoTime() <= 0 || !cached.encodedPassword().equals(encodedPassword)) {
+            cache.remove(username, cached);
+            misses.increment();
+            return false;
+        }
+        if (!MessageDigest.isEqual(cached.digest(), digest(username, rawPassword))) {
+            misses.increment();
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    /* BCrypt 검증에 성공한 직후 호출 */
+    public void put(String username, String rawPassword, String encodedPassword) {
+        long now = System.nanoTime();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        cache.put(username, new VerifiedCredential(digest(username, rawPassword), encodedPassword, now + ttlNanos));
+    }
+
+    /* 비밀번호 변경, 계정 삭제 등 */
+    public void invalidate(String username) {
+        cache.remove(username);
+    }
+
+    public int size() { return cache.size(); }
+
+    private byte[] digest(String username, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedCredential(byte[] digest, String encodedPassword, long expiresAt) {
+    }
+}
@@ -1,16 +1,32 @@
 package com.example.user_service.security;
 
+import com.example.user_service.cache.UserCacheInvalidationBroadcaster;
 import com.example.user_service.service.UserService;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * WebSecurity 클래스
  * -------------------
@@ -19,6 +35,12 @@ import org.springframework.security.web.util.matcher.IpAddressMatcher;
  * - 어떤 URL을 인증 없이 접근할 수 있는지
  * - 어떤 요청은 인증(로그인) 또는 IP 제한이 필요한지
  * - CSRF, H2-console 접근 권한, HTTP 헤더 설정 등을 제어합니다.
+ *
+ * 인증 방식
+ * - 로그인(POST /user-service/login)에서만 비밀번호(BCrypt)를 검증하고 토큰을 발급 (AuthenticationFilter)
+ * - 이후 요청은 api-gateway가 토큰을 검증하고 넘겨준 X-User-Id 헤더로 인증 (GatewayAuthenticationFilter)
+ * - 세션을 만들지 않는 stateless 방식, HTTP Basic(spring.security.user)은 직접 호출용으로만 남겨둠
+ * - 비밀번호 검증(BCrypt)에 성공한 자격 증명은 VerifiedCredentialCache에 잠시 기억하여 반복 검증 비용을 줄임
  */
 @Configuration                  // 스프링 설정 클래스임을 명시
 @EnableWebSecurity              // 웹 보안을 활성화 (Spring Security 필터체인 작동)
@@ -27,6 +49,11 @@ public class WebSecurity {
 
     private UserService userService;   // 사용자 관련 서비스 (회원 인증 등에 사용 가능)
     private Environment env;           // 환경변수 및 설정값 접근용 (application.yml 등에서 읽음)
+    private BCryptPasswordEncoder passwordEncoder;
+    private TokenProvider tokenProvider;
+    private SecurityProperties securityProperties;
+    private VerifiedCredentialCache credentialCache;
+    private Validator validator;              // 로그인 요청 본문(RequestLogin) 검증
 
 
     // 접속을 허용할 IP 주소 상수 정의
@@ -37,9 +64,53 @@ public class WebSecurity {
 
 
     // 생성자 주입: Spring이 Environment와 UserService를 자동으로 주입
-    public WebSecurity(Environment env, UserService userService) {
+    public WebSecurity(Environment env, UserService userService, BCryptPasswordEncoder passwordEncoder,
+                       TokenProvider tokenProvider, SecurityProperties securityProperties,
+                       VerifiedCredentialCache credentialCache, Validator validator) {
         this.env = env;
         this.userService = userService;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenProvider = tokenProvider;
+        this.securityProperties = securityProperties;
+        this.credentialCache = credentialCache;
+        this.validator = validator;
+    }
+
+    /**
+     * AuthenticationManager
+     * - 회원(users 테이블, email + encryptedPwd)을 먼저 확인하고, 없으면 spring.security.user 계정으로 확인
+     * - 두 계정 모두 BCrypt로 저장되어 있으므로 같은 passwordEncoder 사용
+     * - 한 번 검증된 자격 증명은 credentialCache(ttl 동안)로 확인하고 BCrypt는 생략
+     */
+    private AuthenticationManager authenticationManager() {
+        CachingDaoAuthenticationProvider members = new CachingDaoAuthenticationProvider(userService, credentialCache);
+        members.setPasswordEncoder(passwordEncoder);
+
+        SecurityProperties.User user = securityProperties.getUser();
+        CachingDaoAuthenticationProvider inMemory = new CachingDaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                User.withUsername(user.getName())
+                        .password(user.getPassword())
+                        .roles(user.getRoles().toArray(new String[0]))
+                        .build()), credentialCache);
+        inMemory.setPasswordEncoder(passwordEncoder);
+
+        return new ProviderManager(members, inMemory);
+    }
+
+    // X-User-Id 헤더를 믿을 주소 목록 (token.trusted-proxies, 기본값은 ALLOWED_IP_ADDRESS)
+    private List<IpAddressMatcher> trustedProxies() {
+        List<IpAddressMatcher> matchers = new ArrayList<>();
+        for (String address : env.getProperty("token.trusted-proxies", String[].class,
+                new String[]{ALLOWED_IP_ADDRESS + SUBNET})) {
+            matchers.add(new IpAddressMatcher(address.trim()));
+        }
+        return matchers;
+    }
+
+    // 요청 주소가 목록에 있을 때만 허용 (인증 여부와 무관)
+    private static AuthorizationManager<RequestAuthorizationContext> fromAddresses(List<IpAddressMatcher> addresses) {
+        return (authentication, context) -> new AuthorizationDecision(
+                addresses.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
     }
 
     /**
@@ -53,6 +124,8 @@ public class WebSecurity {
      */
     @Bean
     protected SecurityFilterChain configure(HttpSecurity http) throws Exception {
+        AuthenticationManager authenticationManager = authenticationManager();
+        List<IpAddressMatcher> trustedProxies = trustedProxies();
 
         // CSRF(Cross Site Request Forgery) 보호 비활성화
         //    → REST API 서버나 테스트 환경에서는 일반적으로 비활성화함.
@@ -62,6 +135,11 @@ public class WebSecurity {
                 .authorizeHttpRequests(auth -> auth
                         // H2 콘솔 경로는 인증 없이 접근 허용
                         .requestMatchers("/h2-console/**").permitAll()
+                        // 로그인, 회원 가입은 토큰 없이 접근 허용
+                        .requestMatchers(HttpMethod.POST, AuthenticationFilter.LOGIN_URL, "/user-service/users").permitAll()
+                        // 다른 user-service 인스턴스의 캐시 무효화 요청은 신뢰하는 주소에서 온 것만 허용
+                        .requestMatchers(HttpMethod.POST, UserCacheInvalidationBroadcaster.INVALIDATION_PATH)
+                        .access(fromAddresses(trustedProxies))
                         // 나머지 모든 요청은 인증(로그인) 필요
                         .anyRequest().authenticated()
                 )
@@ -69,6 +147,14 @@ public class WebSecurity {
                 // HTTP Basic 인증 방식 활성화
                 //    → 브라우저에서 요청 시 간단한 로그인 팝업이 뜨며, 아이디/비밀번호 입력으로 인증 처리
                 .httpBasic(Customizer.withDefaults())
+                .authenticationManager(authenticationManager)
+
+                // 토큰 방식이므로 세션을 만들지 않음
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+
+                // 로그인 처리(토큰 발급)와 gateway가 전달한 사용자 id 인증
+                .addFilter(new AuthenticationFilter(authenticationManager, userService, tokenProvider, validator))
+                .addFilterBefore(new GatewayAuthenticationFilter(trustedProxies), BasicAuthenticationFilter.class)
 
                 // HTTP 헤더 설정
                 .headers(headers -> headers
@@ -0,0 +1,226 @@
+package com.example.user_service.service;
+
+import com.example.user_service.cache.UserCache;
+import com.example.user_service.id.TimeOrderedIdGenerator;
+import com.example.user_service.jpa.UserEntity;
+import com.example.user_service.jpa.UserRepository;
+import com.example.user_service.mapper.UserMapper;
+import com.example.user_service.security.PasswordHasher;
+import com.example.user_service.vo.RequestUser;
+import com.example.user_service.vo.ResponseBulkUser;
+import com.example.user_service.vo.ResponseBulkUsers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * UserBulkService
+ * - 일괄 가입 (POST /user-service/users/bulk): JSON 배열 또는 NDJSON으로 받은 RequestUser를 chunk-size 단위로 처리
+ * - 요청 본문을 한 건씩 읽으며 처리하므로 요청 전체를 메모리에 올리지 않음
+ * - chunk 처리 순서
+ *   1) Bean Validation, 같은 요청 안의 email 중복, 이미 가입된 email(쿼리 한 번)을 확인
+ *   2) 통과한 요청의 비밀번호를 PasswordHasher 스레드 풀에서 병렬로 해시
+ *   3) chunk 하나를 트랜잭션 하나로 저장 (SEQUENCE id + hibernate.jdbc.batch_size로 JDBC batch insert)
+ *   4) 저장 중 제약 조건 위반이 나면 그 chunk만 한 건씩 다시 저장하여 실패한 요청만 골라냄
+ * - 실패한 요청은 결과에 원인을 담고 나머지 요청은 계속 처리
+ */
+@Service
+@Slf4j
+public class UserBulkService {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final UserCache userCache;
+    private final PasswordHasher passwordHasher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public UserBulkService(ObjectMapper objectMapper, Validator validator, UserRepository userRepository,
+                           UserMapper userMapper, TimeOrderedIdGenerator idGenerator, PasswordHasher passwordHasher,
+                           UserCache userCache, EntityManager entityManager, PlatformTransactionManager transactionManager,
+                           @Value("${users.bulk.chunk-size:1000}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.idGenerator = idGenerator;
+        this.passwordHasher = passwordHasher;
+        this.userCache = userCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public ResponseBulkUsers createUsers(InputStream body) throws IOException {
+        ResponseBulkUsers response = new ResponseBulkUsers();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        // readValues: 최상위 JSON 배열이면 원소를, NDJSON이면 줄(값)을 하나씩 읽음
+        try (MappingIterator<RequestUser> rows = objectMapper.readerFor(RequestUser.class).readValues(body)) {
+            while (rows.hasNextValue()) {
+                chunk.add(new Row(index++, rows.nextValue()));
+                if (chunk.size() == chunkSize) {
+                    process(chunk, response);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 형식이 잘못된 지점 이후는 읽을 수 없으므로 중단 (앞서 읽은 요청은 그대로 처리)
+            process(chunk, response);
+            response.add(ResponseBulkUser.failed(index, null, List.of("Malformed request: " + e.getOriginalMessage())));
+            return response;
+        }
+
+        process(chunk, response);
+        return response;
+    }
+
+    private void process(List<Row> chunk, ResponseBulkUsers response) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        ResponseBulkUser[] results = new ResponseBulkUser[chunk.size()];
+
+        // 1) 검증
+        List<Integer> accepted = new ArrayList<>(chunk.size());
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Row row = chunk.get(i);
+            List<String> errors = validate(row.user());
+            if (!errors.isEmpty()) {
+                results[i] = ResponseBulkUser.failed(row.index(), row.user().getEmail(), errors);
+            } else if (!emails.add(row.user().getEmail())) {
+                results[i] = ResponseBulkUser.failed(row.index(), row.user().getEmail(), List.of("Duplicate email in request"));
+            } else {
+                accepted.add(i);
+            }
+        }
+        if (!accepted.isEmpty()) {
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(emails));
+            accepted.removeIf(i -> {
+                Row row = chunk.get(i);
+                if (existing.contains(row.user().getEmail())) {
+                    results[i] = ResponseBulkUser.failed(row.index(), row.user().getEmail(), List.of("Email already registered"));
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (!accepted.isEmpty()) {
+            // 2) 비밀번호 해시 (병렬)
+            List<String> passwords = new ArrayList<>(accepted.size());
+            for (int i : accepted) {
+                passwords.add(chunk.get(i).user().getPwd());
+            }
+            List<String> hashes = passwordHasher.hashAll(passwords);
+
+            List<UserEntity> entities = new ArrayList<>(accepted.size());
+            for (int n = 0; n < accepted.size(); n++) {
+                UserEntity entity = userMapper.toEntity(userMapper.toDto(chunk.get(accepted.get(n)).user()));
+                entity.setUserId(idGenerator.next());
+                entity.setEncryptedPwd(hashes.get(n));
+                entities.add(entity);
+            }
+
+            // 3) chunk 단위 저장, 4) 실패 시 한 건씩 다시 저장
+            if (saveAll(entities)) {
+                for (int n = 0; n < accepted.size(); n++) {
+                    Row row = chunk.get(accepted.get(n));
+                    results[accepted.get(n)] = ResponseBulkUser.created(row.index(), row.user().getEmail(), entities.get(n).getUserId());
+                }
+            } else {
+                for (int n = 0; n < accepted.size(); n++) {
+                    Row row = chunk.get(accepted.get(n));
+                    UserEntity entity = entities.get(n);
+                    entity.setId(null);
+                    String error = save(entity);
+                    results[accepted.get(n)] = error == null
+                            ? ResponseBulkUser.created(row.index(), row.user().getEmail(), entity.getUserId())
+                            : ResponseBulkUser.failed(row.index(), row.user().getEmail(), List.of(error));
+                }
+            }
+        }
+
+        // 5) 새로 저장된 userId의 캐시 항목(없는 id로 조회된 기록 포함) 무효화
+        List<String> created = new ArrayList<>(accepted.size());
+        for (ResponseBulkUser result : results) {
+            response.add(result);
+            if (result.getStatus() == ResponseBulkUser.Status.CREATED) {
+                created.add(result.getUserId());
+            }
+        }
+        if (!created.isEmpty()) {
+            userCache.invalidateAll(created);
+        }
+    }
+
+    private List<String> validate(RequestUser user) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<RequestUser> violation : validator.validate(user)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        errors.sort(null);
+        return errors;
+    }
+
+    private boolean saveAll(List<UserEntity> entities) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(entities);
+                entityManager.flush();
+                // 저장한 엔티티를 영속성 컨텍스트에 남기지 않음 (chunk가 계속 쌓이지 않도록)
+                entityManager.clear();
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Bulk insert of {} users failed, retrying one by one: {}", entities.size(), e.toString());
+            entityManager.clear();
+            return false;
+        }
+    }
+
+    /* 한 건 저장, 실패하면 원인 반환 */
+    private String save(UserEntity entity) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.save(entity);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return null;
+        } catch (RuntimeException e) {
+            entityManager.clear();
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConstraintViolationException) {
+                    return "Duplicate email or userId";
+                }
+            }
+            log.warn("Could not save user {}: {}", entity.getEmail(), e.toString());
+            return "Could not be saved";
+        }
+    }
+
+    private record Row(int index, RequestUser user) {
+    }
+}
@@ -2,9 +2,18 @@ package com.example.user_service.service;
 
 import com.example.user_service.dto.UserDto;
 import com.example.user_service.jpa.UserEntity;
+import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserService {
+import java.util.List;
+import java.util.function.Consumer;
+
+// UserDetailsService: 로그인 시 Spring Security가 email로 사용자(암호화된 비밀번호)를 조회할 때 사용
+public interface UserService extends UserDetailsService {
     UserDto createUser(UserDto userDto);
     UserDto getUserByUserId(String userId); //개별 사용자 목록보기
+    UserDto getUserByUserId(String userId, boolean includeOrders); //includeOrders=false이면 order-service를 호출하지 않음
     Iterable<UserEntity> getUserByAll(); //전체 사용자 목록보기
+    List<UserEntity> getUsersAfter(Long afterId, int limit); //id 기준 keyset 페이지 조회
+    void streamUsers(Consumer<UserEntity> consumer); //전체 사용자를 한 건씩 전달 (메모리에 모으지 않음)
+    UserDto getUserDetailsByEmail(String email); //로그인 성공 후 토큰 발급용 사용자 정보
 }
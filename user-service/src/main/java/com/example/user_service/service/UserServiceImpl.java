@@ -1,21 +1,31 @@
 package com.example.user_service.service;
 
+import com.example.user_service.cache.UserCache;
+import com.example.user_service.cache.UserSnapshot;
+import com.example.user_service.client.OrderServiceClient;
 import com.example.user_service.dto.UserDto;
+import com.example.user_service.id.TimeOrderedIdGenerator;
 import com.example.user_service.jpa.UserEntity;
 import com.example.user_service.jpa.UserRepository;
+import com.example.user_service.mapper.UserMapper;
+import com.example.user_service.security.PasswordHasher;
 import com.example.user_service.vo.ResponseOrder;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.data.domain.Limit;
 import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 @Service
@@ -23,48 +33,84 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService {
     Environment env;
     UserRepository userRepository;
-    BCryptPasswordEncoder passwordEncoder;
-
-    public UserServiceImpl(Environment env, UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
+    PasswordHasher passwordHasher;
+    UserMapper userMapper;
+    TimeOrderedIdGenerator idGenerator;
+    EntityManager entityManager;
+    OrderServiceClient orderServiceClient;
+    UserCache userCache;
+
+    public UserServiceImpl(Environment env, UserRepository userRepository, PasswordHasher passwordHasher,
+                           UserMapper userMapper, EntityManager entityManager, OrderServiceClient orderServiceClient,
+                           TimeOrderedIdGenerator idGenerator, UserCache userCache) {
         this.env = env;
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.userMapper = userMapper;
+        this.idGenerator = idGenerator;
+        this.entityManager = entityManager;
+        this.orderServiceClient = orderServiceClient;
+        this.userCache = userCache;
     }
 
 
     @Override
     public UserDto createUser(UserDto userDto) {
-        userDto.setUserId(UUID.randomUUID().toString());
+        // 시간 순서 id (UUIDv7): unique 인덱스에 순서대로 추가됨
+        userDto.setUserId(idGenerator.next());
 
-        ModelMapper mapper = new ModelMapper();
-        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-        UserEntity userEntity = mapper.map(userDto, UserEntity.class);
+        UserEntity userEntity = userMapper.toEntity(userDto);
 //        userEntity.setEncryptedPwd("encrypted_password");
-        userEntity.setEncryptedPwd(passwordEncoder.encode(userDto.getPwd()));
+        // BCrypt 해시는 전용 스레드 풀에서 계산 (대기 큐가 가득 차면 429)
+        userEntity.setEncryptedPwd(passwordHasher.hash(userDto.getPwd()));
 
         userRepository.save(userEntity);
+        // 사용자 정보가 바뀌는 경로에서는 캐시 항목을 무효화 (없는 id로 조회된 기록 포함)
+        userCache.invalidate(userEntity.getUserId());
 
-        UserDto returnUserDto = mapper.map(userEntity, UserDto.class);
+        UserDto returnUserDto = userMapper.toDto(userEntity);
 
         return returnUserDto;
     }
 
+    /**
+     * 사용자 상세 조회 (주문 목록 포함)
+     * - order-service 호출을 먼저 시작해 두고 DB 조회를 수행하므로, 응답 시간은 두 작업 중 느린 쪽에 가까움
+     * - 주문 조회가 시간 초과/실패하면 orders 없이(null) 사용자 정보만 반환
+     * - 사용자 정보는 UserCache를 먼저 확인하고, 없을 때만 DB에서 조회
+     */
     @Override
     public UserDto getUserByUserId(String userId) {
-        UserEntity userEntity = userRepository.findByUserId(userId);
+        return getUserByUserId(userId, true);
+    }
+
+    /**
+     * 사용자 상세 조회
+     * - includeOrders가 false이면 order-service를 호출하지 않고 사용자 정보만 반환 (orders는 null)
+     *   (주문을 따로 조회하는 api-gateway composite가 사용)
+     */
+    @Override
+    public UserDto getUserByUserId(String userId, boolean includeOrders) {
+        CompletableFuture<List<ResponseOrder>> orders = includeOrders
+                ? orderServiceClient.getOrders(userId).toFuture()
+                : CompletableFuture.completedFuture(null);
+
+        UserSnapshot user = userCache.get(userId, userRepository::findByUserId);
         // find~ 라는 메소드명 규칙에 따라 JPA가 내부적으로
         // UserEntity 클래스의 필드명 userId를 기준으로
         // 자동으로 다음 SQL을 생성한다.
         // SELECT * FROM user_entity WHERE user_id = ?;
 
-        if (userEntity == null)
+        if (user == null) {
+            orders.cancel(true);
             throw new UsernameNotFoundException("User not found");
+        }
         // 데이터가 없을 때 Exception에러를 반환하도록 조치한다.
 
-        UserDto userDto = new ModelMapper().map(userEntity, UserDto.class);
+        UserDto userDto = userMapper.toDto(user);
 
-        List<ResponseOrder> orderList = new ArrayList<>();
-        userDto.setOrders(orderList); //주문 데이터 셋팅
+        // 주문 데이터 셋팅 (OrderServiceClient가 시간 초과를 적용하므로 오래 기다리지 않음)
+        userDto.setOrders(orders.join());
 
         return userDto;
     }
@@ -74,5 +120,51 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll();
     }
 
+    @Override
+    public List<UserEntity> getUsersAfter(Long afterId, int limit) {
+        return userRepository.findByIdGreaterThanOrderByIdAsc(afterId != null ? afterId : 0L, Limit.of(limit));
+    }
+
+    /**
+     * 전체 사용자를 id 순으로 한 건씩 consumer에 전달
+     * - DB 커서를 fetch size 단위로 읽으므로 사용자 수와 관계없이 메모리 사용량이 일정함
+     * - 전달이 끝난 엔티티는 영속성 컨텍스트에서 분리(detach)하여 1차 캐시에 쌓이지 않도록 함
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamUsers(Consumer<UserEntity> consumer) {
+        try (Stream<UserEntity> users = userRepository.streamAllOrderById()) {
+            users.forEach(user -> {
+                consumer.accept(user);
+                entityManager.detach(user);
+            });
+        }
+    }
+
+    @Override
+    public UserDto getUserDetailsByEmail(String email) {
+        UserEntity userEntity = userRepository.findByEmail(email);
+        if (userEntity == null)
+            throw new UsernameNotFoundException(email);
+
+        return userMapper.toDto(userEntity);
+    }
+
+    /**
+     * 로그인 시 Spring Security(DaoAuthenticationProvider)가 호출
+     * - email로 사용자를 찾아 암호화된 비밀번호(encryptedPwd)를 넘겨주면, 입력한 비밀번호와 BCrypt로 비교함
+     * - 비밀번호 비교(BCrypt)는 로그인할 때 한 번만 수행되고, 이후 요청은 발급된 토큰으로 인증
+     */
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserEntity userEntity = userRepository.findByEmail(username);
+        if (userEntity == null)
+            throw new UsernameNotFoundException(username + ": not found");
+
+        return new User(userEntity.getEmail(), userEntity.getEncryptedPwd(),
+                true, true, true, true,
+                new ArrayList<>());
+    }
+
 
 }
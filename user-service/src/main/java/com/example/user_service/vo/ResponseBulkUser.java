@@ -0,0 +1,41 @@
+package com.example.user_service.vo;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 일괄 가입 결과 (요청 한 건)
+ * - index: 요청 배열/NDJSON에서의 순서 (0부터)
+ * - 성공하면 userId, 실패하면 errors에 원인을 담음
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResponseBulkUser {
+    public enum Status { CREATED, FAILED }
+
+    private int index;
+    private String email;
+    private Status status;
+    private String userId;
+    private List<String> errors;
+
+    public static ResponseBulkUser created(int index, String email, String userId) {
+        ResponseBulkUser result = new ResponseBulkUser();
+        result.setIndex(index);
+        result.setEmail(email);
+        result.setStatus(Status.CREATED);
+        result.setUserId(userId);
+        return result;
+    }
+
+    public static ResponseBulkUser failed(int index, String email, List<String> errors) {
+        ResponseBulkUser result = new ResponseBulkUser();
+        result.setIndex(index);
+        result.setEmail(email);
+        result.setStatus(Status.FAILED);
+        result.setErrors(errors);
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.user_service.vo;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 가입 결과 (POST /user-service/users/bulk)
+ * - 일부 요청이 실패해도 나머지는 저장되며, 요청별 성공/실패는 results로 확인
+ */
+@Data
+public class ResponseBulkUsers {
+    private int total;
+    private int created;
+    private int failed;
+    private List<ResponseBulkUser> results = new ArrayList<>();
+
+    public void add(ResponseBulkUser result) {
+        results.add(result);
+        total++;
+        if (result.getStatus() == ResponseBulkUser.Status.CREATED) {
+            created++;
+        } else {
+            failed++;
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.example.user_service;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "token.secret=test-token-secret-0123456789abcdef0123456789")
 class UserServiceApplicationTests {
 
 	@Test
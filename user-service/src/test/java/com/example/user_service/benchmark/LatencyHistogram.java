@@ -0,0 +1,103 @@
+package com.example.user_service.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 기록할 수 있는 log-linear 지연시간 히스토그램 (마이크로초 단위)
+ * - 2의 거듭제곱 구간마다 SUB_BUCKETS개로 나눠 상대 오차 약 6% 이내 (HdrHistogram과 같은 방식의 간이 버전)
+ */
+class LatencyHistogram {
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private volatile long max;
+
+    void record(long nanos, long responseBytes) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(index(micros));
+        total.increment();
+        bytes.add(responseBytes);
+        if (micros > max) {
+            max = micros;   // 경합 시 약간 부정확할 수 있음 (참고용)
+        }
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        errors.reset();
+        bytes.reset();
+        max = 0;
+    }
+
+    Map<String, Object> summary(double seconds) {
+        long count = total.sum();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("errors", errors.sum());
+        summary.put("throughputPerSec", round(count / seconds));
+        summary.put("p50Ms", millis(percentile(0.50)));
+        summary.put("p90Ms", millis(percentile(0.90)));
+        summary.put("p99Ms", millis(percentile(0.99)));
+        summary.put("p999Ms", millis(percentile(0.999)));
+        summary.put("maxMs", millis(max));
+        summary.put("avgResponseBytes", count == 0 ? 0 : bytes.sum() / count);
+        return summary;
+    }
+
+    long percentile(double quantile) {
+        long count = total.sum();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return max;
+    }
+
+    static int index(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent < SUB_BITS) {
+            return (int) micros;
+        }
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.user_service.benchmark;
+
+import com.example.user_service.UserServiceApplication;
+import com.example.user_service.security.GatewayAuthenticationFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ThreadModeBenchmark
+ * - user-service를 같은 JVM에서 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)로 차례로 띄우고
+ *   GET /user-service/users/{userId}의 처리량과 지연시간 백분위를 동시 요청 수(concurrency)를 늘려가며 비교
+ * - 요청마다 DB 조회와 order-service 호출이 일어나도록 UserCache와 주문 캐시는 끔 (ttl 0)
+ * - order-service는 ordersDelayMs만큼 늦게 응답하는 stub(Reactor Netty 서버)으로 대체, Eureka는 사용하지 않음
+ * - 동시성 단계마다 closed-loop(응답을 받으면 바로 다음 요청)로 warmupSec 후 durationSec 동안 측정
+ * - 결과는 JSON 파일(output)로 기록하고 요약을 콘솔에 출력
+ * - 실행: mvn -Pthread-mode-benchmark test-compile exec:exec [-Dconcurrency=16,64,256,1024 -DordersDelayMs=20]
+ */
+public class ThreadModeBenchmark {
+    private final List<String> modes = List.of(System.getProperty("modes", "platform,virtual").split(","));
+    private final int[] concurrency = Arrays.stream(System.getProperty("concurrency", "16,64,256,1024").split(","))
+            .mapToInt(Integer::parseInt).toArray();
+    private final int users = Integer.getInteger("users", 1000);
+    private final long ordersDelayMs = Long.getLong("ordersDelayMs", 20);
+    private final int warmupSec = Integer.getInteger("warmupSec", 5);
+    private final int durationSec = Integer.getInteger("durationSec", 20);
+    private final String output = System.getProperty("output", "target/thread-mode-benchmark.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        // devtools가 애플리케이션을 별도 스레드(restartedMain)에서 다시 띄우지 않도록 함
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        new ThreadModeBenchmark().run();
+    }
+
+    void run() throws Exception {
+        DisposableServer orderService = startOrderServiceStub();
+        Map<String, Object> results = new LinkedHashMap<>();
+        try {
+            for (String mode : modes) {
+                results.put(mode, runMode(mode.trim(), orderService.port()));
+            }
+        } finally {
+            orderService.disposeNow();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", System.currentTimeMillis());
+        result.put("config", config());
+        result.put("modes", results);
+
+        File file = new File(output);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file, result);
+        System.out.println(mapper.writeValueAsString(result));
+        System.out.println("Result written to " + file.getAbsolutePath());
+    }
+
+    private Map<String, Object> runMode(String mode, int orderServicePort) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN", "spring.main.banner-mode=off",
+                        "spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                        "spring.datasource.url=jdbc:h2:mem:thread-mode-" + mode + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "eureka.client.enabled=false",
+                        "spring.cloud.discovery.client.simple.instances[ORDER-SERVICE][0].uri=http://127.0.0.1:" + orderServicePort,
+                        "user-cache.ttl-ms=0", "user-cache.negative-ttl-ms=0", "order_service.cache-ttl-ms=0",
+                        "password-hashing.cost=4", "token.secret=benchmark-token-secret-0123456789abcdef0123",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        try {
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/user-service";
+            List<String> userIds = createUsers(baseUrl);
+
+            Map<String, Object> levels = new LinkedHashMap<>();
+            for (int clients : concurrency) {
+                LatencyHistogram histogram = new LatencyHistogram();
+                load(clients, histogram, () -> HttpRequest.newBuilder(URI.create(baseUrl + "/users/"
+                                + userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()))))
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "benchmark")
+                        .GET());
+                Map<String, Object> summary = histogram.summary(durationSec);
+                levels.put(String.valueOf(clients), summary);
+                System.out.printf("%-8s concurrency=%-5d throughput=%10s/s p50=%8sms p99=%8sms errors=%s%n", mode, clients,
+                        summary.get("throughputPerSec"), summary.get("p50Ms"), summary.get("p99Ms"), summary.get("errors"));
+            }
+            return levels;
+        } finally {
+            context.close();
+        }
+    }
+
+    /* 조회할 사용자를 bulk API로 미리 만들어 두고 userId 목록을 반환 */
+    private List<String> createUsers(String baseUrl) throws IOException, InterruptedException {
+        List<Map<String, String>> body = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            body.add(Map.of("email", "bench-" + i + "@test.com", "name", "bench-" + i, "pwd", "password-" + i));
+        }
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/users/bulk"))
+                        .header("Content-Type", "application/json")
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "benchmark")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        List<String> userIds = new ArrayList<>(users);
+        for (JsonNode result : objectMapper.readTree(response.body()).path("results")) {
+            if (result.hasNonNull("userId")) {
+                userIds.add(result.get("userId").asText());
+            }
+        }
+        if (userIds.isEmpty()) {
+            throw new IllegalStateException("Could not create users: " + response.statusCode() + " " + response.body());
+        }
+        return userIds;
+    }
+
+    /* clients개의 클라이언트가 closed-loop로 요청, 워밍업 이후 시작한 요청만 기록 */
+    private void load(int clients, LatencyHistogram histogram, Supplier<HttpRequest.Builder> requests) {
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSec);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSec);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                workers.execute(() -> {
+                    long start;
+                    while ((start = System.nanoTime()) < end) {
+                        try {
+                            HttpResponse<byte[]> response = client.send(requests.get().timeout(Duration.ofSeconds(30)).build(),
+                                    HttpResponse.BodyHandlers.ofByteArray());
+                            if (start < measureStart) {
+                                continue;
+                            }
+                            if (response.statusCode() >= 400) {
+                                histogram.error();
+                            } else {
+                                histogram.record(System.nanoTime() - start, response.body().length);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            if (start >= measureStart) {
+                                histogram.error();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    /* order-service 대신 ordersDelayMs 후 빈 주문 목록을 반환 (Reactor Netty 서버) */
+    private DisposableServer startOrderServiceStub() {
+        return HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> Mono.delay(Duration.ofMillis(ordersDelayMs))
+                        .then(response.header("Content-Type", "application/json").sendString(Mono.just("[]")).then()))
+                .bindNow();
+    }
+
+    private Map<String, Object> config() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("endpoint", "GET /user-service/users/{userId}");
+        config.put("modes", modes);
+        config.put("concurrency", concurrency);
+        config.put("users", users);
+        config.put("ordersDelayMs", ordersDelayMs);
+        config.put("warmupSec", warmupSec);
+        config.put("durationSec", durationSec);
+        config.put("javaVersion", System.getProperty("java.version"));
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        config.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        return config;
+    }
+}
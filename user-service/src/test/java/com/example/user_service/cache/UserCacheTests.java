@@ -0,0 +1,79 @@
+package com.example.user_service.cache;
+
+import com.example.user_service.jpa.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private UserCache cache(int maxEntries, long ttlMs, long negativeTtlMs) {
+        UserCacheInvalidationBroadcaster broadcaster = new UserCacheInvalidationBroadcaster(null, null,
+                WebClient.builder(), false, "user-service", 1000);
+        return new UserCache(meterRegistry, broadcaster, maxEntries, ttlMs, negativeTtlMs);
+    }
+
+    private final Function<String, UserEntity> loader = userId -> {
+        loads.incrementAndGet();
+        if (userId.startsWith("unknown")) {
+            return null;
+        }
+        UserEntity entity = new UserEntity();
+        entity.setUserId(userId);
+        entity.setEmail(userId + "@test.com");
+        entity.setName("name-" + userId);
+        entity.setEncryptedPwd("hash");
+        return entity;
+    };
+
+    @Test
+    void cachesSnapshotsAndUnknownIds() {
+        UserCache cache = cache(100, 60_000, 60_000);
+
+        UserSnapshot first = cache.get("u1", loader);
+        UserSnapshot second = cache.get("u1", loader);
+        assertThat(cache.get("unknown-1", loader)).isNull();
+        assertThat(cache.get("unknown-1", loader)).isNull();
+
+        assertThat(first.getEmail()).isEqualTo("u1@test.com");
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("user.cache.load").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateAndExpiryForceReload() throws InterruptedException {
+        UserCache cache = cache(100, 60_000, 1);
+
+        cache.get("u1", loader);
+        cache.invalidate("u1");
+        cache.get("u1", loader);
+        cache.get("unknown-1", loader);
+        Thread.sleep(5);
+        cache.get("unknown-1", loader);
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void staysWithinMaxEntries() {
+        UserCache cache = cache(10, 60_000, 60_000);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("u" + i, loader);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        cache.invalidateLocal(List.of("u99"));
+        assertThat(cache.get("u99", loader)).isNotNull();
+    }
+}
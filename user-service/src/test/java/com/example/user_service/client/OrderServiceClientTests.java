@@ -0,0 +1,90 @@
+package com.example.user_service.client;
+
+import com.example.user_service.vo.ResponseOrder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderServiceClientTests {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private OrderServiceClient client(ExchangeFunction exchange, long timeoutMs) {
+        ExchangeFunction counting = request -> {
+            calls.incrementAndGet();
+            return exchange.exchange(request);
+        };
+        return new OrderServiceClient(WebClient.builder().exchangeFunction(counting),
+                "http://ORDER-SERVICE/order-service/{userId}/orders", 2, timeoutMs, 60_000, 100);
+    }
+
+    private static ExchangeFunction ok(String json) {
+        return request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(json)
+                .build());
+    }
+
+    @Test
+    void returnsOrdersAndReusesCachedList() {
+        OrderServiceClient client = client(ok("[{\"orderId\":\"o-1\",\"productId\":\"CATALOG-001\",\"qty\":2}]"), 1000);
+
+        List<ResponseOrder> first = client.getOrders("user-1").block();
+        List<ResponseOrder> second = client.getOrders("user-1").block();
+
+        assertThat(first).extracting(ResponseOrder::getOrderId).containsExactly("o-1");
+        assertThat(second).isEqualTo(first);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void followsNextCursorAndEncodesUserId() {
+        List<URI> requested = new CopyOnWriteArrayList<>();
+        OrderServiceClient client = client(request -> {
+            requested.add(request.url());
+            boolean firstPage = request.url().getQuery().equals("limit=2");
+            ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            if (firstPage) {
+                return Mono.just(response.header("X-Next-Cursor", "c+1")
+                        .body("[{\"orderId\":\"o-2\"},{\"orderId\":\"o-1\"}]").build());
+            }
+            return Mono.just(response.body("[{\"orderId\":\"o-0\"}]").build());
+        }, 1000);
+
+        List<ResponseOrder> orders = client.getOrders("user 1/x").block();
+
+        assertThat(orders).extracting(ResponseOrder::getOrderId).containsExactly("o-2", "o-1", "o-0");
+        assertThat(requested).extracting(URI::getRawPath).containsOnly("/order-service/user%201%2Fx/orders");
+        assertThat(requested.get(1).getRawQuery()).isEqualTo("limit=2&cursor=c%2B1");
+    }
+
+    @Test
+    void degradesToNoOrdersWhenOrderServiceIsSlow() {
+        OrderServiceClient client = client(request -> Mono.never(), 50);
+
+        assertThat(client.getOrders("user-1").blockOptional()).isEmpty();
+        assertThat(client.size()).isZero();
+    }
+
+    @Test
+    void degradesToNoOrdersOnErrorResponse() {
+        OrderServiceClient client = client(request -> Mono.just(
+                ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()), 1000);
+
+        assertThat(client.getOrders("user-1").blockOptional()).isEmpty();
+        assertThat(client.getOrders("user-1").blockOptional()).isEmpty();
+        assertThat(calls).hasValue(2);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.user_service.controller;
+
+import com.example.user_service.cache.UserCacheInvalidationBroadcaster;
+import com.example.user_service.client.OrderServiceClient;
+import com.example.user_service.jpa.UserEntity;
+import com.example.user_service.jpa.UserRepository;
+import com.example.user_service.security.AuthenticationFilter;
+import com.example.user_service.security.GatewayAuthenticationFilter;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"users.stream.flush-rows=2", "users.bulk.chunk-size=2", "password-hashing.cost=4",
+        "token.secret=test-token-secret-0123456789abcdef0123456789"})
+@AutoConfigureMockMvc
+class UserControllerTests {
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @MockitoSpyBean
+    OrderServiceClient orderServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        for (int i = 0; i < 5; i++) {
+            UserEntity user = new UserEntity();
+            user.setEmail("user" + i + "@example.com");
+            user.setName("user" + i);
+            user.setUserId("user-id-" + i);
+            user.setEncryptedPwd("encrypted-" + i);
+            userRepository.save(user);
+        }
+    }
+
+    @Test
+    void pagesThroughUsersWithNextCursor() throws Exception {
+        List<String> userIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(get("/user-service/users")
+                            .param("limit", "2")
+                            .param("cursor", cursor != null ? cursor : "")
+                            .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            userIds.addAll(JsonPath.read(result.getResponse().getContentAsString(), "$[*].userId"));
+            cursor = result.getResponse().getHeader(UserController.NEXT_CURSOR_HEADER);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(userIds).containsExactly("user-id-0", "user-id-1", "user-id-2", "user-id-3", "user-id-4");
+    }
+
+    @Test
+    void streamsAllUsersWithoutPaging() throws Exception {
+        MvcResult result = mockMvc.perform(get("/user-service/users")
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<String> userIds = JsonPath.read(result.getResponse().getContentAsString(), "$[*].userId");
+        assertThat(userIds).containsExactly("user-id-0", "user-id-1", "user-id-2", "user-id-3", "user-id-4");
+        assertThat(result.getResponse().getHeader(UserController.NEXT_CURSOR_HEADER)).isNull();
+    }
+
+    @Test
+    void rejectsInvalidCursor() throws Exception {
+        mockMvc.perform(get("/user-service/users")
+                        .param("cursor", "not a cursor")
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void bulkCreatesValidUsersAndReportsFailuresPerRow() throws Exception {
+        String body = """
+                [
+                  {"email": "new1@example.com", "name": "new1", "pwd": "password1"},
+                  {"email": "user0@example.com", "name": "dup", "pwd": "password1"},
+                  {"email": "not-an-email", "name": "x", "pwd": "short"},
+                  {"email": "new1@example.com", "name": "again", "pwd": "password1"},
+                  {"email": "new2@example.com", "name": "new2", "pwd": "password2"}
+                ]
+                """;
+
+        mockMvc.perform(post("/user-service/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body)
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[*].index").value(contains(0, 1, 2, 3, 4)))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("Email already registered"))
+                .andExpect(jsonPath("$.results[2].errors.length()").value(3))
+                .andExpect(jsonPath("$.results[4].status").value("CREATED"));
+
+        assertThat(userRepository.findByEmail("new1@example.com").getName()).isEqualTo("new1");
+        assertThat(userRepository.count()).isEqualTo(7);
+    }
+
+    @Test
+    void bulkAcceptsNdjson() throws Exception {
+        String body = """
+                {"email": "nd1@example.com", "name": "nd1", "pwd": "password1"}
+                {"email": "nd2@example.com", "name": "nd2", "pwd": "password2"}
+                {"email": "nd3@example.com", "name": "nd3", "pwd": "password3"}
+                """;
+
+        mockMvc.perform(post("/user-service/users/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body)
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(3));
+
+        assertThat(userRepository.findByEmail("nd3@example.com")).isNotNull();
+    }
+
+    @Test
+    void loginRejectsInvalidBodyAndOnlyHandlesPost() throws Exception {
+        mockMvc.perform(post(AuthenticationFilter.LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"not-an-email\", \"password\": \"short\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post(AuthenticationFilter.LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{"))
+                .andExpect(status().isBadRequest());
+
+        // GET은 로그인 처리 대상이 아님 (인증된 요청으로 그대로 진행, 매핑된 핸들러 없음)
+        mockMvc.perform(get(AuthenticationFilter.LOGIN_URL)
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void acceptsCacheInvalidationOnlyFromTrustedAddresses() throws Exception {
+        mockMvc.perform(post(UserCacheInvalidationBroadcaster.INVALIDATION_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"user-id-0\"]"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post(UserCacheInvalidationBroadcaster.INVALIDATION_PATH)
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.5");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"user-id-0\"]"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void skipsOrderServiceWhenOrdersAreNotRequested() throws Exception {
+        mockMvc.perform(get("/user-service/users/user-id-0").param("includeOrders", "false")
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value("user-id-0"))
+                .andExpect(jsonPath("$.orders").doesNotExist());
+        verify(orderServiceClient, never()).getOrders("user-id-0");
+
+        mockMvc.perform(get("/user-service/users/user-id-0")
+                        .header(GatewayAuthenticationFilter.USER_ID_HEADER, "user-id-0"))
+                .andExpect(status().isOk());
+        verify(orderServiceClient).getOrders("user-id-0");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.user_service.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTests {
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+    @Test
+    void generatesVersion7UuidsWithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = generator.nextUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void idsAreStrictlyIncreasingAsStrings() {
+        // 같은 ms 안에서 4096개를 넘게 만들어 counter가 넘치는 경우까지 확인
+        String previous = generator.next();
+        for (int i = 0; i < 20_000; i++) {
+            String next = generator.next();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.next());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    void binaryConverterRoundTripsAndKeepsOrder() {
+        UuidBinaryConverter converter = new UuidBinaryConverter();
+        String first = generator.next();
+        String second = generator.next();
+
+        byte[] firstBytes = converter.convertToDatabaseColumn(first);
+        assertThat(firstBytes).hasSize(16);
+        assertThat(converter.convertToEntityAttribute(firstBytes)).isEqualTo(first);
+        assertThat(Arrays.compareUnsigned(firstBytes, converter.convertToDatabaseColumn(second))).isNegative();
+    }
+}
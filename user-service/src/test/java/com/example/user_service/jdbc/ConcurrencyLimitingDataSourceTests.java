@@ -0,0 +1,57 @@
+package com.example.user_service.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitingDataSourceTests {
+
+    private static DataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:jdbc-guard;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    @Test
+    void releasesPermitOnceWhenConnectionIsClosed() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(h2(), 2, 50);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void timesOutWhenAllPermitsAreInUse() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(h2(), 1, 50);
+
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    void wrapsDataSourceOnlyInVirtualThreadMode() {
+        DataSource target = h2();
+
+        assertThat(new JdbcConcurrencyGuard(false, true, 10, 1000).postProcessAfterInitialization(target, "dataSource"))
+                .isSameAs(target);
+        assertThat(new JdbcConcurrencyGuard(true, true, 10, 1000).postProcessAfterInitialization(target, "dataSource"))
+                .isInstanceOf(ConcurrencyLimitingDataSource.class);
+        assertThat(new JdbcConcurrencyGuard(true, false, 10, 1000).postProcessAfterInitialization(target, "dataSource"))
+                .isSameAs(target);
+    }
+}
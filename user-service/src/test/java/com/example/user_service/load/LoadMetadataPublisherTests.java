@@ -0,0 +1,39 @@
+package com.example.user_service.load;
+
+import com.example.user_service.jdbc.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadMetadataPublisherTests {
+
+    @Test
+    void readsPoolUsageThroughConcurrencyGuard() throws Exception {
+        try (HikariDataSource hikari = new HikariDataSource()) {
+            hikari.setJdbcUrl("jdbc:h2:mem:load-metadata;DB_CLOSE_DELAY=-1");
+            hikari.setUsername("sa");
+            hikari.setMaximumPoolSize(4);
+            DataSource guarded = new ConcurrencyLimitingDataSource(hikari, 4, 50);
+
+            try (Connection first = guarded.getConnection(); Connection second = guarded.getConnection()) {
+                assertThat(LoadMetadataPublisher.dbPoolPercent(guarded)).isEqualTo(50);
+                assertThat(LoadMetadataPublisher.dbPoolPercent(hikari)).isEqualTo(50);
+            }
+        }
+    }
+
+    @Test
+    void reportsUnknownForNonHikariDataSource() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:load-metadata-plain");
+
+        assertThat(LoadMetadataPublisher.dbPoolPercent(h2)).isEqualTo(-1);
+        assertThat(LoadMetadataPublisher.dbPoolPercent(new ConcurrencyLimitingDataSource(h2, 1, 50))).isEqualTo(-1);
+        assertThat(LoadMetadataPublisher.dbPoolPercent(null)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.user_service.mapper;
+
+import com.example.user_service.jpa.UserEntity;
+import com.example.user_service.vo.ResponseUser;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserMapper와 기존 방식(요청/요소마다 new ModelMapper())의 변환 비용 비교
+ * - newMapperPerElement: GET /users처럼 목록의 요소마다 ModelMapper를 새로 만드는 경우
+ * - newMapperPerCall: createUser처럼 호출마다 STRICT ModelMapper를 하나 만들어 쓰는 경우
+ * - userMapper: 시작 시 한 번 만든 TypeMap을 재사용하는 경우
+ * - 실행: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UserMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class UserMapperBenchmark {
+    private UserMapper userMapper;
+    private List<UserEntity> users;
+
+    @Param({"1", "100"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        userMapper = new UserMapper();
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserEntity user = new UserEntity();
+            user.setId((long) i);
+            user.setEmail("user" + i + "@example.com");
+            user.setName("user" + i);
+            user.setUserId("user-id-" + i);
+            user.setEncryptedPwd("$2a$10$encrypted" + i);
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public void newMapperPerElement(Blackhole blackhole) {
+        List<ResponseUser> result = new ArrayList<>(users.size());
+        users.forEach(v -> result.add(new ModelMapper().map(v, ResponseUser.class)));
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void newMapperPerCall(Blackhole blackhole) {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        List<ResponseUser> result = new ArrayList<>(users.size());
+        users.forEach(v -> result.add(mapper.map(v, ResponseUser.class)));
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void userMapper(Blackhole blackhole) {
+        List<ResponseUser> result = new ArrayList<>(users.size());
+        users.forEach(v -> result.add(userMapper.toResponse(v)));
+        blackhole.consume(result);
+    }
+}
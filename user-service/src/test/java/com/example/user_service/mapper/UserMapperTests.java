@@ -0,0 +1,49 @@
+package com.example.user_service.mapper;
+
+import com.example.user_service.dto.UserDto;
+import com.example.user_service.jpa.UserEntity;
+import com.example.user_service.vo.RequestUser;
+import com.example.user_service.vo.ResponseUser;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserMapperTests {
+    private final UserMapper userMapper = new UserMapper();
+
+    @Test
+    void mapsRequestToDtoToEntityWithoutCopyingPlainPassword() {
+        UserDto userDto = userMapper.toDto(new RequestUser("user@example.com", "password1", "user"));
+        assertThat(userDto.getPwd()).isEqualTo("password1");
+        assertThat(userDto.getEncryptedPwd()).isNull();
+
+        userDto.setUserId("user-id");
+        UserEntity userEntity = userMapper.toEntity(userDto);
+        assertThat(userEntity.getEmail()).isEqualTo("user@example.com");
+        assertThat(userEntity.getName()).isEqualTo("user");
+        assertThat(userEntity.getUserId()).isEqualTo("user-id");
+        // STRICT: pwd가 encryptedPwd로 매핑되면 안 됨
+        assertThat(userEntity.getEncryptedPwd()).isNull();
+        assertThat(userEntity.getId()).isNull();
+    }
+
+    @Test
+    void mapsEntityToResponseWithoutPassword() {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setId(1L);
+        userEntity.setEmail("user@example.com");
+        userEntity.setName("user");
+        userEntity.setUserId("user-id");
+        userEntity.setEncryptedPwd("encrypted");
+
+        ResponseUser response = userMapper.toResponse(userEntity);
+        assertThat(response.getEmail()).isEqualTo("user@example.com");
+        assertThat(response.getName()).isEqualTo("user");
+        assertThat(response.getUserId()).isEqualTo("user-id");
+        assertThat(response.getOrders()).isNull();
+
+        UserDto userDto = userMapper.toDto(userEntity);
+        assertThat(userDto.getEncryptedPwd()).isEqualTo("encrypted");
+        assertThat(userMapper.toResponse(userDto).getUserId()).isEqualTo("user-id");
+    }
+}
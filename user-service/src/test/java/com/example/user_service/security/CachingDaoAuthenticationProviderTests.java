@@ -0,0 +1,70 @@
+package com.example.user_service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingDaoAuthenticationProviderTests {
+    private final AtomicInteger bcryptChecks = new AtomicInteger();
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4) {
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            bcryptChecks.incrementAndGet();
+            return super.matches(rawPassword, encodedPassword);
+        }
+    };
+
+    private InMemoryUserDetailsManager users;
+    private CachingDaoAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        users = new InMemoryUserDetailsManager(
+                User.withUsername("user@example.com").password(passwordEncoder.encode("password1")).build());
+        provider = new CachingDaoAuthenticationProvider(users,
+                new VerifiedCredentialCache(new SimpleMeterRegistry(), 60_000, 100));
+        provider.setPasswordEncoder(passwordEncoder);
+    }
+
+    private static UsernamePasswordAuthenticationToken login(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("user@example.com", password);
+    }
+
+    @Test
+    void verifiesWithBCryptOnlyOnce() {
+        assertThat(provider.authenticate(login("password1")).isAuthenticated()).isTrue();
+        assertThat(provider.authenticate(login("password1")).isAuthenticated()).isTrue();
+        assertThat(provider.authenticate(login("password1")).isAuthenticated()).isTrue();
+
+        assertThat(bcryptChecks).hasValue(1);
+    }
+
+    @Test
+    void wrongPasswordIsStillRejectedAfterCaching() {
+        provider.authenticate(login("password1"));
+
+        assertThatThrownBy(() -> provider.authenticate(login("password2")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(bcryptChecks).hasValue(2);
+    }
+
+    @Test
+    void passwordChangeInvalidatesCachedCredential() {
+        provider.authenticate(login("password1"));
+        users.updateUser(User.withUsername("user@example.com").password(passwordEncoder.encode("password2")).build());
+
+        assertThatThrownBy(() -> provider.authenticate(login("password1")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(provider.authenticate(login("password2")).isAuthenticated()).isTrue();
+    }
+}
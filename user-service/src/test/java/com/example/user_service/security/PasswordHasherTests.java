@@ -0,0 +1,99 @@
+package com.example.user_service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void hashesWithConfiguredCost() {
+        PasswordHasher hasher = new PasswordHasher(meterRegistry, 1, 4, 0, 5, false, 0, 4, 4);
+
+        String hash = hasher.hash("password1");
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches("password1", hash)).isTrue();
+        assertThat(meterRegistry.get("user.password.hash").timer().count()).isEqualTo(1);
+        hasher.shutdown();
+    }
+
+    @Test
+    void adaptiveCostNeverGoesBelowMinimum() {
+        PasswordHasher hasher = new PasswordHasher(meterRegistry, 1, 4, 0, 10, true, 0, 6, 8);
+
+        assertThat(hasher.cost()).isEqualTo(6);
+        hasher.shutdown();
+    }
+
+    @Test
+    void rejectsWithTooManyRequestsWhenQueueIsFull() {
+        // 스레드 1개 + 대기 1개: 동시에 들어온 세 번째 요청부터 거절
+        PasswordHasher hasher = new PasswordHasher(meterRegistry, 1, 1, 0, 12, false, 0, 12, 12);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return hasher.hash("password1");
+            }, callers));
+        }
+        start.countDown();
+
+        long rejected = results.stream().filter(result -> {
+            try {
+                result.join();
+                return false;
+            } catch (CompletionException e) {
+                assertThat(e.getCause()).isInstanceOf(ResponseStatusException.class);
+                assertThat(((ResponseStatusException) e.getCause()).getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                return true;
+            }
+        }).count();
+
+        assertThat(rejected).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.get("user.password.hash.rejected").counter().count()).isEqualTo(rejected);
+        hasher.shutdown();
+        callers.shutdown();
+    }
+
+    @Test
+    void bulkHashingLeavesQueueRoomForSingleSignUps() throws Exception {
+        // 스레드 1개 + 대기 4개: 일괄 작업은 한 번에 하나만 풀에 들어가므로 단건 가입은 항상 대기 큐에 들어감
+        PasswordHasher hasher = new PasswordHasher(meterRegistry, 1, 4, 0, 8, false, 0, 8, 8);
+        List<String> passwords = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            passwords.add("bulk-password" + i);
+        }
+        CompletableFuture<List<String>> bulk = CompletableFuture.supplyAsync(() -> hasher.hashAll(passwords));
+
+        List<String> singles = new ArrayList<>();
+        while (!bulk.isDone()) {
+            singles.add(hasher.hash("password1"));
+        }
+
+        assertThat(bulk.get()).hasSize(8);
+        assertThat(new BCryptPasswordEncoder().matches("bulk-password7", bulk.get().get(7))).isTrue();
+        assertThat(singles).isNotEmpty();
+        assertThat(meterRegistry.get("user.password.hash.rejected").counter().count()).isZero();
+        hasher.shutdown();
+    }
+}